@@ -0,0 +1,57 @@
+package edu.eci.arsw.dogsrace.jmh;
+
+import edu.eci.arsw.dogsrace.domain.ArrivalRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * registerArrival throughput, alone and with every core registering at once.
+ * Every race is a registry pre-sized for {@link #RACE} runners; the runner that
+ * takes the last position swaps in a fresh one, so a registry holds one race
+ * (plus the few runners that read it just before the swap) whatever the
+ * iteration length.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ArrivalRegistryBench {
+
+    static final int RACE = 1024;
+
+    private final AtomicReference<ArrivalRegistry> race = new AtomicReference<>(new ArrivalRegistry(RACE));
+
+    private ArrivalRegistry.ArrivalSnapshot arrive() {
+        final ArrivalRegistry registry = race.get();
+        final ArrivalRegistry.ArrivalSnapshot snapshot = registry.registerArrival("0");
+        if (snapshot.position() == RACE) {
+            race.compareAndSet(registry, new ArrivalRegistry(RACE));
+        }
+        return snapshot;
+    }
+
+    @Benchmark
+    @Threads(1)
+    public ArrivalRegistry.ArrivalSnapshot registerArrivalSingle() {
+        return arrive();
+    }
+
+    @Benchmark
+    @Threads(Threads.MAX)
+    public ArrivalRegistry.ArrivalSnapshot registerArrivalContended() {
+        return arrive();
+    }
+}
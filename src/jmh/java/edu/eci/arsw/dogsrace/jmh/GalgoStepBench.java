@@ -0,0 +1,43 @@
+package edu.eci.arsw.dogsrace.jmh;
+
+import edu.eci.arsw.dogsrace.control.RaceControl;
+import edu.eci.arsw.dogsrace.domain.ArrivalRegistry;
+import edu.eci.arsw.dogsrace.domain.Lane;
+import edu.eci.arsw.dogsrace.threads.Galgo;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The whole Galgo step loop (pause check, lane update, arrival) with no sleep,
+ * run on the benchmark thread. Reported per step.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class GalgoStepBench {
+
+    private static final int STEPS = 10_000;
+
+    private final RaceControl control = new RaceControl();
+
+    @Benchmark
+    @OperationsPerInvocation(STEPS)
+    public Lane stepLoop() {
+        Lane lane = new Lane(STEPS, "0");
+        new Galgo(lane, "0", new ArrivalRegistry(), control, 0).run();
+        return lane;
+    }
+}
@@ -0,0 +1,60 @@
+package edu.eci.arsw.dogsrace.jmh;
+
+import edu.eci.arsw.dogsrace.control.RaceControl;
+import edu.eci.arsw.dogsrace.domain.ArrivalRegistry;
+import edu.eci.arsw.dogsrace.domain.Lane;
+import edu.eci.arsw.dogsrace.engine.TickRaceEngine;
+import edu.eci.arsw.dogsrace.threads.Galgo;
+import edu.eci.arsw.dogsrace.threads.RunnerMode;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Wall time of a whole headless race of N lanes with no step delay, for each
+ * engine / runner mode.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class RaceCompletionBench {
+
+    private static final int TRACK = 100;
+
+    @Param({"17", "1000", "10000"})
+    public int lanes;
+
+    @Param({"PLATFORM", "VIRTUAL", "TICK"})
+    public String engine;
+
+    @Benchmark
+    public int race() throws InterruptedException {
+        ArrivalRegistry registry = new ArrivalRegistry(lanes);
+        RaceControl control = new RaceControl();
+        if ("TICK".equals(engine)) {
+            new TickRaceEngine(lanes, TRACK, registry, control, 0).run();
+            return registry.getNextPosition();
+        }
+        RunnerMode mode = RunnerMode.valueOf(engine);
+        Thread[] runners = new Thread[lanes];
+        for (int i = 0; i < lanes; i++) {
+            runners[i] = mode.start(new Galgo(new Lane(TRACK, String.valueOf(i)), String.valueOf(i), registry, control, 0));
+        }
+        for (Thread runner : runners) {
+            runner.join();
+        }
+        return registry.getNextPosition();
+    }
+}
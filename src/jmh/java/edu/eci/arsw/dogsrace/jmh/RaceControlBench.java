@@ -0,0 +1,62 @@
+package edu.eci.arsw.dogsrace.jmh;
+
+import edu.eci.arsw.dogsrace.control.RaceControl;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Group;
+import org.openjdk.jmh.annotations.GroupThreads;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * awaitIfPaused while the race runs, and while another thread keeps flipping
+ * the pause flag. The flip resumes right after pausing, so the awaiting
+ * threads almost never park: that case measures the fast path with the
+ * flag's cache line bouncing, not a paused runner.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RaceControlBench {
+
+    @State(Scope.Benchmark)
+    public static class Running {
+        final RaceControl control = new RaceControl();
+    }
+
+    @State(Scope.Group)
+    public static class Flipped {
+        final RaceControl control = new RaceControl();
+    }
+
+    @Benchmark
+    @Threads(Threads.MAX)
+    public void unpaused(Running running) throws InterruptedException {
+        running.control.awaitIfPaused(0, 0);
+    }
+
+    @Benchmark
+    @Group("flagFlipping")
+    @GroupThreads(1)
+    public void flipPauseFlag(Flipped flipped) {
+        flipped.control.pause();
+        flipped.control.resume();
+    }
+
+    @Benchmark
+    @Group("flagFlipping")
+    @GroupThreads(3)
+    public void awaitWhileFlagFlips(Flipped flipped) throws InterruptedException {
+        flipped.control.awaitIfPaused(0, 0);
+    }
+}
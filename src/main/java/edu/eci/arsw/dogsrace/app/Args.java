@@ -0,0 +1,16 @@
+package edu.eci.arsw.dogsrace.app;
+
+/**
+ * Command-line parsing shared by the entry points of this package.
+ */
+final class Args {
+
+    private Args() { }
+
+    /**
+     * The integer at {@code index}, or {@code defaultValue} when there are fewer arguments.
+     */
+    static int intArg(String[] args, int index, int defaultValue) {
+        return args.length > index ? Integer.parseInt(args[index]) : defaultValue;
+    }
+}
@@ -1,78 +1,187 @@
 package edu.eci.arsw.dogsrace.app;
 
-import edu.eci.arsw.dogsrace.control.RaceControl;
+import edu.eci.arsw.dogsrace.control.RaceListener;
 import edu.eci.arsw.dogsrace.domain.ArrivalRegistry;
+import edu.eci.arsw.dogsrace.domain.LaneModel;
+import edu.eci.arsw.dogsrace.domain.Leaderboard;
+import edu.eci.arsw.dogsrace.engine.EngineMode;
+import edu.eci.arsw.dogsrace.engine.RaceSession;
+import edu.eci.arsw.dogsrace.journal.RaceJournal;
+import edu.eci.arsw.dogsrace.log.RaceLog;
+import edu.eci.arsw.dogsrace.metrics.RaceMetrics;
 import edu.eci.arsw.dogsrace.threads.Galgo;
+import edu.eci.arsw.dogsrace.threads.RunnerMode;
 import edu.eci.arsw.dogsrace.ui.Canodromo;
+import edu.eci.arsw.dogsrace.util.RaceRandom;
 
 import javax.swing.JButton;
+import javax.swing.SwingUtilities;
 import java.awt.event.ActionEvent;
 import java.awt.event.ActionListener;
+import java.io.IOException;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.Flow;
 
 /**
  * Entry point (UI + orchestration).
  *
- * NOTE: the start action runs in a separate thread so the Swing UI thread is not blocked.
+ * NOTE: races run on a {@link RaceSession} whose runner threads are started once, with
+ * the window; Start hands the next race to them and returns at once, so the Swing UI
+ * thread is not blocked. Arrivals are streamed from the race's {@code ArrivalRegistry} to the
+ * UI thread: the winner is announced as soon as it crosses the line, and the results when the
+ * last runner does.
+ * Start is enabled again after every race: each one begins from the starting line with
+ * a fresh registry and control. Abort stops every runner of the race in progress (paused or
+ * not) and prints how long the teardown took.
+ * The engine (-Ddogsrace.engine=threads|lockstep|tick) and, for runner threads, the runner
+ * mode (-Ddogsrace.runner=platform|virtual) are read at startup. The tick engine
+ * is seeded from -Ddogsrace.seed (printed after each race, to replay it).
+ * With -Ddogsrace.journal=file every event of the first race is recorded there.
+ * The five leading lanes are shown above the track while the race runs (see {@link Leaderboard}).
+ * Step, pause-wait, arrival, time-to-first-step and start-skew latencies are printed on
+ * every pause and at the end; the runners leave the line together through a starting gate.
+ * Messages go through {@link RaceLog} (to -Ddogsrace.log=file instead of the console if set),
+ * so neither the runners nor the UI thread wait on console output.
+ * Optional arguments: lanes and track length (17 x 100 by default). For a race without
+ * a display use {@link MainRace}.
  */
 public final class MainCanodromo {
 
-    private static Galgo[] galgos;
     private static Canodromo can;
+    private static RaceSession session;
 
-    private static final ArrivalRegistry registry = new ArrivalRegistry();
-    private static final RaceControl control = new RaceControl();
+    private static final RaceJournal journal = openJournal();
+    /**
+     * Whether the journal already holds a race (only used on the EDT)
+     */
+    private static boolean journalUsed = false;
 
     public static void main(String[] args) {
-        can = new Canodromo(17, 100);
-        galgos = new Galgo[can.getNumCarriles()];
+        final EngineMode engine = EngineMode.fromSystemProperties();
+        final RunnerMode mode = RunnerMode.fromSystemProperties();
+        can = new Canodromo(Args.intArg(args, 0, 17), Args.intArg(args, 1, 100));
+        LaneModel[] carriles = new LaneModel[can.getNumCarriles()];
+        for (int i = 0; i < carriles.length; i++) {
+            carriles[i] = can.getCarril(i);
+        }
+        session = new RaceSession(carriles, engine, mode, Galgo.DEFAULT_STEP_DELAY_MILLIS,
+                RaceRandom.fromSystemProperties());
         can.setVisible(true);
 
         can.setStartAction(new ActionListener() {
             @Override
             public void actionPerformed(final ActionEvent e) {
-                ((JButton) e.getSource()).setEnabled(false);
+                final JButton start = (JButton) e.getSource();
+                start.setEnabled(false);
 
-                new Thread(() -> {
-                    // 1) create and start all runners
-                    for (int i = 0; i < can.getNumCarriles(); i++) {
-                        galgos[i] = new Galgo(can.getCarril(i), String.valueOf(i), registry, control);
-                        galgos[i].start();
+                RaceListener listener = RaceListener.NONE;
+                if (journal != null && !journalUsed) {
+                    listener = journal;
+                    journalUsed = true;
+                }
+                final boolean recorded = listener == journal;
+                Leaderboard leaders = new Leaderboard(can.getNumCarriles());
+                can.showLeaders(leaders);
+                listener = RaceListener.all(listener, leaders);
+                session.start(listener).whenCompleteAsync((result, failure) -> {
+                    if (recorded) {
+                        closeJournal();
                     }
-
-                    // 2) wait for all threads (join)
-                    for (Galgo g : galgos) {
-                        try {
-                            g.join();
-                        } catch (InterruptedException ex) {
-                            Thread.currentThread().interrupt();
-                            return;
-                        }
+                    start.setEnabled(true);
+                    if (failure instanceof CancellationException) {
+                        RaceLog.shared().logf("Carrera abortada, corredores detenidos en %.1f ms",
+                                session.getTeardownNanos() / 1e6);
+                    } else if (failure != null) {
+                        RaceLog.shared().log("La carrera fallo: " + failure);
+                    } else {
+                        RaceLog.shared().log("Semilla de la carrera: " + result.config().seed());
                     }
-
-                    // 3) show results ONLY after all threads finished
-                    String winner = registry.getWinner();
-                    int total = registry.getNextPosition() - 1;
-
-                    can.winnerDialog(winner, total);
-                    System.out.println("El ganador fue: " + winner);
-                }, "race-orchestrator").start();
+                }, SwingUtilities::invokeLater);
+                // each finisher is shown as it arrives, on the EDT; the summary when the last one does
+                session.arrivals().subscribe(new ArrivalsView(), SwingUtilities::invokeLater);
             }
         });
 
         can.setStopAction(new ActionListener() {
             @Override
             public void actionPerformed(ActionEvent e) {
-                control.pause();
-                System.out.println("Carrera pausada!");
+                session.pause();
+                RaceLog.shared().log("Carrera pausada!");
+                RaceLog.shared().log(RaceMetrics.report());
             }
         });
 
         can.setContinueAction(new ActionListener() {
             @Override
             public void actionPerformed(ActionEvent e) {
-                control.resume();
-                System.out.println("Carrera reanudada!");
+                session.resume();
+                RaceLog.shared().log("Carrera reanudada!");
+            }
+        });
+
+        can.setAbortAction(new ActionListener() {
+            @Override
+            public void actionPerformed(ActionEvent e) {
+                // Start comes back once every runner has stopped
+                session.abort();
             }
         });
     }
+
+    /**
+     * Announces the winner as soon as it crosses the line and the results when the race ends.
+     */
+    private static final class ArrivalsView implements Flow.Subscriber<ArrivalRegistry.Arrival> {
+
+        private String winner;
+        private int total = 0;
+
+        @Override
+        public void onSubscribe(Flow.Subscription subscription) {
+            subscription.request(Long.MAX_VALUE);
+        }
+
+        @Override
+        public void onNext(ArrivalRegistry.Arrival arrival) {
+            total++;
+            if (arrival.position() == 1) {
+                winner = arrival.dogName();
+                RaceLog.shared().log("El ganador fue: " + winner);
+            }
+        }
+
+        @Override
+        public void onError(Throwable failure) {
+            RaceLog.shared().log("Carrera interrumpida tras " + total + " llegadas");
+        }
+
+        @Override
+        public void onComplete() {
+            RaceLog.shared().log(RaceMetrics.report());
+            RaceLog.shared().logf("Carrera %d, primer paso a los %.1f ms", session.getRaces(),
+                    session.getTimeToFirstStepNanos() / 1e6);
+            can.winnerDialog(winner, total);
+        }
+    }
+
+    private static RaceJournal openJournal() {
+        try {
+            return RaceJournal.fromSystemProperties();
+        } catch (IOException e) {
+            RaceLog.shared().log("No se pudo abrir el journal: " + e.getMessage());
+            return null;
+        }
+    }
+
+    private static void closeJournal() {
+        if (journal == null) {
+            return;
+        }
+        try {
+            journal.close();
+            RaceLog.shared().log("Journal: " + journal.size() + " eventos en " + System.getProperty(RaceJournal.PROPERTY));
+        } catch (IOException e) {
+            RaceLog.shared().log("No se pudo cerrar el journal: " + e.getMessage());
+        }
+    }
 }
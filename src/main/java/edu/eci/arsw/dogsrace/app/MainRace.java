@@ -0,0 +1,61 @@
+package edu.eci.arsw.dogsrace.app;
+
+import edu.eci.arsw.dogsrace.control.RaceListener;
+import edu.eci.arsw.dogsrace.domain.ArrivalRegistry;
+import edu.eci.arsw.dogsrace.engine.EngineMode;
+import edu.eci.arsw.dogsrace.engine.RaceRunner;
+import edu.eci.arsw.dogsrace.journal.RaceJournal;
+import edu.eci.arsw.dogsrace.metrics.RaceMetrics;
+import edu.eci.arsw.dogsrace.threads.RunnerMode;
+import edu.eci.arsw.dogsrace.util.RaceRandom;
+
+import java.io.IOException;
+import java.util.Locale;
+
+/**
+ * Headless entry point: runs one race with {@link RaceRunner} and prints the arrivals.
+ *
+ * Arguments (all optional): lanes, track length, step delay in ms, engine (threads|lockstep|tick), seed.
+ * Defaults are 17 lanes x 100 steps with no delay, the engine from -Ddogsrace.engine and the
+ * seed from -Ddogsrace.seed or at random; the runner mode comes from -Ddogsrace.runner.
+ * With -Ddogsrace.journal=file every event of the race is recorded there. With runner
+ * threads (threads and lockstep engines) the start skew of the runners is printed at the end.
+ *
+ * Nothing here loads AWT, so it runs where there is no display.
+ */
+public final class MainRace {
+
+    private MainRace() { }
+
+    public static void main(String[] args) throws InterruptedException, IOException {
+        final int lanes = Args.intArg(args, 0, 17);
+        final int track = Args.intArg(args, 1, 100);
+        final long delay = args.length > 2 ? Long.parseLong(args[2]) : 0;
+        final EngineMode engine = args.length > 3 ? EngineMode.parse(args[3]) : EngineMode.fromSystemProperties();
+        final long seed = args.length > 4 ? Long.parseLong(args[4]) : RaceRandom.fromSystemProperties().seed();
+        final RaceRunner.Config config =
+                new RaceRunner.Config(lanes, track, delay, engine, RunnerMode.fromSystemProperties(), seed);
+
+        final RaceJournal journal = RaceJournal.fromSystemProperties();
+        final RaceRunner.Result result;
+        try {
+            result = new RaceRunner(journal == null ? RaceListener.NONE : journal).run(config);
+        } finally {
+            if (journal != null) {
+                journal.close();
+            }
+        }
+
+        System.out.printf("Carrera de %d carriles x %d pasos (motor %s, semilla %d) en %d ms%n",
+                lanes, track, engine.name().toLowerCase(Locale.ROOT), seed, result.elapsedNanos() / 1_000_000);
+        System.out.printf("%8s %6s%n", "posicion", "carril");
+        for (ArrivalRegistry.Arrival arrival : result.arrivals()) {
+            System.out.printf("%8d %6s%n", arrival.position(), arrival.dogName());
+        }
+        System.out.println("El ganador fue: " + result.winner());
+        if (engine != EngineMode.TICK && RaceMetrics.ENABLED) {
+            // how late after the gate opened each runner took off
+            System.out.println(RaceMetrics.START_SKEW.snapshot());
+        }
+    }
+}
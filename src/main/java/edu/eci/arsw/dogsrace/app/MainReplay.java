@@ -0,0 +1,93 @@
+package edu.eci.arsw.dogsrace.app;
+
+import edu.eci.arsw.dogsrace.domain.LaneModel;
+import edu.eci.arsw.dogsrace.journal.JournalReader;
+import edu.eci.arsw.dogsrace.journal.ReplayPlayer;
+import edu.eci.arsw.dogsrace.ui.Canodromo;
+
+import javax.swing.JComboBox;
+import javax.swing.JSlider;
+import javax.swing.SwingUtilities;
+import javax.swing.Timer;
+import java.io.IOException;
+import java.nio.file.Path;
+
+/**
+ * Entry point that replays a race recorded with -Ddogsrace.journal.
+ *
+ * Arguments: journal file, optional speed (default 1; "max" plays without waiting).
+ * Start/Continue play from the current instant, Stop pauses the replay, the
+ * slider jumps to any instant and the combo box changes the speed while playing.
+ */
+public final class MainReplay {
+
+    private static final String[] SPEEDS = {"0.1", "0.5", "1", "2", "5", "10", "max"};
+    private static final int SLIDER_STEPS = 1000;
+
+    private MainReplay() { }
+
+    public static void main(String[] args) throws IOException {
+        if (args.length == 0) {
+            System.err.println("Uso: MainReplay <journal> [velocidad]");
+            System.exit(2);
+        }
+        final JournalReader reader = JournalReader.open(Path.of(args[0]));
+        final ReplayPlayer player = new ReplayPlayer(reader);
+        player.setSpeed(speed(args.length > 1 ? args[1] : "1"));
+        System.out.printf("%d eventos, %d carriles x %d pasos, %d ms, %d keyframes%n", player.getRecords(),
+                player.getLanes(), player.getTrackLength(), player.getDuration() / 1_000_000, player.getKeyframes());
+
+        final Canodromo can = new Canodromo(player.newLanes());
+        can.setTitle("Canodromo - " + args[0]);
+        LaneModel[] carriles = new LaneModel[can.getNumCarriles()];
+        for (int i = 0; i < carriles.length; i++) {
+            carriles[i] = can.getCarril(i);
+        }
+        player.attach(carriles);
+
+        final JSlider slider = new JSlider(0, SLIDER_STEPS, 0);
+        final boolean[] updating = {false};
+        slider.addChangeListener(e -> {
+            if (!updating[0]) {
+                player.seek(player.getDuration() * slider.getValue() / SLIDER_STEPS);
+            }
+        });
+        final JComboBox<String> speeds = new JComboBox<>(SPEEDS);
+        speeds.setSelectedItem(args.length > 1 ? args[1] : "1");
+        speeds.addActionListener(e -> player.setSpeed(speed((String) speeds.getSelectedItem())));
+        can.addControl(speeds);
+        can.addControl(slider);
+
+        // keep the slider on the replay clock without triggering a seek
+        new Timer(100, e -> {
+            long duration = Math.max(1, player.getDuration());
+            updating[0] = true;
+            slider.setValue((int) (player.getTime() * SLIDER_STEPS / duration));
+            updating[0] = false;
+        }).start();
+
+        can.setStartAction(e -> play(player, can));
+        can.setContinueAction(e -> play(player, can));
+        can.setStopAction(e -> player.stop());
+        can.setVisible(true);
+    }
+
+    private static void play(ReplayPlayer player, Canodromo can) {
+        if (player.isPlaying()) {
+            return;
+        }
+        new Thread(() -> {
+            try {
+                if (player.play() && player.getWinner() >= 0) {
+                    SwingUtilities.invokeLater(() -> can.winnerDialog(String.valueOf(player.getWinner()), player.getLanes()));
+                }
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+            }
+        }, "replay").start();
+    }
+
+    private static double speed(String text) {
+        return "max".equalsIgnoreCase(text) ? ReplayPlayer.MAX_SPEED : Double.parseDouble(text);
+    }
+}
@@ -0,0 +1,56 @@
+package edu.eci.arsw.dogsrace.app;
+
+import edu.eci.arsw.dogsrace.domain.Lane;
+import edu.eci.arsw.dogsrace.domain.LaneModel;
+import edu.eci.arsw.dogsrace.engine.EngineMode;
+import edu.eci.arsw.dogsrace.engine.RaceRunner;
+import edu.eci.arsw.dogsrace.engine.RaceSession;
+import edu.eci.arsw.dogsrace.log.RaceLog;
+import edu.eci.arsw.dogsrace.spectator.SpectatorServer;
+import edu.eci.arsw.dogsrace.threads.RunnerMode;
+import edu.eci.arsw.dogsrace.util.RaceRandom;
+
+import java.io.IOException;
+
+/**
+ * Headless entry point: runs races one after another and streams them to browsers
+ * through a {@link SpectatorServer}.
+ *
+ * Arguments (all optional): port, lanes, track length, step delay in ms, races.
+ * Defaults are port 8080, 17 lanes x 100 steps, 100 ms per step and races until
+ * the process is stopped (races = 0). Engine, runner mode and seed come from
+ * -Ddogsrace.engine, -Ddogsrace.runner and -Ddogsrace.seed as in {@link MainRace}.
+ * Messages go through {@link RaceLog}, in order with the runners' arrivals.
+ */
+public final class MainSpectator {
+
+    /** Time the finished race stays on screen before the next one starts. */
+    private static final long BETWEEN_RACES_MILLIS = 3_000;
+
+    private MainSpectator() { }
+
+    public static void main(String[] args) throws InterruptedException, IOException {
+        final int port = Args.intArg(args, 0, 8080);
+        final int lanes = Args.intArg(args, 1, 17);
+        final int track = Args.intArg(args, 2, 100);
+        final long delay = args.length > 3 ? Long.parseLong(args[3]) : 100;
+        final int races = Args.intArg(args, 4, 0);
+
+        final LaneModel[] carriles = new LaneModel[lanes];
+        for (int i = 0; i < lanes; i++) {
+            carriles[i] = new Lane(track, String.valueOf(i));
+        }
+        try (SpectatorServer server = SpectatorServer.start(port, lanes, track);
+             RaceSession session = new RaceSession(carriles, EngineMode.fromSystemProperties(),
+                     RunnerMode.fromSystemProperties(), delay, RaceRandom.fromSystemProperties())) {
+            RaceLog.shared().logf("Carreras en http://localhost:%d/", server.getPort());
+            for (int race = 1; races == 0 || race <= races; race++) {
+                server.newRace();
+                RaceRunner.Result result = session.run(server);
+                RaceLog.shared().logf("Carrera %d: ganador %s, %d espectadores", race, result.winner(),
+                        server.getClients());
+                Thread.sleep(BETWEEN_RACES_MILLIS);
+            }
+        }
+    }
+}
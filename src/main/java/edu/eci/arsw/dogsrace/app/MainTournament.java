@@ -0,0 +1,34 @@
+package edu.eci.arsw.dogsrace.app;
+
+import edu.eci.arsw.dogsrace.engine.TournamentEngine;
+import edu.eci.arsw.dogsrace.util.RaceRandom;
+
+/**
+ * Headless entry point: runs a batch of races and prints the standings.
+ *
+ * Arguments (all optional): races, lanes, track length, worker threads, seed.
+ * Defaults are 10 000 races of 17 lanes x 100 steps on every core, seeded
+ * from -Ddogsrace.seed or at random.
+ */
+public final class MainTournament {
+
+    private MainTournament() { }
+
+    public static void main(String[] args) throws InterruptedException {
+        final int races = Args.intArg(args, 0, 10_000);
+        final int lanes = Args.intArg(args, 1, 17);
+        final int track = Args.intArg(args, 2, 100);
+        final int threads = Args.intArg(args, 3, Runtime.getRuntime().availableProcessors());
+        final long seed = args.length > 4 ? Long.parseLong(args[4]) : RaceRandom.fromSystemProperties().seed();
+
+        TournamentEngine.Result result = new TournamentEngine(lanes, track, threads).run(races, seed);
+
+        System.out.printf("%d carreras de %d carriles x %d pasos con %d hilos en %d ms (%.0f carreras/s), semilla %d%n",
+                races, lanes, track, threads, result.elapsedNanos() / 1_000_000, result.racesPerSecond(), seed);
+        System.out.printf("%6s %10s %8s %10s %10s%n", "carril", "victorias", "%", "podios", "pos. media");
+        for (int lane = 0; lane < lanes; lane++) {
+            System.out.printf("%6d %10d %8.2f %10d %10.2f%n", lane, result.wins()[lane],
+                    100 * result.winShare(lane), result.podiums()[lane], result.averagePosition(lane));
+        }
+    }
+}
@@ -0,0 +1,95 @@
+package edu.eci.arsw.dogsrace.control;
+
+import java.util.Arrays;
+import java.util.concurrent.Phaser;
+
+/**
+ * Makes the runners of a race step in rounds: no runner takes step k until
+ * every runner still in the race has taken step k-1.
+ *
+ * Each runner arrives at the end of every step ({@link #awaitRound}) and
+ * leaves for good when it crosses the line or stops ({@link #leave}), so
+ * finished runners never hold a round back. The rounds are a
+ * {@link PhaserTree}: a runner waits on its leaf, a leaf reaches the root once
+ * its runners have all arrived, and leaves whose runners are all gone drop
+ * out of the root; the root advances once per round and terminates when the
+ * last runner leaves. Like the starting gate, every runner needs a thread of
+ * its own.
+ */
+public final class LockstepRounds {
+
+    private final Phaser root;
+    private final Phaser[] leaves;
+    /** Phase a runner arrived at and is still waiting on, or -1; each slot written by its runner only. */
+    private final int[] waiting;
+
+    /**
+     * @param runners number of runners, lanes {@code 0..runners-1}
+     */
+    public LockstepRounds(int runners) {
+        if (runners <= 0) {
+            throw new IllegalArgumentException("runners must be > 0");
+        }
+        root = new Phaser() {
+            @Override
+            protected boolean onAdvance(int phase, int registeredParties) {
+                return registeredParties == 0;
+            }
+        };
+        leaves = PhaserTree.leaves(root, runners);
+        waiting = new int[runners];
+        Arrays.fill(waiting, -1);
+    }
+
+    /**
+     * Called by runner {@code lane} after each step it did not finish on: waits for the rest of
+     * the runners to take that step. Returns at once if the rounds were aborted.
+     */
+    public void awaitRound(int lane) throws InterruptedException {
+        final Phaser leaf = leafOf(lane);
+        final int phase = leaf.arrive();
+        waiting[lane] = phase;
+        leaf.awaitAdvanceInterruptibly(phase);
+        waiting[lane] = -1;
+    }
+
+    /**
+     * Called once by runner {@code lane} when it is done, finished or not: later rounds no longer wait for it.
+     */
+    public void leave(int lane) {
+        final Phaser leaf = leafOf(lane);
+        final int phase = waiting[lane];
+        if (phase >= 0) {
+            // interrupted while waiting: its arrival for that round already counts, so leave in the next one
+            leaf.awaitAdvance(phase);
+            waiting[lane] = -1;
+        }
+        leaf.arriveAndDeregister();
+    }
+
+    /**
+     * Releases every waiting runner and stops holding anyone back (used when the race is aborted).
+     */
+    public void abort() {
+        root.forceTermination();
+    }
+
+    /**
+     * Rounds completed so far.
+     */
+    public int getRounds() {
+        // a terminated phaser reports its phase with the sign bit set
+        return root.getPhase() & Integer.MAX_VALUE;
+    }
+
+    public boolean isDone() {
+        return root.isTerminated();
+    }
+
+    private Phaser leafOf(int lane) {
+        if (lane < 0 || lane >= waiting.length) {
+            throw new IllegalArgumentException("lane must be in [0, runners)");
+        }
+        return PhaserTree.leafOf(leaves, lane);
+    }
+}
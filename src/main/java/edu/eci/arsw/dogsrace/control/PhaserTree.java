@@ -0,0 +1,36 @@
+package edu.eci.arsw.dogsrace.control;
+
+import java.util.concurrent.Phaser;
+
+/**
+ * Splits many parties over leaf {@link Phaser}s under one root.
+ *
+ * A phaser takes at most 65 535 parties, and every arrival on one phaser
+ * updates the same state word. Party i goes to leaf {@code i / TIER}; a leaf
+ * arrives at the root once all of its parties have, and deregisters from it
+ * when it has none left.
+ */
+final class PhaserTree {
+
+    /**
+     * Parties per leaf.
+     */
+    static final int TIER = 256;
+
+    private PhaserTree() { }
+
+    /**
+     * Leaves under {@code root} for {@code parties} parties, registered with it.
+     */
+    static Phaser[] leaves(Phaser root, int parties) {
+        final Phaser[] leaves = new Phaser[(parties + TIER - 1) / TIER];
+        for (int i = 0; i < leaves.length; i++) {
+            leaves[i] = new Phaser(root, Math.min(TIER, parties - i * TIER));
+        }
+        return leaves;
+    }
+
+    static Phaser leafOf(Phaser[] leaves, int party) {
+        return leaves[party / TIER];
+    }
+}
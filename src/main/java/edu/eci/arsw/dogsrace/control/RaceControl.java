@@ -1,42 +1,229 @@
 package edu.eci.arsw.dogsrace.control;
 
+import edu.eci.arsw.dogsrace.jfr.PauseEvent;
+import edu.eci.arsw.dogsrace.jfr.PauseWaitEvent;
+import edu.eci.arsw.dogsrace.jfr.ResumeEvent;
+import edu.eci.arsw.dogsrace.metrics.RaceMetrics;
+
+import java.util.Objects;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.locks.ReentrantLock;
+
 /**
- * Common monitor to pause/resume all runners.
+ * Common gate to pause/resume all runners.
+ *
+ * While the race runs, {@link #awaitIfPaused(int, int)} is a single volatile read.
+ * Pausing installs a closed gate (a {@link CountDownLatch}); runners that find
+ * it park on it, and resuming opens it. The latch releases waiters one after
+ * another instead of making all of them fight for one monitor, and parked
+ * virtual threads never pin their carrier. The lock only orders pause/resume
+ * calls against each other; runners never take it.
+ *
+ * {@link #abort()} installs a gate that is never closed again: the next check
+ * of every runner, parked or not, throws {@link InterruptedException}, so a
+ * runner with no step delay (which never sleeps) also stops within one step.
  *
- * Uses wait()/notifyAll() as requested by the lab.
+ * The control also carries the {@link RaceListener} of its race: it reports
+ * pauses and resumes itself, and runners report their steps and arrivals to it.
+ * It may carry a {@link StartingGate} too, which runners pass through before
+ * their first step ({@link #awaitStart}), and {@link LockstepRounds}, which
+ * they arrive at after every step ({@link #awaitRound}); aborting the race
+ * releases both.
+ * With Flight Recorder on, each pause is a {@link PauseEvent}, each resume a
+ * {@link ResumeEvent} and each runner's wait a {@link PauseWaitEvent}.
  */
 public final class RaceControl {
 
-    private final Object monitor = new Object();
-    private boolean paused = false;
+    /** Gate of an aborted race; open, so it never parks anyone. */
+    private static final CountDownLatch ABORTED = new CountDownLatch(0);
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private volatile CountDownLatch gate = null;
+    private final RaceListener listener;
+    private final StartingGate startingGate;
+    private final LockstepRounds rounds;
+    /** Open while paused and recording; guarded by lock. */
+    private PauseEvent pauseEvent = null;
+
+    public RaceControl() {
+        this(RaceListener.NONE);
+    }
+
+    public RaceControl(RaceListener listener) {
+        this(listener, null);
+    }
+
+    /**
+     * @param startingGate gate the runners wait at before their first step, or null to start them as they come
+     */
+    public RaceControl(RaceListener listener, StartingGate startingGate) {
+        this(listener, startingGate, null);
+    }
+
+    /**
+     * @param startingGate gate the runners wait at before their first step, or null
+     * @param rounds       rounds the runners step in, or null to let each one run free
+     */
+    public RaceControl(RaceListener listener, StartingGate startingGate, LockstepRounds rounds) {
+        this.listener = Objects.requireNonNull(listener, "listener");
+        this.startingGate = startingGate;
+        this.rounds = rounds;
+    }
+
+    public RaceListener listener() {
+        return listener;
+    }
+
+    /**
+     * Gate of this race, or null if its runners start as soon as they run.
+     */
+    public StartingGate startingGate() {
+        return startingGate;
+    }
+
+    /**
+     * Called by runner {@code lane} before its first step: waits at the starting gate, if there is one.
+     */
+    public void awaitStart(int lane) throws InterruptedException {
+        if (startingGate != null) {
+            startingGate.await(lane);
+        }
+    }
+
+    /**
+     * Rounds of this race, or null if its runners run free.
+     */
+    public LockstepRounds rounds() {
+        return rounds;
+    }
+
+    /**
+     * Called by runner {@code lane} after a step it did not finish on: in lockstep, waits for the
+     * other runners to take that step too.
+     */
+    public void awaitRound(int lane) throws InterruptedException {
+        if (rounds != null) {
+            rounds.awaitRound(lane);
+        }
+    }
+
+    /**
+     * Called once by runner {@code lane} when it stops running, finished or not.
+     */
+    public void leaveRounds(int lane) {
+        if (rounds != null) {
+            rounds.leave(lane);
+        }
+    }
 
     public void pause() {
-        synchronized (monitor) {
-            paused = true;
+        lock.lock();
+        try {
+            if (gate == null) {
+                gate = new CountDownLatch(1);
+                PauseEvent event = new PauseEvent();
+                if (event.isEnabled()) {
+                    event.begin();
+                    pauseEvent = event;
+                }
+                listener.onPause();
+            }
+        } finally {
+            lock.unlock();
         }
     }
 
     public void resume() {
-        synchronized (monitor) {
-            paused = false;
-            monitor.notifyAll();
+        lock.lock();
+        try {
+            CountDownLatch closed = gate;
+            if (closed == ABORTED) {
+                return;
+            }
+            gate = null;
+            if (closed != null) {
+                ResumeEvent event = new ResumeEvent();
+                event.begin();
+                closed.countDown();
+                event.commit();
+                if (pauseEvent != null) {
+                    pauseEvent.commit();
+                    pauseEvent = null;
+                }
+                listener.onResume();
+            }
+        } finally {
+            lock.unlock();
         }
     }
 
-    public boolean isPaused() {
-        synchronized (monitor) {
-            return paused;
+    /**
+     * Stops the race for good: paused runners wake up and every runner's next
+     * {@link #awaitIfPaused(int, int)} throws. Pause and resume do nothing afterwards.
+     */
+    public void abort() {
+        lock.lock();
+        try {
+            CountDownLatch closed = gate;
+            gate = ABORTED;
+            if (closed != null) {
+                closed.countDown();
+            }
+            if (pauseEvent != null) {
+                pauseEvent.commit();
+                pauseEvent = null;
+            }
+        } finally {
+            lock.unlock();
+        }
+        if (startingGate != null) {
+            startingGate.abort();
+        }
+        if (rounds != null) {
+            rounds.abort();
         }
     }
 
+    public boolean isPaused() {
+        CountDownLatch closed = gate;
+        return closed != null && closed != ABORTED;
+    }
+
+    public boolean isAborted() {
+        return gate == ABORTED;
+    }
+
     /**
      * Call frequently from the running threads to honor pause/resume.
+     * Time spent parked goes to {@link RaceMetrics#PAUSE_WAIT} and to a {@link PauseWaitEvent}.
+     *
+     * @param lane lane of the caller, or -1 for an engine that pauses every lane at once
+     * @param position steps the lane has taken (for such an engine, the current tick)
+     * @throws InterruptedException if the race was aborted, or the thread interrupted while paused
      */
-    public void awaitIfPaused() throws InterruptedException {
-        synchronized (monitor) {
-            while (paused) {
-                monitor.wait();
-            }
+    public void awaitIfPaused(int lane, int position) throws InterruptedException {
+        CountDownLatch closed = gate;
+        if (closed == null) {
+            return;
+        }
+        if (closed == ABORTED) {
+            throw new InterruptedException("race aborted");
+        }
+        final long start = RaceMetrics.start();
+        final PauseWaitEvent event = new PauseWaitEvent();
+        event.begin();
+        // re-check after waking: the race may have been paused again meanwhile
+        do {
+            closed.await();
+        } while ((closed = gate) != null && closed != ABORTED);
+        RaceMetrics.record(RaceMetrics.PAUSE_WAIT, start);
+        if (event.shouldCommit()) {
+            event.lane = lane;
+            event.position = position;
+            event.commit();
+        }
+        if (closed == ABORTED) {
+            throw new InterruptedException("race aborted");
         }
     }
 }
@@ -0,0 +1,80 @@
+package edu.eci.arsw.dogsrace.control;
+
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * Receives the events of one race: steps, pauses, resumes and arrivals.
+ *
+ * Steps and arrivals are reported by the runner (or engine) thread that
+ * produced them, right after the lane was updated, so implementations must be
+ * thread-safe and must not block: they run on the race's hot path.
+ * {@link RaceControl} carries the listener of its race.
+ */
+public interface RaceListener {
+
+    /**
+     * Listener that ignores every event.
+     */
+    RaceListener NONE = new RaceListener() { };
+
+    /**
+     * The runner in {@code lane} has taken {@code position} steps.
+     */
+    default void onStep(int lane, int position) { }
+
+    default void onPause() { }
+
+    default void onResume() { }
+
+    /**
+     * The runner in {@code lane} crossed the line in finishing {@code position} (1-based).
+     */
+    default void onArrival(int lane, int position) { }
+
+    /**
+     * Listener that reports every event to each of {@code listeners}, in order.
+     * {@link #NONE} entries are dropped; with one listener left it is returned as is.
+     */
+    static RaceListener all(RaceListener... listeners) {
+        final RaceListener[] targets = Arrays.stream(listeners)
+                .map(listener -> Objects.requireNonNull(listener, "listener"))
+                .filter(listener -> listener != NONE)
+                .toArray(RaceListener[]::new);
+        if (targets.length == 0) {
+            return NONE;
+        }
+        if (targets.length == 1) {
+            return targets[0];
+        }
+        return new RaceListener() {
+            @Override
+            public void onStep(int lane, int position) {
+                for (RaceListener target : targets) {
+                    target.onStep(lane, position);
+                }
+            }
+
+            @Override
+            public void onPause() {
+                for (RaceListener target : targets) {
+                    target.onPause();
+                }
+            }
+
+            @Override
+            public void onResume() {
+                for (RaceListener target : targets) {
+                    target.onResume();
+                }
+            }
+
+            @Override
+            public void onArrival(int lane, int position) {
+                for (RaceListener target : targets) {
+                    target.onArrival(lane, position);
+                }
+            }
+        };
+    }
+}
@@ -0,0 +1,103 @@
+package edu.eci.arsw.dogsrace.control;
+
+import edu.eci.arsw.dogsrace.metrics.LatencyHistogram;
+import edu.eci.arsw.dogsrace.metrics.RaceMetrics;
+
+import java.util.concurrent.Phaser;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Holds every runner of a race at the line and lets them all go at once.
+ *
+ * Each runner waits at the gate before its first step; the gate opens when
+ * every runner has reached it and the starter has called {@link #open()}, so
+ * no lane gets a head start from being handed to its thread earlier than the
+ * others. The gate is a {@link PhaserTree}: runners wait on the leaves, and
+ * the leaves and the starter are the parties of the root. Every runner needs
+ * a thread of its own: on a pool smaller than the race the gate would never
+ * open.
+ *
+ * The start skew of a runner is the time from the gate opening (the last
+ * arrival at the root) to that runner getting past it. It goes to this gate's
+ * histogram ({@link #skew()}) and to {@link RaceMetrics#START_SKEW}.
+ */
+public final class StartingGate {
+
+    private final int runners;
+    private final Phaser root;
+    private final Phaser[] leaves;
+    private final AtomicBoolean started = new AtomicBoolean();
+    private final LatencyHistogram skew = new LatencyHistogram("start-skew");
+    private volatile long openNanos = 0;
+
+    /**
+     * @param runners number of runners that will wait at the gate, lanes {@code 0..runners-1}
+     */
+    public StartingGate(int runners) {
+        if (runners <= 0) {
+            throw new IllegalArgumentException("runners must be > 0");
+        }
+        this.runners = runners;
+        // the starter is the one party of the root that is not a leaf
+        root = new Phaser(1) {
+            @Override
+            protected boolean onAdvance(int phase, int registeredParties) {
+                openNanos = System.nanoTime();
+                return true;
+            }
+        };
+        leaves = PhaserTree.leaves(root, runners);
+    }
+
+    /**
+     * Called by runner {@code lane} before its first step: waits until the gate opens.
+     * Returns at once if the gate was aborted.
+     */
+    public void await(int lane) throws InterruptedException {
+        if (lane < 0 || lane >= runners) {
+            throw new IllegalArgumentException("lane must be in [0, runners)");
+        }
+        final Phaser leaf = PhaserTree.leafOf(leaves, lane);
+        leaf.awaitAdvanceInterruptibly(leaf.arrive());
+        final long open = openNanos;
+        if (open != 0) {
+            final long late = System.nanoTime() - open;
+            skew.record(late);
+            if (RaceMetrics.ENABLED) {
+                RaceMetrics.START_SKEW.record(late);
+            }
+        }
+    }
+
+    /**
+     * The starter's go: the gate opens as soon as every runner is waiting (at once if they already are).
+     * Never blocks; only the first call counts.
+     */
+    public void open() {
+        if (started.compareAndSet(false, true) && !root.isTerminated()) {
+            root.arrive();
+        }
+    }
+
+    /**
+     * Releases every waiting runner without opening the gate (used when the race is aborted).
+     */
+    public void abort() {
+        root.forceTermination();
+    }
+
+    public boolean isOpen() {
+        return openNanos != 0;
+    }
+
+    public int getRunners() {
+        return runners;
+    }
+
+    /**
+     * Start skew of the runners that got past this gate so far.
+     */
+    public LatencyHistogram.Snapshot skew() {
+        return skew.snapshot();
+    }
+}
@@ -1,32 +1,410 @@
 package edu.eci.arsw.dogsrace.domain;
 
+import edu.eci.arsw.dogsrace.jfr.ArrivalEvent;
+import edu.eci.arsw.dogsrace.metrics.RaceMetrics;
+
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Objects;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Flow;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.AtomicReferenceArray;
 
 /**
- * Thread-safe arrival registry.
- * Critical section is limited to the position assignment and winner selection.
+ * Thread-safe, lock-free arrival registry.
+ *
+ * A finisher takes its position and learns the winner in one CAS on an
+ * immutable claim (next position, winner): whoever takes position 1 names the winner in that
+ * same step. Each arrival is then stored in its own slot of a pre-sized array,
+ * so simultaneous finishers never wait on each other and readers never block
+ * writers.
+ * When more runners arrive than expected, slots spill over into segments of
+ * doubling size allocated on demand.
+ *
+ * The registry is also a {@link Flow.Publisher} of its arrivals. Each
+ * subscriber has its own cursor into the slots and its own demand, and is
+ * served on its own executor: the runner that just finished only nudges the
+ * subscribers, and a slow one falls behind without holding anybody up or
+ * making the registry buffer anything (the slots are the buffer). A late
+ * subscriber gets every arrival from the first one. {@link #close()} completes
+ * the subscribers once they have seen every arrival.
  */
-public final class ArrivalRegistry {
+public final class ArrivalRegistry implements Flow.Publisher<ArrivalRegistry.Arrival> {
+
+    public static final int DEFAULT_CAPACITY = 64;
+
+    private static final int MAX_SEGMENTS = 32;
+
+    private final AtomicReference<Claim> claim = new AtomicReference<>(Claim.START);
+
+    private final int capacity;
+    private final AtomicReferenceArray<AtomicReferenceArray<Arrival>> segments =
+            new AtomicReferenceArray<>(MAX_SEGMENTS);
 
-    private int nextPosition = 1;
-    private String winner = null;
+    private final List<ArrivalSubscription> subscriptions = new CopyOnWriteArrayList<>();
+    private volatile Throwable failure;
+    private volatile boolean closed = false;
+
+    public ArrivalRegistry() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * @param expectedRunners slots allocated up front; more arrivals still fit
+     */
+    public ArrivalRegistry(int expectedRunners) {
+        if (expectedRunners <= 0) {
+            throw new IllegalArgumentException("expectedRunners must be > 0");
+        }
+        this.capacity = expectedRunners;
+        segments.set(0, new AtomicReferenceArray<>(expectedRunners));
+    }
 
-    public synchronized ArrivalSnapshot registerArrival(String dogName) {
+    /**
+     * Takes the next position for {@code dogName}, a runner without a lane number.
+     */
+    public ArrivalSnapshot registerArrival(String dogName) {
+        return registerArrival(-1, dogName);
+    }
+
+    /**
+     * Takes the next position for {@code dogName}; the call's duration goes to
+     * {@link RaceMetrics#ARRIVAL} and, when Flight Recorder is on, to an {@link ArrivalEvent}.
+     *
+     * @param lane lane of the runner, only used to label the event
+     */
+    public ArrivalSnapshot registerArrival(int lane, String dogName) {
         Objects.requireNonNull(dogName, "dogName");
-        final int position = nextPosition++;
-        if (position == 1) {
-            winner = dogName;
+        final long start = RaceMetrics.start();
+        final ArrivalEvent event = new ArrivalEvent();
+        event.begin();
+        final Claim taken = claim(1, dogName);
+        final int position = taken.next();
+        // the winner is known before any reader can see an arrival
+        store(new Arrival(position, dogName, System.nanoTime()));
+        publish();
+        RaceMetrics.record(RaceMetrics.ARRIVAL, start);
+        if (event.shouldCommit()) {
+            event.lane = lane;
+            event.position = position;
+            event.commit();
+        }
+        return new ArrivalSnapshot(position, taken.winner() == null ? dogName : taken.winner());
+    }
+
+    /**
+     * Registers several runners that crossed the line together, in the given order,
+     * with a single claim.
+     *
+     * @return the position assigned to the first name of the batch
+     */
+    public int registerArrivals(String... dogNames) {
+        return registerArrivals(null, dogNames);
+    }
+
+    /**
+     * Like {@link #registerArrivals(String...)}, for runners with a lane number.
+     * With Flight Recorder on, each arrival is its own {@link ArrivalEvent}; the
+     * first one carries the duration of the whole batch.
+     *
+     * @param lanes lane of each runner, only used to label the events; null if they have none
+     * @return the position assigned to the first name of the batch
+     */
+    public int registerArrivals(int[] lanes, String[] dogNames) {
+        for (String dogName : dogNames) {
+            Objects.requireNonNull(dogName, "dogName");
+        }
+        if (lanes != null && lanes.length != dogNames.length) {
+            throw new IllegalArgumentException("lanes and dogNames must have the same length");
+        }
+        if (dogNames.length == 0) {
+            return getNextPosition();
+        }
+        final ArrivalEvent event = new ArrivalEvent();
+        event.begin();
+        final int first = claim(dogNames.length, dogNames[0]).next();
+        final long now = System.nanoTime();
+        for (int i = 0; i < dogNames.length; i++) {
+            store(new Arrival(first + i, dogNames[i], now));
+        }
+        publish();
+        if (event.shouldCommit()) {
+            for (int i = 0; i < dogNames.length; i++) {
+                final ArrivalEvent arrival = i == 0 ? event : new ArrivalEvent();
+                arrival.lane = lanes == null ? -1 : lanes[i];
+                arrival.position = first + i;
+                arrival.commit();
+            }
+        }
+        return first;
+    }
+
+    public int getNextPosition() {
+        return claim.get().next();
+    }
+
+    public String getWinner() {
+        return claim.get().winner();
+    }
+
+    /**
+     * Arrivals in finishing order. Stops at the first slot whose runner has
+     * taken a position but not stored it yet, so the list is always a prefix
+     * of the final result.
+     */
+    public List<Arrival> getArrivals() {
+        final int claimed = getNextPosition() - 1;
+        final List<Arrival> arrivals = new ArrayList<>(claimed);
+        for (int i = 0; i < claimed; i++) {
+            Arrival arrival = slot(i);
+            if (arrival == null) {
+                break;
+            }
+            arrivals.add(arrival);
+        }
+        return arrivals;
+    }
+
+    /**
+     * Streams every arrival, from the first one, to {@code subscriber} on the common fork/join pool.
+     */
+    @Override
+    public void subscribe(Flow.Subscriber<? super Arrival> subscriber) {
+        subscribe(subscriber, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Streams every arrival, from the first one, to {@code subscriber}. Its
+     * calls run on {@code executor}, one at a time and in finishing order.
+     */
+    public void subscribe(Flow.Subscriber<? super Arrival> subscriber, Executor executor) {
+        ArrivalSubscription subscription = new ArrivalSubscription(
+                Objects.requireNonNull(subscriber, "subscriber"), Objects.requireNonNull(executor, "executor"));
+        subscriptions.add(subscription);
+        subscription.signal();
+    }
+
+    /**
+     * No more arrivals: subscribers complete after receiving the ones already registered.
+     * Call it once every runner has finished.
+     */
+    public void close() {
+        closed = true;
+        publish();
+    }
+
+    /**
+     * Like {@link #close()}, but subscribers end with {@code onError(error)} (e.g. the race was aborted).
+     */
+    public void closeExceptionally(Throwable error) {
+        failure = Objects.requireNonNull(error, "error");
+        closed = true;
+        publish();
+    }
+
+    public boolean isClosed() {
+        return closed;
+    }
+
+    public int getNumberOfSubscribers() {
+        return subscriptions.size();
+    }
+
+    /**
+     * Tells every subscriber there may be something new. With none this is one read.
+     */
+    private void publish() {
+        for (ArrivalSubscription subscription : subscriptions) {
+            subscription.signal();
         }
-        return new ArrivalSnapshot(position, winner);
     }
 
-    public synchronized int getNextPosition() {
-        return nextPosition;
+    /**
+     * Takes {@code count} consecutive positions; {@code name} becomes the winner if
+     * they start at 1. Returns the claim that was replaced: its {@code next} is the
+     * first position taken and its {@code winner} is null only if {@code name} won.
+     */
+    private Claim claim(int count, String name) {
+        Claim current = claim.get();
+        while (true) {
+            final Claim next = new Claim(current.next() + count,
+                    current.winner() == null ? name : current.winner());
+            final Claim witness = claim.compareAndExchange(current, next);
+            if (witness == current) {
+                return current;
+            }
+            current = witness;
+        }
     }
 
-    public synchronized String getWinner() {
-        return winner;
+    private void store(Arrival arrival) {
+        final int index = arrival.position() - 1;
+        final int segment = segmentOf(index);
+        segment(segment).set(index - segmentStart(segment), arrival);
+    }
+
+    private Arrival slot(int index) {
+        final int segment = segmentOf(index);
+        final AtomicReferenceArray<Arrival> slots = segments.get(segment);
+        return slots == null ? null : slots.get(index - segmentStart(segment));
+    }
+
+    private AtomicReferenceArray<Arrival> segment(int segment) {
+        AtomicReferenceArray<Arrival> slots = segments.get(segment);
+        if (slots == null) {
+            segments.compareAndSet(segment, null, new AtomicReferenceArray<>(segmentStart(segment)));
+            slots = segments.get(segment);
+        }
+        return slots;
+    }
+
+    // segment 0 holds [0, capacity); segment k >= 1 holds [capacity * 2^(k-1), capacity * 2^k)
+    private int segmentOf(int index) {
+        return index < capacity ? 0 : 32 - Integer.numberOfLeadingZeros(index / capacity);
+    }
+
+    private int segmentStart(int segment) {
+        return segment == 0 ? 0 : capacity << (segment - 1);
+    }
+
+    /**
+     * One subscriber's cursor and demand. Whoever moves {@code wip} from 0 schedules
+     * a drain; the drain runs until no signal came in meanwhile, so at most one runs
+     * per subscriber and a signal is never lost.
+     */
+    private final class ArrivalSubscription implements Flow.Subscription {
+
+        private final Flow.Subscriber<? super Arrival> subscriber;
+        private final Executor executor;
+        private final AtomicInteger wip = new AtomicInteger();
+        private final AtomicLong requested = new AtomicLong();
+        private volatile boolean cancelled = false;
+        private volatile Throwable badRequest;
+
+        /** Only touched by the drain. */
+        private boolean subscribed = false;
+        private int cursor = 0;
+
+        ArrivalSubscription(Flow.Subscriber<? super Arrival> subscriber, Executor executor) {
+            this.subscriber = subscriber;
+            this.executor = executor;
+        }
+
+        @Override
+        public void request(long n) {
+            if (n <= 0) {
+                badRequest = new IllegalArgumentException("n must be > 0");
+            } else {
+                requested.getAndUpdate(r -> r + n < 0 ? Long.MAX_VALUE : r + n);
+            }
+            signal();
+        }
+
+        @Override
+        public void cancel() {
+            cancelled = true;
+            subscriptions.remove(this);
+        }
+
+        void signal() {
+            if (wip.getAndIncrement() != 0) {
+                return;
+            }
+            try {
+                executor.execute(this::drain);
+            } catch (RejectedExecutionException e) {
+                reject(e);
+            }
+        }
+
+        /**
+         * The executor refused the drain. {@code wip} stays above 0, so no other drain
+         * can start and the caller may end the subscription itself.
+         */
+        private void reject(RejectedExecutionException error) {
+            cancel();
+            try {
+                if (!subscribed) {
+                    subscribed = true;
+                    subscriber.onSubscribe(this);
+                }
+                subscriber.onError(error);
+            } catch (RuntimeException e) {
+                // already dropped
+            }
+        }
+
+        private void drain() {
+            int missed = 1;
+            do {
+                try {
+                    if (!subscribed) {
+                        subscribed = true;
+                        subscriber.onSubscribe(this);
+                    }
+                    deliver();
+                } catch (RuntimeException e) {
+                    // a subscriber that throws is dropped
+                    cancel();
+                }
+                missed = wip.addAndGet(-missed);
+            } while (missed != 0);
+        }
+
+        private void deliver() {
+            while (!cancelled) {
+                Throwable error = badRequest;
+                if (error != null) {
+                    cancel();
+                    subscriber.onError(error);
+                    return;
+                }
+                // read closed before the claim: once closed, the claim is final
+                final boolean done = closed;
+                final int claimed = getNextPosition() - 1;
+                if (cursor >= claimed) {
+                    if (done) {
+                        cancel();
+                        Throwable cause = failure;
+                        if (cause == null) {
+                            subscriber.onComplete();
+                        } else {
+                            subscriber.onError(cause);
+                        }
+                    }
+                    return;
+                }
+                final Arrival next = slot(cursor);
+                // taken but not stored yet: its runner signals again after storing it
+                if (next == null || requested.get() == 0) {
+                    return;
+                }
+                if (requested.get() != Long.MAX_VALUE) {
+                    requested.decrementAndGet();
+                }
+                cursor++;
+                subscriber.onNext(next);
+            }
+        }
+    }
+
+    /**
+     * Next position to hand out and the winner, if any yet; replaced whole on every claim.
+     */
+    private record Claim(int next, String winner) {
+        static final Claim START = new Claim(1, null);
     }
 
     public record ArrivalSnapshot(int position, String winner) { }
+
+    /**
+     * One runner crossing the line; {@code nanoTime} is {@link System#nanoTime()} at registration.
+     */
+    public record Arrival(int position, String dogName, long nanoTime) { }
 }
@@ -0,0 +1,68 @@
+package edu.eci.arsw.dogsrace.domain;
+
+import java.util.Objects;
+
+/**
+ * Headless lane: the whole progress is one int and one flag.
+ *
+ * Written by a single runner and read by anyone, so volatile fields are enough.
+ */
+public final class Lane implements LaneModel {
+
+    private final int size;
+    private final String name;
+
+    private volatile int position = 0;
+    private volatile boolean finished = false;
+
+    public Lane(int size, String name) {
+        if (size < 0) {
+            throw new IllegalArgumentException("size must be >= 0");
+        }
+        this.size = size;
+        this.name = Objects.requireNonNull(name, "name");
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public int getPosition() {
+        return position;
+    }
+
+    @Override
+    public boolean isFinished() {
+        return finished;
+    }
+
+    @Override
+    public void setPasoOn(int i) {
+        Objects.checkIndex(i, size);
+        position = i + 1;
+    }
+
+    @Override
+    public void displayPasos(int n) {
+        Objects.checkIndex(n, size + 1);
+        position = n;
+    }
+
+    @Override
+    public void finish() {
+        finished = true;
+    }
+
+    @Override
+    public void reStart() {
+        position = 0;
+        finished = false;
+    }
+}
@@ -0,0 +1,45 @@
+package edu.eci.arsw.dogsrace.domain;
+
+/**
+ * Progress of one lane, as written by the runner that owns it.
+ *
+ * Implementations must be safe to write from the runner thread and read from
+ * any other thread (UI, reporting). {@link Lane} is the headless one; the Swing
+ * lane ({@code ui.Carril}) delegates to one and {@code ui.TrackPanel} paints it.
+ */
+public interface LaneModel {
+
+    /**
+     * Track length in steps.
+     */
+    int size();
+
+    String getName();
+
+    /**
+     * Steps taken so far, from 0 to {@link #size()}.
+     */
+    int getPosition();
+
+    boolean isFinished();
+
+    /**
+     * Marks step {@code i} (0-based) as taken.
+     */
+    void setPasoOn(int i);
+
+    /**
+     * Publishes the number of steps taken so far.
+     */
+    void displayPasos(int n);
+
+    /**
+     * Marks the lane as having crossed the finish line.
+     */
+    void finish();
+
+    /**
+     * Back to the starting line.
+     */
+    void reStart();
+}
@@ -0,0 +1,165 @@
+package edu.eci.arsw.dogsrace.domain;
+
+import edu.eci.arsw.dogsrace.control.RaceListener;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Live standings of a race, kept up to date as the runners report their steps.
+ *
+ * Every lane has one packed {@code long} key in a {@link ConcurrentSkipListSet},
+ * ordered so that the head of the set is the current leader: lanes that crossed
+ * the line come first by finishing position, then the rest by steps taken
+ * (ties by lane number). A step replaces the lane's key (add the new one, then
+ * remove the old one), which is O(log n) and lock-free, so runners never wait
+ * for each other or for readers. Reading the top K walks the first entries of
+ * the set without blocking anyone. The walk is weakly consistent: a lane that
+ * is being moved can show up twice (only its best entry is kept), and a lane
+ * that jumps ahead of the point already walked is missed by that walk. If a
+ * walk comes up short the set is walked again, a few times at most.
+ *
+ * Each lane must be reported by one thread at a time, as both engines do.
+ * Events for lanes outside {@code [0, lanes)} are ignored.
+ */
+public final class Leaderboard implements RaceListener {
+
+    /**
+     * Walks of the set before {@link #top} settles for fewer than K lanes.
+     */
+    private static final int MAX_WALKS = 4;
+
+    private final ConcurrentSkipListSet<Long> ranking = new ConcurrentSkipListSet<>();
+    /** Current key of each lane; written only by that lane's runner. */
+    private final AtomicLongArray keys;
+    private final AtomicIntegerArray positions;
+
+    public Leaderboard(int lanes) {
+        if (lanes <= 0) {
+            throw new IllegalArgumentException("lanes must be > 0");
+        }
+        keys = new AtomicLongArray(lanes);
+        positions = new AtomicIntegerArray(lanes);
+        reset();
+    }
+
+    /**
+     * Puts every lane back at the starting line. Only between races: runners must not be reporting.
+     */
+    public void reset() {
+        ranking.clear();
+        for (int lane = 0; lane < keys.length(); lane++) {
+            long key = runningKey(lane, 0);
+            positions.set(lane, 0);
+            keys.set(lane, key);
+            ranking.add(key);
+        }
+    }
+
+    @Override
+    public void onStep(int lane, int position) {
+        if (lane < 0 || lane >= keys.length()) {
+            return;
+        }
+        positions.set(lane, position);
+        move(lane, runningKey(lane, position));
+    }
+
+    @Override
+    public void onArrival(int lane, int position) {
+        if (lane < 0 || lane >= keys.length()) {
+            return;
+        }
+        move(lane, finishedKey(lane, position));
+    }
+
+    /**
+     * The {@code k} best lanes, leader first. Never blocks the runners; during
+     * the race it is a recent view, not an atomic snapshot, and under heavy
+     * churn it can hold fewer than {@code k} lanes.
+     */
+    public List<Standing> top(int k) {
+        if (k < 0) {
+            throw new IllegalArgumentException("k must be >= 0");
+        }
+        final int wanted = Math.min(k, keys.length());
+        List<Standing> top = List.of();
+        for (int walk = 0; walk < MAX_WALKS && top.size() < wanted; walk++) {
+            top = walk(wanted);
+        }
+        return top;
+    }
+
+    private List<Standing> walk(int k) {
+        final List<Standing> top = new ArrayList<>(k);
+        final Set<Integer> seen = new HashSet<>();
+        for (Long key : ranking) {
+            if (top.size() == k) {
+                break;
+            }
+            final int lane = laneOf(key);
+            if (seen.add(lane)) {
+                top.add(standing(key, lane));
+            }
+        }
+        return top;
+    }
+
+    /**
+     * Lane in first place right now.
+     */
+    public int leader() {
+        return laneOf(ranking.first());
+    }
+
+    public int getLanes() {
+        return keys.length();
+    }
+
+    private void move(int lane, long key) {
+        final long old = keys.get(lane);
+        if (old == key) {
+            return;
+        }
+        keys.set(lane, key);
+        // add before remove: the set is never without the lane, so first() always has an entry
+        ranking.add(key);
+        ranking.remove(old);
+    }
+
+    private Standing standing(long key, int lane) {
+        if (key < 0) {
+            return new Standing(lane, positions.get(lane), (int) ((key >>> 32) & Integer.MAX_VALUE));
+        }
+        return new Standing(lane, Integer.MAX_VALUE - (int) (key >>> 32), 0);
+    }
+
+    // running lanes: (MAX_VALUE - steps, lane), so more steps sort first
+    private static long runningKey(int lane, int position) {
+        return (long) (Integer.MAX_VALUE - position) << 32 | lane;
+    }
+
+    // finished lanes are negative, so they sort before every running lane, by finishing position
+    private static long finishedKey(int lane, int arrival) {
+        return Long.MIN_VALUE | (long) arrival << 32 | lane;
+    }
+
+    private static int laneOf(long key) {
+        return (int) key;
+    }
+
+    /**
+     * One line of the standings: {@code arrival} is the finishing position, 0 while the lane is running.
+     */
+    public record Standing(int lane, int position, int arrival) {
+
+        public boolean finished() {
+            return arrival > 0;
+        }
+    }
+}
@@ -0,0 +1,34 @@
+package edu.eci.arsw.dogsrace.engine;
+
+import java.util.Locale;
+
+/**
+ * Which engine drives a race.
+ *
+ * THREADS runs one {@code Galgo} per lane (see {@code RunnerMode});
+ * LOCKSTEP runs the same runners in rounds, each step taken only once every
+ * runner still in the race has taken the previous one (see {@code LockstepRounds});
+ * TICK advances every lane from a single thread with {@link TickRaceEngine}.
+ */
+public enum EngineMode {
+
+    THREADS,
+    LOCKSTEP,
+    TICK;
+
+    /**
+     * System property used to pick the engine at startup.
+     */
+    public static final String PROPERTY = "dogsrace.engine";
+
+    public static EngineMode parse(String value) {
+        if (value == null || value.isBlank()) {
+            return THREADS;
+        }
+        return valueOf(value.trim().toUpperCase(Locale.ROOT));
+    }
+
+    public static EngineMode fromSystemProperties() {
+        return parse(System.getProperty(PROPERTY));
+    }
+}
@@ -0,0 +1,169 @@
+package edu.eci.arsw.dogsrace.engine;
+
+import edu.eci.arsw.dogsrace.control.LockstepRounds;
+import edu.eci.arsw.dogsrace.control.RaceControl;
+import edu.eci.arsw.dogsrace.control.RaceListener;
+import edu.eci.arsw.dogsrace.control.StartingGate;
+import edu.eci.arsw.dogsrace.domain.ArrivalRegistry;
+import edu.eci.arsw.dogsrace.domain.Lane;
+import edu.eci.arsw.dogsrace.threads.Galgo;
+import edu.eci.arsw.dogsrace.threads.RunnerMode;
+import edu.eci.arsw.dogsrace.util.RaceRandom;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Runs one race without a user interface and returns its result.
+ *
+ * The lanes are headless {@link Lane}s, so nothing here touches AWT or Swing
+ * and a race can run where there is no display. The threaded engine starts
+ * one {@link Galgo} per lane with the configured {@link RunnerMode}, all held
+ * at a {@link StartingGate} until the last one is ready (and, for the lockstep
+ * engine, stepping in {@link LockstepRounds}); the tick
+ * engine runs a {@link TickRaceEngine} on one thread of that mode. Either way
+ * the runners live in a {@link RaceScope}: a runner that throws, a timeout or
+ * an interrupt of the calling thread stops all of them before {@code run}
+ * returns. Only the tick engine is reproducible from the seed: with threads
+ * the order is up to the scheduler.
+ */
+public final class RaceRunner {
+
+    private final RaceListener listener;
+
+    public RaceRunner() {
+        this(RaceListener.NONE);
+    }
+
+    /**
+     * @param listener receives every step and arrival (e.g. a {@code RaceJournal})
+     */
+    public RaceRunner(RaceListener listener) {
+        this.listener = Objects.requireNonNull(listener, "listener");
+    }
+
+    /**
+     * Runs the race to completion, waiting for it on the calling thread.
+     *
+     * @throws IllegalStateException if a runner failed (the others are stopped first)
+     */
+    public Result run(Config config) throws InterruptedException {
+        try {
+            return run(config, null);
+        } catch (TimeoutException e) {
+            throw new AssertionError(e);
+        }
+    }
+
+    /**
+     * Runs the race, aborting it if it is not over by {@code timeout}. All runners have
+     * stopped by the time this returns or throws.
+     *
+     * @param timeout longest the race may take, or null to wait for it
+     * @throws TimeoutException      if the race was aborted because it took too long
+     * @throws IllegalStateException if a runner failed (the others are stopped first)
+     */
+    public Result run(Config config, Duration timeout) throws InterruptedException, TimeoutException {
+        final ArrivalRegistry registry = new ArrivalRegistry(config.lanes());
+        // one thread per lane: hold them at a gate so the first ones started get no head start
+        final StartingGate gate = config.engine() == EngineMode.TICK ? null : new StartingGate(config.lanes());
+        final LockstepRounds rounds =
+                config.engine() == EngineMode.LOCKSTEP ? new LockstepRounds(config.lanes()) : null;
+        final RaceControl control = new RaceControl(listener, gate, rounds);
+        final long t0 = System.nanoTime();
+        try (RaceScope scope = RaceScope.ofThreads(config.runner(), control)) {
+            if (config.engine() == EngineMode.TICK) {
+                final TickRaceEngine engine = new TickRaceEngine(config.lanes(), config.trackLength(), registry,
+                        control, config.stepDelayMillis(), new RaceRandom(config.seed()));
+                scope.fork(() -> {
+                    try {
+                        engine.run();
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                });
+            } else {
+                for (int i = 0; i < config.lanes(); i++) {
+                    Lane lane = new Lane(config.trackLength(), String.valueOf(i));
+                    scope.fork(new Galgo(lane, i, registry, control, config.stepDelayMillis()));
+                }
+                gate.open();
+            }
+            if (timeout == null) {
+                scope.join();
+            } else {
+                scope.joinUntil(Instant.now().plus(timeout));
+            }
+            scope.throwIfFailed();
+        }
+        return new Result(config, registry.getWinner(), registry.getArrivals(), System.nanoTime() - t0);
+    }
+
+    /**
+     * What to race. Runner i is named "i"; {@code runner} only applies to the threaded engine
+     * and {@code seed} only to the tick engine.
+     */
+    public record Config(int lanes, int trackLength, long stepDelayMillis, EngineMode engine, RunnerMode runner,
+            long seed) {
+
+        public Config {
+            if (lanes <= 0) {
+                throw new IllegalArgumentException("lanes must be > 0");
+            }
+            if (trackLength <= 0) {
+                throw new IllegalArgumentException("trackLength must be > 0");
+            }
+            if (stepDelayMillis < 0) {
+                throw new IllegalArgumentException("stepDelayMillis must be >= 0");
+            }
+            Objects.requireNonNull(engine, "engine");
+            Objects.requireNonNull(runner, "runner");
+        }
+
+        /**
+         * Race with the engine, runner mode and seed given by -Ddogsrace.engine, -Ddogsrace.runner
+         * and -Ddogsrace.seed.
+         */
+        public static Config fromSystemProperties(int lanes, int trackLength, long stepDelayMillis) {
+            return new Config(lanes, trackLength, stepDelayMillis, EngineMode.fromSystemProperties(),
+                    RunnerMode.fromSystemProperties(), RaceRandom.fromSystemProperties().seed());
+        }
+    }
+
+    /**
+     * Outcome of a race: the arrivals are in finishing order and name the runners "0".."lanes-1".
+     */
+    public record Result(Config config, String winner, List<ArrivalRegistry.Arrival> arrivals, long elapsedNanos) {
+
+        public Result {
+            arrivals = List.copyOf(arrivals);
+        }
+
+        /**
+         * Lane numbers in finishing order.
+         */
+        public int[] finishingOrder() {
+            int[] order = new int[arrivals.size()];
+            for (int i = 0; i < order.length; i++) {
+                order[i] = Integer.parseInt(arrivals.get(i).dogName());
+            }
+            return order;
+        }
+
+        /**
+         * Finishing position of lane {@code lane}, or 0 if it did not arrive.
+         */
+        public int positionOf(int lane) {
+            String name = String.valueOf(lane);
+            for (ArrivalRegistry.Arrival arrival : arrivals) {
+                if (arrival.dogName().equals(name)) {
+                    return arrival.position();
+                }
+            }
+            return 0;
+        }
+    }
+}
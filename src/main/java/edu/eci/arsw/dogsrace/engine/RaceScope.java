@@ -0,0 +1,281 @@
+package edu.eci.arsw.dogsrace.engine;
+
+import edu.eci.arsw.dogsrace.control.RaceControl;
+import edu.eci.arsw.dogsrace.metrics.RaceMetrics;
+import edu.eci.arsw.dogsrace.threads.RunnerMode;
+
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.Objects;
+import java.util.Queue;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * The runners of one race, started together and stopped together.
+ *
+ * It follows the shape of {@code StructuredTaskScope.ShutdownOnFailure}
+ * (which is still a preview API in Java 21): the owner forks the runners,
+ * then joins the scope, and closing it never leaves a runner behind. The
+ * first runner to throw aborts the race; so does a {@link #joinUntil}
+ * deadline, an interrupted {@link #join} or an explicit {@link #abort}.
+ *
+ * Aborting closes the race's {@link RaceControl} for good and interrupts the
+ * runners that are executing, so sleeping, paused and busy runners all stop
+ * at their next step; runners not started yet never run. The time from the
+ * abort to the last runner stopping is the teardown: it goes to
+ * {@link RaceMetrics#TEARDOWN} and {@link #getTeardownNanos()}.
+ *
+ * Runners go to an {@link Executor}: a pool (as {@link RaceSession} does) or
+ * a new thread per runner ({@link #ofThreads}). Only the owner forks.
+ */
+public final class RaceScope implements AutoCloseable {
+
+    private final Executor executor;
+    private final RaceControl control;
+    private final Queue<Subtask> subtasks = new ConcurrentLinkedQueue<>();
+    /** Runners not finished yet, plus one for the owner until it stops forking. */
+    private final AtomicInteger pending = new AtomicInteger(1);
+    private final AtomicBoolean sealed = new AtomicBoolean();
+    private final AtomicReference<Throwable> failure = new AtomicReference<>();
+    private final CompletableFuture<Void> done = new CompletableFuture<>();
+
+    private volatile boolean aborted = false;
+    private volatile long abortNanos;
+    private volatile long teardownNanos = -1;
+
+    /**
+     * @param executor runs each forked runner
+     * @param control  control of the race; aborting the scope aborts it
+     */
+    public RaceScope(Executor executor, RaceControl control) {
+        this.executor = Objects.requireNonNull(executor, "executor");
+        this.control = Objects.requireNonNull(control, "control");
+    }
+
+    /**
+     * Scope that starts every runner on a new thread of the given mode, named "race-N".
+     */
+    public static RaceScope ofThreads(RunnerMode mode, RaceControl control) {
+        final ThreadFactory factory = mode == RunnerMode.VIRTUAL
+                ? Thread.ofVirtual().name("race-", 0).factory()
+                : Thread.ofPlatform().name("race-", 0).factory();
+        return new RaceScope(task -> factory.newThread(task).start(), control);
+    }
+
+    /**
+     * Starts a runner. After an abort it is accepted but never runs.
+     *
+     * @throws IllegalStateException if the owner already joined
+     */
+    public void fork(Runnable runner) {
+        Objects.requireNonNull(runner, "runner");
+        if (sealed.get()) {
+            throw new IllegalStateException("scope already joined");
+        }
+        final Subtask subtask = new Subtask(runner);
+        pending.incrementAndGet();
+        subtasks.add(subtask);
+        try {
+            executor.execute(subtask);
+        } catch (RejectedExecutionException e) {
+            subtasks.remove(subtask);
+            finishOne();
+            throw e;
+        }
+    }
+
+    /**
+     * Stops forking and returns a future completed when every runner has stopped: normally,
+     * with the first runner failure, or with a {@link CancellationException} if the race was aborted.
+     * It completes from the last runner, so nobody has to wait for the race.
+     */
+    public CompletableFuture<Void> whenDone() {
+        seal();
+        return done;
+    }
+
+    /**
+     * Waits for every runner. If the waiting thread is interrupted the race is aborted
+     * (the runners are left to {@link #close}).
+     */
+    public void join() throws InterruptedException {
+        seal();
+        try {
+            done.handle((v, e) -> null).get();
+        } catch (InterruptedException e) {
+            abort();
+            throw e;
+        } catch (ExecutionException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * Like {@link #join()}, but aborts the race and throws once the deadline passes.
+     */
+    public void joinUntil(Instant deadline) throws InterruptedException, TimeoutException {
+        seal();
+        final long nanos = Math.max(0, Instant.now().until(deadline, ChronoUnit.NANOS));
+        try {
+            done.handle((v, e) -> null).get(nanos, TimeUnit.NANOSECONDS);
+        } catch (InterruptedException | TimeoutException e) {
+            abort();
+            throw e;
+        } catch (ExecutionException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * Aborts the race: closes its control and interrupts the runners. Returns at once; the
+     * runners stop on their own (see {@link #whenDone()} and {@link #close()}).
+     */
+    public void abort() {
+        if (aborted) {
+            return;
+        }
+        synchronized (this) {
+            if (aborted) {
+                return;
+            }
+            abortNanos = System.nanoTime();
+            aborted = true;
+        }
+        control.abort();
+        for (Subtask subtask : subtasks) {
+            subtask.interrupt();
+        }
+    }
+
+    public boolean isAborted() {
+        return aborted;
+    }
+
+    /**
+     * Whether every runner has stopped and the owner stopped forking.
+     */
+    public boolean isDone() {
+        return done.isDone();
+    }
+
+    /**
+     * @throws IllegalStateException with the first runner failure as its cause, if any runner threw
+     */
+    public void throwIfFailed() {
+        final Throwable cause = failure.get();
+        if (cause != null) {
+            throw new IllegalStateException("race failed", cause);
+        }
+    }
+
+    /**
+     * Nanoseconds from the abort to the last runner stopping, or -1 if not aborted or not stopped yet.
+     */
+    public long getTeardownNanos() {
+        return teardownNanos;
+    }
+
+    /**
+     * Aborts the race if it is still running and waits until every runner has stopped.
+     */
+    @Override
+    public void close() {
+        seal();
+        if (!done.isDone()) {
+            abort();
+        }
+        boolean interrupted = false;
+        while (true) {
+            try {
+                done.handle((v, e) -> null).get();
+                break;
+            } catch (InterruptedException e) {
+                interrupted = true;
+            } catch (ExecutionException e) {
+                throw new IllegalStateException(e);
+            }
+        }
+        if (interrupted) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void seal() {
+        if (sealed.compareAndSet(false, true)) {
+            finishOne();
+        }
+    }
+
+    private void finishOne() {
+        if (pending.decrementAndGet() != 0) {
+            return;
+        }
+        if (aborted) {
+            final long elapsed = System.nanoTime() - abortNanos;
+            teardownNanos = elapsed;
+            if (RaceMetrics.ENABLED) {
+                RaceMetrics.TEARDOWN.record(elapsed);
+            }
+        }
+        final Throwable cause = failure.get();
+        if (cause != null) {
+            done.completeExceptionally(cause);
+        } else if (aborted) {
+            done.completeExceptionally(new CancellationException("race aborted"));
+        } else {
+            done.complete(null);
+        }
+    }
+
+    /**
+     * One forked runner; knows its thread while it runs so that an abort can interrupt it.
+     */
+    private final class Subtask implements Runnable {
+
+        private final Runnable runner;
+        private Thread thread;
+
+        Subtask(Runnable runner) {
+            this.runner = runner;
+        }
+
+        @Override
+        public void run() {
+            try {
+                synchronized (this) {
+                    if (aborted) {
+                        return;
+                    }
+                    thread = Thread.currentThread();
+                }
+                runner.run();
+            } catch (RuntimeException | Error e) {
+                if (failure.compareAndSet(null, e)) {
+                    abort();
+                }
+            } finally {
+                synchronized (this) {
+                    thread = null;
+                }
+                finishOne();
+            }
+        }
+
+        synchronized void interrupt() {
+            if (thread != null) {
+                thread.interrupt();
+            }
+        }
+    }
+}
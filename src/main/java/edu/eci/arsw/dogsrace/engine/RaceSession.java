@@ -0,0 +1,364 @@
+package edu.eci.arsw.dogsrace.engine;
+
+import edu.eci.arsw.dogsrace.control.LockstepRounds;
+import edu.eci.arsw.dogsrace.control.RaceControl;
+import edu.eci.arsw.dogsrace.control.RaceListener;
+import edu.eci.arsw.dogsrace.control.StartingGate;
+import edu.eci.arsw.dogsrace.domain.ArrivalRegistry;
+import edu.eci.arsw.dogsrace.domain.LaneModel;
+import edu.eci.arsw.dogsrace.metrics.LatencyHistogram;
+import edu.eci.arsw.dogsrace.metrics.RaceMetrics;
+import edu.eci.arsw.dogsrace.threads.Galgo;
+import edu.eci.arsw.dogsrace.threads.RunnerMode;
+import edu.eci.arsw.dogsrace.util.RaceRandom;
+
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * The same lanes raced many times on a warm pool of runner threads.
+ *
+ * With platform runners the pool is created and fully started with the
+ * session (one thread per lane for the threaded engine, one for the tick
+ * engine), so a race only hands tasks to threads that are already parked
+ * waiting for work: no thread is created or started between a click on Start
+ * and the first step. Virtual threads are not pooled: they cost about as
+ * much to start as to hand a task to, so with {@link RunnerMode#VIRTUAL}
+ * every runner of every race gets a new one. Each
+ * race puts the lanes back on the starting line and gets a fresh
+ * {@link ArrivalRegistry} and {@link RaceControl}; nothing of the previous
+ * race leaks into the next one. With the threaded and lockstep engines the
+ * runners wait at a {@link StartingGate} and all take their first step
+ * together, however long it took to hand the last one to its thread.
+ *
+ * The runners of a race run in a {@link RaceScope} on the session's executor: one that
+ * throws stops the rest, and {@link #abort()} (or cancelling the race's
+ * future) tears the race down, timed in {@link #getTeardownNanos()}. The
+ * result is completed by the last runner to stop, so no thread waits for
+ * the race; {@link #arrivals()} streams the finishers as they cross the
+ * line. The time from {@link #start} to the first step of any lane goes to
+ * {@link RaceMetrics#FIRST_STEP}; with a step delay it includes that delay.
+ * Race k of the tick engine is seeded with {@code RaceRandom.child(k)}.
+ */
+public final class RaceSession implements AutoCloseable {
+
+    private final LaneModel[] lanes;
+    private final EngineMode engine;
+    private final RunnerMode runner;
+    private final long stepDelayMillis;
+    private final RaceRandom random;
+    private final ExecutorService pool;
+    private final int trackLength;
+
+    private final Object lock = new Object();
+    private RaceControl control;
+    private RaceScope scope;
+    private ArrivalRegistry arrivals;
+    private CompletableFuture<RaceRunner.Result> current;
+    private int races = 0;
+    private volatile long timeToFirstStepNanos = -1;
+
+    public RaceSession(LaneModel[] lanes, EngineMode engine, long stepDelayMillis) {
+        this(lanes, engine, RunnerMode.PLATFORM, stepDelayMillis, RaceRandom.random());
+    }
+
+    /**
+     * @param lanes           lanes to race; they are reset before every race
+     * @param engine          threads or lockstep (one runner per lane), or tick
+     * @param runner          prestarted platform threads, or a new virtual thread per runner
+     * @param stepDelayMillis pause between steps of a runner, or between ticks
+     * @param random          seed of the session; race k uses its k-th child
+     */
+    public RaceSession(LaneModel[] lanes, EngineMode engine, RunnerMode runner, long stepDelayMillis,
+            RaceRandom random) {
+        if (lanes.length == 0) {
+            throw new IllegalArgumentException("lanes must be > 0");
+        }
+        if (stepDelayMillis < 0) {
+            throw new IllegalArgumentException("stepDelayMillis must be >= 0");
+        }
+        this.lanes = lanes.clone();
+        this.engine = Objects.requireNonNull(engine, "engine");
+        this.runner = Objects.requireNonNull(runner, "runner");
+        this.stepDelayMillis = stepDelayMillis;
+        this.random = Objects.requireNonNull(random, "random");
+        int max = 0;
+        for (LaneModel lane : lanes) {
+            max = Math.max(max, lane.size());
+        }
+        this.trackLength = max;
+
+        if (runner == RunnerMode.VIRTUAL) {
+            pool = Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("race-session-", 0).factory());
+        } else {
+            final int threads = engine == EngineMode.TICK ? 1 : lanes.length;
+            final ThreadFactory factory = Thread.ofPlatform().name("race-session-", 0).daemon(true).factory();
+            final ThreadPoolExecutor platform = new ThreadPoolExecutor(threads, threads, 0, TimeUnit.MILLISECONDS,
+                    new LinkedBlockingQueue<>(), factory);
+            platform.prestartAllCoreThreads();
+            pool = platform;
+        }
+    }
+
+    /**
+     * Resets the lanes and starts the next race on the session's threads.
+     *
+     * @param listener receives the steps and arrivals of this race only
+     * @return completed with the result when the last runner crosses the line
+     * @throws IllegalStateException if a race is still running or the session is closed
+     */
+    public CompletableFuture<RaceRunner.Result> start(RaceListener listener) {
+        Objects.requireNonNull(listener, "listener");
+        synchronized (lock) {
+            if (pool.isShutdown()) {
+                throw new IllegalStateException("session is closed");
+            }
+            if (scope != null && !scope.isDone()) {
+                throw new IllegalStateException("a race is already running");
+            }
+            for (LaneModel lane : lanes) {
+                lane.reStart();
+            }
+            final long seed = random.child(races).seed();
+            final RaceRunner.Config config = new RaceRunner.Config(lanes.length, trackLength, stepDelayMillis, engine,
+                    runner, seed);
+            final ArrivalRegistry registry = new ArrivalRegistry(lanes.length);
+            final long t0 = System.nanoTime();
+            final FirstStep firstStep = new FirstStep(listener, t0);
+            final StartingGate gate = engine == EngineMode.TICK ? null : new StartingGate(lanes.length);
+            final LockstepRounds rounds = engine == EngineMode.LOCKSTEP ? new LockstepRounds(lanes.length) : null;
+            final RaceControl raceControl = new RaceControl(firstStep, gate, rounds);
+            final RaceScope scope = new RaceScope(pool, raceControl);
+
+            if (engine == EngineMode.TICK) {
+                final TickRaceEngine tick = new TickRaceEngine(lanes, registry, raceControl, stepDelayMillis,
+                        new RaceRandom(seed));
+                scope.fork(() -> {
+                    try {
+                        tick.run();
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                });
+            } else {
+                for (int i = 0; i < lanes.length; i++) {
+                    scope.fork(new Galgo(lanes[i], i, registry, raceControl, stepDelayMillis));
+                }
+                gate.open();
+            }
+            // completed by the last runner to stop, so an aborted race is over only once it is torn down
+            final CompletableFuture<RaceRunner.Result> result = new CompletableFuture<>();
+            scope.whenDone().whenComplete((v, e) -> {
+                if (e != null) {
+                    registry.closeExceptionally(e);
+                    result.completeExceptionally(e);
+                } else {
+                    registry.close();
+                    result.complete(new RaceRunner.Result(config, registry.getWinner(), registry.getArrivals(),
+                            System.nanoTime() - t0));
+                }
+            });
+            // cancelling the returned future aborts the race
+            result.whenComplete((r, e) -> {
+                if (e != null) {
+                    scope.abort();
+                }
+            });
+            control = raceControl;
+            this.scope = scope;
+            arrivals = registry;
+            current = result;
+            races++;
+            return result;
+        }
+    }
+
+    /**
+     * Runs the next race and waits for it.
+     */
+    public RaceRunner.Result run(RaceListener listener) throws InterruptedException {
+        CompletableFuture<RaceRunner.Result> result = start(listener);
+        try {
+            return result.get();
+        } catch (InterruptedException e) {
+            result.cancel(false);
+            throw e;
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("race failed", e.getCause());
+        }
+    }
+
+    public RaceRunner.Result run() throws InterruptedException {
+        return run(RaceListener.NONE);
+    }
+
+    /**
+     * Registry of the last race started. Subscribe to it to get the arrivals as they happen;
+     * it is closed when the last runner finishes.
+     *
+     * @throws IllegalStateException if no race has been started
+     */
+    public ArrivalRegistry arrivals() {
+        synchronized (lock) {
+            if (arrivals == null) {
+                throw new IllegalStateException("no race has been started");
+            }
+            return arrivals;
+        }
+    }
+
+    /**
+     * Pauses the race in progress, if any.
+     */
+    public void pause() {
+        RaceControl c = currentControl();
+        if (c != null) {
+            c.pause();
+        }
+    }
+
+    /**
+     * Resumes the race in progress, if any.
+     */
+    public void resume() {
+        RaceControl c = currentControl();
+        if (c != null) {
+            c.resume();
+        }
+    }
+
+    /**
+     * Aborts the race in progress, if any. Its future fails with a {@link java.util.concurrent.CancellationException}
+     * once every runner has stopped, and the next race can start from then on.
+     */
+    public void abort() {
+        RaceScope s;
+        synchronized (lock) {
+            s = scope;
+        }
+        if (s != null) {
+            s.abort();
+        }
+    }
+
+    /**
+     * Whether a race has runners that have not stopped yet (an aborted race counts until it is torn down).
+     */
+    public boolean isRunning() {
+        synchronized (lock) {
+            return scope != null && !scope.isDone();
+        }
+    }
+
+    /**
+     * Number of races started so far.
+     */
+    public int getRaces() {
+        synchronized (lock) {
+            return races;
+        }
+    }
+
+    /**
+     * Nanoseconds from {@link #start} to the first step of the last race, or -1 before its first step.
+     */
+    public long getTimeToFirstStepNanos() {
+        return timeToFirstStepNanos;
+    }
+
+    /**
+     * Nanoseconds from the abort of the last race to its last runner stopping, or -1 if it was not aborted.
+     */
+    public long getTeardownNanos() {
+        synchronized (lock) {
+            return scope == null ? -1 : scope.getTeardownNanos();
+        }
+    }
+
+    /**
+     * Start skew of the runners of the last race (see {@link StartingGate}), or null if it had no gate.
+     */
+    public LatencyHistogram.Snapshot getStartSkew() {
+        RaceControl c = currentControl();
+        return c == null || c.startingGate() == null ? null : c.startingGate().skew();
+    }
+
+    /**
+     * Threads of the pool that are already running; 0 with virtual runners, which are not pooled.
+     */
+    public int getPoolSize() {
+        return pool instanceof ThreadPoolExecutor platform ? platform.getPoolSize() : 0;
+    }
+
+    /**
+     * Stops the race in progress, if any, and the session's threads.
+     */
+    @Override
+    public void close() {
+        synchronized (lock) {
+            if (current != null) {
+                current.cancel(false);
+            }
+            // not shutdownNow: a runner still queued must run to see the abort, or the race never ends
+            pool.shutdown();
+        }
+    }
+
+    private RaceControl currentControl() {
+        synchronized (lock) {
+            return control;
+        }
+    }
+
+    /**
+     * Forwards every event and notes when the first step of the race happened.
+     */
+    private final class FirstStep implements RaceListener {
+
+        private final RaceListener delegate;
+        private final long startNanos;
+        private final AtomicBoolean seen = new AtomicBoolean();
+
+        FirstStep(RaceListener delegate, long startNanos) {
+            this.delegate = delegate;
+            this.startNanos = startNanos;
+            timeToFirstStepNanos = -1;
+        }
+
+        @Override
+        public void onStep(int lane, int position) {
+            // a plain read first: after the first step this is all a runner pays
+            if (!seen.get() && seen.compareAndSet(false, true)) {
+                long elapsed = System.nanoTime() - startNanos;
+                timeToFirstStepNanos = elapsed;
+                if (RaceMetrics.ENABLED) {
+                    RaceMetrics.FIRST_STEP.record(elapsed);
+                }
+            }
+            delegate.onStep(lane, position);
+        }
+
+        @Override
+        public void onPause() {
+            delegate.onPause();
+        }
+
+        @Override
+        public void onResume() {
+            delegate.onResume();
+        }
+
+        @Override
+        public void onArrival(int lane, int position) {
+            delegate.onArrival(lane, position);
+        }
+    }
+}
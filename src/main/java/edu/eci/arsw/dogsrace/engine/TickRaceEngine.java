@@ -0,0 +1,174 @@
+package edu.eci.arsw.dogsrace.engine;
+
+import edu.eci.arsw.dogsrace.control.RaceControl;
+import edu.eci.arsw.dogsrace.control.RaceListener;
+import edu.eci.arsw.dogsrace.domain.ArrivalRegistry;
+import edu.eci.arsw.dogsrace.domain.LaneModel;
+import edu.eci.arsw.dogsrace.util.RaceRandom;
+import edu.eci.arsw.dogsrace.util.RandomGenerator;
+
+import java.util.Arrays;
+import java.util.SplittableRandom;
+
+/**
+ * Single-threaded, discrete-event race engine.
+ *
+ * One tick moves every live runner one step, exactly like one iteration of
+ * {@code Galgo.corra()} does for its own lane. Pause/resume is honored once
+ * per tick. Runners that cross the line on the same tick are registered as
+ * one batch, shuffled first: in the threaded engine their order is decided by
+ * the scheduler, so neither engine favors low lane numbers.
+ *
+ * Lanes are plain int arrays, so the engine can run very large headless races;
+ * when built from {@link LaneModel}s it also updates them as the runners would.
+ * Given a {@link RaceRandom}, the shuffles come from its engine stream and the
+ * whole race can be replayed from the seed. Steps and arrivals go to the
+ * control's {@link RaceListener} with lane i reported as i.
+ *
+ * An engine runs one race, like the registry and control it is built with:
+ * {@link #run()} throws if called again.
+ */
+public final class TickRaceEngine {
+
+    private final int[] length;
+    private final int[] paso;
+    private final LaneModel[] lanes;
+    private final ArrivalRegistry registry;
+    private final RaceControl control;
+    private final long tickDelayMillis;
+    private final SplittableRandom random;
+
+    private int ticks = 0;
+    private boolean ran = false;
+
+    /**
+     * Headless race: {@code lanes} runners named "0".."lanes-1" on tracks of equal length.
+     */
+    public TickRaceEngine(int lanes, int trackLength, ArrivalRegistry registry, RaceControl control, long tickDelayMillis) {
+        this(lanes, trackLength, registry, control, tickDelayMillis, null);
+    }
+
+    /**
+     * Reproducible headless race: same seed, same arrival order.
+     */
+    public TickRaceEngine(int lanes, int trackLength, ArrivalRegistry registry, RaceControl control, long tickDelayMillis,
+            RaceRandom random) {
+        this(lanes, null, registry, control, tickDelayMillis, random);
+        if (trackLength <= 0) {
+            throw new IllegalArgumentException("trackLength must be > 0");
+        }
+        Arrays.fill(length, trackLength);
+    }
+
+    /**
+     * Race over the given lanes; runner i is named "i" as in {@code MainCanodromo}.
+     */
+    public TickRaceEngine(LaneModel[] lanes, ArrivalRegistry registry, RaceControl control, long tickDelayMillis) {
+        this(lanes, registry, control, tickDelayMillis, null);
+    }
+
+    public TickRaceEngine(LaneModel[] lanes, ArrivalRegistry registry, RaceControl control, long tickDelayMillis,
+            RaceRandom random) {
+        this(lanes.length, lanes, registry, control, tickDelayMillis, random);
+        for (int i = 0; i < lanes.length; i++) {
+            length[i] = lanes[i].size();
+        }
+    }
+
+    private TickRaceEngine(int laneCount, LaneModel[] lanes, ArrivalRegistry registry, RaceControl control, long tickDelayMillis,
+            RaceRandom random) {
+        if (laneCount < 0) {
+            throw new IllegalArgumentException("lanes must be >= 0");
+        }
+        if (tickDelayMillis < 0) {
+            throw new IllegalArgumentException("tickDelayMillis must be >= 0");
+        }
+        this.length = new int[laneCount];
+        this.paso = new int[laneCount];
+        this.lanes = lanes;
+        this.registry = registry;
+        this.control = control;
+        this.tickDelayMillis = tickDelayMillis;
+        this.random = random == null ? null : random.engine();
+    }
+
+    /**
+     * Runs the race to completion on the calling thread.
+     *
+     * @return number of ticks it took
+     * @throws IllegalStateException if this engine already ran its race
+     */
+    public int run() throws InterruptedException {
+        synchronized (this) {
+            if (ran) {
+                throw new IllegalStateException("engine already ran its race");
+            }
+            ran = true;
+        }
+        final int[] live = new int[length.length];
+        int liveCount = 0;
+        for (int i = 0; i < length.length; i++) {
+            if (length[i] > 0) {
+                live[liveCount++] = i;
+            }
+        }
+        final int[] finished = new int[length.length];
+        final RaceListener events = control.listener();
+
+        while (liveCount > 0) {
+            control.awaitIfPaused(-1, ticks);
+            if (tickDelayMillis > 0) {
+                Thread.sleep(tickDelayMillis);
+            }
+
+            int finishedCount = 0;
+            int kept = 0;
+            for (int k = 0; k < liveCount; k++) {
+                final int lane = live[k];
+                final int step = paso[lane]++;
+                if (lanes != null) {
+                    lanes[lane].setPasoOn(step);
+                    lanes[lane].displayPasos(step + 1);
+                }
+                events.onStep(lane, step + 1);
+                if (paso[lane] == length[lane]) {
+                    if (lanes != null) {
+                        lanes[lane].finish();
+                    }
+                    finished[finishedCount++] = lane;
+                } else {
+                    live[kept++] = lane;
+                }
+            }
+            liveCount = kept;
+            ticks++;
+
+            if (finishedCount > 0) {
+                final String[] names = arrivalBatch(finished, finishedCount);
+                final int first = registry.registerArrivals(Arrays.copyOf(finished, finishedCount), names);
+                for (int k = 0; k < finishedCount; k++) {
+                    events.onArrival(finished[k], first + k);
+                }
+            }
+        }
+        return ticks;
+    }
+
+    public int getTicks() {
+        return ticks;
+    }
+
+    private String[] arrivalBatch(int[] finished, int count) {
+        for (int i = count - 1; i > 0; i--) {
+            int j = random == null ? RandomGenerator.nextInt(i + 1) : random.nextInt(i + 1);
+            int tmp = finished[i];
+            finished[i] = finished[j];
+            finished[j] = tmp;
+        }
+        String[] names = new String[count];
+        for (int i = 0; i < count; i++) {
+            names[i] = String.valueOf(finished[i]);
+        }
+        return names;
+    }
+}
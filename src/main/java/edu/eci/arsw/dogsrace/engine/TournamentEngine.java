@@ -0,0 +1,166 @@
+package edu.eci.arsw.dogsrace.engine;
+
+import edu.eci.arsw.dogsrace.control.RaceControl;
+import edu.eci.arsw.dogsrace.domain.ArrivalRegistry;
+import edu.eci.arsw.dogsrace.util.RaceRandom;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Runs many independent headless races concurrently and aggregates standings.
+ *
+ * Each race is a {@link TickRaceEngine} with its own {@link ArrivalRegistry}
+ * and {@link RaceControl}, so races share nothing while they run. A fixed pool
+ * of workers pulls race numbers from one counter and tallies results into
+ * worker-local arrays that are merged once at the end; the only shared write
+ * per race is that counter, which is why throughput grows with the cores.
+ *
+ * Race r is seeded with {@code RaceRandom.child(r)} of the tournament seed, so
+ * the same seed gives the same standings whatever the number of workers.
+ */
+public final class TournamentEngine {
+
+    private final int lanes;
+    private final int trackLength;
+    private final int parallelism;
+
+    /**
+     * Uses one worker per available processor.
+     */
+    public TournamentEngine(int lanes, int trackLength) {
+        this(lanes, trackLength, Runtime.getRuntime().availableProcessors());
+    }
+
+    public TournamentEngine(int lanes, int trackLength, int parallelism) {
+        if (lanes <= 0) {
+            throw new IllegalArgumentException("lanes must be > 0");
+        }
+        if (trackLength <= 0) {
+            throw new IllegalArgumentException("trackLength must be > 0");
+        }
+        if (parallelism <= 0) {
+            throw new IllegalArgumentException("parallelism must be > 0");
+        }
+        this.lanes = lanes;
+        this.trackLength = trackLength;
+        this.parallelism = parallelism;
+    }
+
+    /**
+     * Runs {@code races} races on the worker pool and waits for all of them.
+     */
+    public Result run(int races) throws InterruptedException {
+        return run(races, RaceRandom.random().seed());
+    }
+
+    /**
+     * Reproducible tournament: every race is derived from {@code seed}.
+     */
+    public Result run(int races, long seed) throws InterruptedException {
+        if (races < 0) {
+            throw new IllegalArgumentException("races must be >= 0");
+        }
+        final RaceRandom random = new RaceRandom(seed);
+        final AtomicInteger next = new AtomicInteger();
+        final int workers = Math.min(parallelism, Math.max(1, races));
+        final long t0 = System.nanoTime();
+
+        ExecutorService pool = Executors.newFixedThreadPool(workers, r -> {
+            Thread t = new Thread(r, "tournament-worker");
+            t.setDaemon(true);
+            return t;
+        });
+        try {
+            List<Future<Tally>> futures = new ArrayList<>(workers);
+            for (int w = 0; w < workers; w++) {
+                futures.add(pool.submit(() -> runRaces(next, races, random)));
+            }
+            Tally total = new Tally(lanes);
+            for (Future<Tally> future : futures) {
+                total.add(future.get());
+            }
+            return new Result(races, lanes, seed, total.wins, total.podiums, total.positionSum, System.nanoTime() - t0);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("race failed", e.getCause());
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    private Tally runRaces(AtomicInteger next, int races, RaceRandom random) throws InterruptedException {
+        final Tally tally = new Tally(lanes);
+        int race;
+        while ((race = next.getAndIncrement()) < races) {
+            if (Thread.interrupted()) {
+                throw new InterruptedException();
+            }
+            ArrivalRegistry registry = new ArrivalRegistry(lanes);
+            new TickRaceEngine(lanes, trackLength, registry, new RaceControl(), 0, random.child(race)).run();
+            tally.record(registry.getArrivals());
+        }
+        return tally;
+    }
+
+    /**
+     * Per-worker counters; only its own worker writes them.
+     */
+    private static final class Tally {
+
+        final long[] wins;
+        final long[] podiums;
+        final long[] positionSum;
+
+        Tally(int lanes) {
+            wins = new long[lanes];
+            podiums = new long[lanes];
+            positionSum = new long[lanes];
+        }
+
+        void record(List<ArrivalRegistry.Arrival> arrivals) {
+            for (ArrivalRegistry.Arrival arrival : arrivals) {
+                // TickRaceEngine names runner i "i"
+                int lane = Integer.parseInt(arrival.dogName());
+                int position = arrival.position();
+                if (position == 1) {
+                    wins[lane]++;
+                }
+                if (position <= 3) {
+                    podiums[lane]++;
+                }
+                positionSum[lane] += position;
+            }
+        }
+
+        void add(Tally other) {
+            for (int i = 0; i < wins.length; i++) {
+                wins[i] += other.wins[i];
+                podiums[i] += other.podiums[i];
+                positionSum[i] += other.positionSum[i];
+            }
+        }
+    }
+
+    /**
+     * Aggregated standings of a tournament. Arrays are indexed by lane.
+     */
+    public record Result(int races, int lanes, long seed, long[] wins, long[] podiums, long[] positionSum, long elapsedNanos) {
+
+        public double winShare(int lane) {
+            return races == 0 ? 0 : (double) wins[lane] / races;
+        }
+
+        public double averagePosition(int lane) {
+            return races == 0 ? 0 : (double) positionSum[lane] / races;
+        }
+
+        public double racesPerSecond() {
+            return elapsedNanos == 0 ? 0 : races * 1e9 / elapsedNanos;
+        }
+    }
+}
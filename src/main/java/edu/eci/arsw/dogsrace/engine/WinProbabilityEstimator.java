@@ -0,0 +1,227 @@
+package edu.eci.arsw.dogsrace.engine;
+
+import edu.eci.arsw.dogsrace.util.RaceRandom;
+
+import java.util.Arrays;
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * Monte Carlo estimate of win and placement probabilities per lane.
+ *
+ * A sample replays the {@code Galgo.corra()} loop for every lane without
+ * sleeping: runner i takes {@code trackLengths[i]} steps and each step costs
+ * the nominal delay plus a uniform overshoot in {@code [0, jitterMicros]}
+ * (what {@code Thread.sleep} adds in practice). Runners are ranked by total
+ * time; equal times are broken at random, as {@link TickRaceEngine} does for
+ * runners that cross the line on the same tick.
+ *
+ * Samples are split into fork/join tasks; every task gets its own
+ * {@link SplittableRandom} split from its parent, so workers never share a
+ * generator. The root stream is the engine stream of a {@link RaceRandom},
+ * so a given seed always yields the same estimate.
+ */
+public final class WinProbabilityEstimator {
+
+    /**
+     * Default sleep overshoot per step, in microseconds.
+     */
+    public static final int DEFAULT_JITTER_MICROS = 1_000;
+
+    private static final int SAMPLES_PER_TASK = 8_192;
+    private static final double Z_95 = 1.959964;
+
+    private final int[] trackLengths;
+    private final long stepMicros;
+    private final int jitterMicros;
+
+    /**
+     * {@code lanes} runners on tracks of equal length, 100 ms steps and the default jitter.
+     */
+    public WinProbabilityEstimator(int lanes, int trackLength) {
+        this(equalTracks(lanes, trackLength), 100_000, DEFAULT_JITTER_MICROS);
+    }
+
+    public WinProbabilityEstimator(int[] trackLengths, long stepMicros, int jitterMicros) {
+        if (trackLengths.length == 0) {
+            throw new IllegalArgumentException("at least one lane is required");
+        }
+        for (int length : trackLengths) {
+            if (length <= 0) {
+                throw new IllegalArgumentException("track lengths must be > 0");
+            }
+        }
+        if (stepMicros < 0) {
+            throw new IllegalArgumentException("stepMicros must be >= 0");
+        }
+        if (jitterMicros < 0) {
+            throw new IllegalArgumentException("jitterMicros must be >= 0");
+        }
+        this.trackLengths = trackLengths.clone();
+        this.stepMicros = stepMicros;
+        this.jitterMicros = jitterMicros;
+    }
+
+    public Result estimate(int samples) {
+        return estimate(samples, RaceRandom.random());
+    }
+
+    /**
+     * Reproducible estimate: the same seed gives the same counts.
+     */
+    public Result estimate(int samples, long seed) {
+        return estimate(samples, new RaceRandom(seed));
+    }
+
+    /**
+     * Estimate driven by the engine stream of {@code random}.
+     */
+    public Result estimate(int samples, RaceRandom random) {
+        if (samples <= 0) {
+            throw new IllegalArgumentException("samples must be > 0");
+        }
+        long[][] placements = ForkJoinPool.commonPool().invoke(new SampleTask(0, samples, random.engine()));
+        return new Result(samples, placements);
+    }
+
+    /**
+     * Counts of lane x finishing position over samples [from, to).
+     */
+    private final class SampleTask extends RecursiveTask<long[][]> {
+
+        private final int from;
+        private final int to;
+        private final SplittableRandom random;
+
+        SampleTask(int from, int to, SplittableRandom random) {
+            this.from = from;
+            this.to = to;
+            this.random = random;
+        }
+
+        @Override
+        protected long[][] compute() {
+            if (to - from <= SAMPLES_PER_TASK) {
+                return sample(to - from, random);
+            }
+            final int mid = (from + to) >>> 1;
+            SampleTask left = new SampleTask(from, mid, random.split());
+            SampleTask right = new SampleTask(mid, to, random);
+            left.fork();
+            long[][] counts = right.compute();
+            long[][] other = left.join();
+            for (int lane = 0; lane < counts.length; lane++) {
+                for (int p = 0; p < counts[lane].length; p++) {
+                    counts[lane][p] += other[lane][p];
+                }
+            }
+            return counts;
+        }
+    }
+
+    private long[][] sample(int samples, SplittableRandom random) {
+        final int n = trackLengths.length;
+        final long[][] counts = new long[n][n];
+        final long[] time = new long[n];
+        final int[] tie = new int[n];
+        final int[] order = new int[n];
+
+        for (int s = 0; s < samples; s++) {
+            for (int lane = 0; lane < n; lane++) {
+                time[lane] = trackLengths[lane] * stepMicros + overshoot(trackLengths[lane], random);
+                tie[lane] = random.nextInt();
+            }
+            rank(time, tie, order);
+            for (int p = 0; p < n; p++) {
+                counts[order[p]][p]++;
+            }
+        }
+        return counts;
+    }
+
+    /**
+     * Sum of {@code steps} uniform draws in [0, jitterMicros]. Each 64-bit draw
+     * yields two 32-bit values scaled by multiply-shift, which halves the calls
+     * to the generator; the bias is below jitterMicros / 2^32.
+     */
+    private long overshoot(int steps, SplittableRandom random) {
+        if (jitterMicros == 0) {
+            return 0;
+        }
+        final long bound = jitterMicros + 1L;
+        long sum = 0;
+        int step = 0;
+        for (; step + 1 < steps; step += 2) {
+            long bits = random.nextLong();
+            sum += ((bits >>> 32) * bound) >>> 32;
+            sum += ((bits & 0xFFFF_FFFFL) * bound) >>> 32;
+        }
+        if (step < steps) {
+            sum += ((random.nextLong() >>> 32) * bound) >>> 32;
+        }
+        return sum;
+    }
+
+    /**
+     * Insertion sort of lane numbers by (time, tie); fields are tens of lanes,
+     * where this beats boxing indices for a comparator sort.
+     */
+    private static void rank(long[] time, int[] tie, int[] order) {
+        for (int i = 0; i < order.length; i++) {
+            int lane = i;
+            int j = i - 1;
+            while (j >= 0 && (time[order[j]] > time[lane]
+                    || (time[order[j]] == time[lane] && tie[order[j]] > tie[lane]))) {
+                order[j + 1] = order[j];
+                j--;
+            }
+            order[j + 1] = lane;
+        }
+    }
+
+    private static int[] equalTracks(int lanes, int trackLength) {
+        if (lanes <= 0) {
+            throw new IllegalArgumentException("lanes must be > 0");
+        }
+        int[] lengths = new int[lanes];
+        Arrays.fill(lengths, trackLength);
+        return lengths;
+    }
+
+    /**
+     * A probability with its 95% Wilson score interval.
+     */
+    public record Estimate(double probability, double low, double high) {
+
+        static Estimate of(long hits, long samples) {
+            final double p = (double) hits / samples;
+            final double z2 = Z_95 * Z_95;
+            final double denominator = 1 + z2 / samples;
+            final double center = (p + z2 / (2.0 * samples)) / denominator;
+            final double margin = Z_95 * Math.sqrt(p * (1 - p) / samples + z2 / (4.0 * samples * samples)) / denominator;
+            return new Estimate(p, Math.max(0, center - margin), Math.min(1, center + margin));
+        }
+    }
+
+    /**
+     * Placement counts; {@code placements[lane][p]} is how many samples put the lane in position p + 1.
+     */
+    public record Result(int samples, long[][] placements) {
+
+        public int lanes() {
+            return placements.length;
+        }
+
+        public Estimate win(int lane) {
+            return placement(lane, 1);
+        }
+
+        /**
+         * @param position 1-based finishing position
+         */
+        public Estimate placement(int lane, int position) {
+            return Estimate.of(placements[lane][position - 1], samples);
+        }
+    }
+}
@@ -0,0 +1,26 @@
+package edu.eci.arsw.dogsrace.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * One runner taking its finishing position, alone ({@code ArrivalRegistry.registerArrival})
+ * or as part of a batch ({@code ArrivalRegistry.registerArrivals}, one event per arrival).
+ */
+@Name("dogsrace.Arrival")
+@Label("Arrival Registered")
+@Category({"Dogs Race", "Registry"})
+@Description("A runner taking its finishing position")
+@StackTrace(false)
+public class ArrivalEvent extends jdk.jfr.Event {
+
+    @Label("Lane")
+    @Description("Lane of the runner; -1 when it was registered by name only")
+    public int lane;
+
+    @Label("Position")
+    public int position;
+}
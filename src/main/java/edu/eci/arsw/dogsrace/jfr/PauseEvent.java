@@ -0,0 +1,16 @@
+package edu.eci.arsw.dogsrace.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * The race paused: begins at {@code RaceControl.pause()} and ends at the matching resume.
+ */
+@Name("dogsrace.Pause")
+@Label("Race Paused")
+@Category({"Dogs Race", "Control"})
+@Description("Interval between pausing and resuming the race")
+public class PauseEvent extends jdk.jfr.Event {
+}
@@ -0,0 +1,26 @@
+package edu.eci.arsw.dogsrace.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * A runner blocked on a paused race, from the moment it found the gate closed until it was let through.
+ */
+@Name("dogsrace.PauseWait")
+@Label("Runner Paused")
+@Category({"Dogs Race", "Runner"})
+@Description("Time a runner thread spent parked in RaceControl.awaitIfPaused")
+@StackTrace(false)
+public class PauseWaitEvent extends jdk.jfr.Event {
+
+    @Label("Lane")
+    @Description("Lane of the runner; -1 for an engine that pauses every lane at once")
+    public int lane;
+
+    @Label("Position")
+    @Description("Steps taken before the wait; the tick number for an engine that pauses every lane at once")
+    public int position;
+}
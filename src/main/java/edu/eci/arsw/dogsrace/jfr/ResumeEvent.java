@@ -0,0 +1,16 @@
+package edu.eci.arsw.dogsrace.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * {@code RaceControl.resume()} opening the gate for every parked runner.
+ */
+@Name("dogsrace.Resume")
+@Label("Resume Broadcast")
+@Category({"Dogs Race", "Control"})
+@Description("Opening the pause gate; parked runners are released from here on")
+public class ResumeEvent extends jdk.jfr.Event {
+}
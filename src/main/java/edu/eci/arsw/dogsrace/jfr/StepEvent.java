@@ -0,0 +1,25 @@
+package edu.eci.arsw.dogsrace.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * One step of a runner: the step delay plus the lane update.
+ */
+@Name("dogsrace.Step")
+@Label("Runner Step")
+@Category({"Dogs Race", "Runner"})
+@Description("One step of a Galgo, from after the pause check to the lane update")
+@StackTrace(false)
+public class StepEvent extends jdk.jfr.Event {
+
+    @Label("Lane")
+    public int lane;
+
+    @Label("Position")
+    @Description("Steps taken after this one")
+    public int position;
+}
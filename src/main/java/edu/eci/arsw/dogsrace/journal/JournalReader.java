@@ -0,0 +1,133 @@
+package edu.eci.arsw.dogsrace.journal;
+
+import java.io.IOException;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+import static edu.eci.arsw.dogsrace.journal.RaceJournal.CHUNK_BYTES;
+import static edu.eci.arsw.dogsrace.journal.RaceJournal.CHUNK_RECORDS;
+import static edu.eci.arsw.dogsrace.journal.RaceJournal.HEADER_BYTES;
+import static edu.eci.arsw.dogsrace.journal.RaceJournal.RECORD_BYTES;
+
+/**
+ * Random access to the records of a {@link RaceJournal} file.
+ *
+ * The file is mapped read-only with the same chunk layout it was written
+ * with, so reading record i is a couple of absolute loads. A journal that was
+ * not closed (the race is still running, or the process died) ends at the
+ * first slot that was never written.
+ */
+public final class JournalReader implements AutoCloseable {
+
+    private final FileChannel channel;
+    private final MappedByteBuffer[] chunks;
+    private final long startEpochMillis;
+    private final long size;
+
+    private JournalReader(FileChannel channel) throws IOException {
+        this.channel = channel;
+        final long fileSize = channel.size();
+        if (fileSize < HEADER_BYTES) {
+            throw new IOException("not a race journal: file too short");
+        }
+        MappedByteBuffer header = channel.map(FileChannel.MapMode.READ_ONLY, 0, HEADER_BYTES);
+        header.order(ByteOrder.LITTLE_ENDIAN);
+        if (header.getInt(RaceJournal.MAGIC_OFFSET) != RaceJournal.MAGIC) {
+            throw new IOException("not a race journal: bad magic number");
+        }
+        int version = header.getInt(RaceJournal.VERSION_OFFSET);
+        if (version != RaceJournal.VERSION) {
+            throw new IOException("unsupported journal version " + version);
+        }
+        this.startEpochMillis = header.getLong(RaceJournal.START_MILLIS_OFFSET);
+
+        final long body = fileSize - HEADER_BYTES;
+        chunks = new MappedByteBuffer[(int) ((body + CHUNK_BYTES - 1) / CHUNK_BYTES)];
+        for (int i = 0; i < chunks.length; i++) {
+            long offset = (long) i * CHUNK_BYTES;
+            chunks[i] = channel.map(FileChannel.MapMode.READ_ONLY, HEADER_BYTES + offset, Math.min(CHUNK_BYTES, body - offset));
+            chunks[i].order(ByteOrder.LITTLE_ENDIAN);
+        }
+
+        final long capacity = body / RECORD_BYTES;
+        final long count = header.getLong(RaceJournal.COUNT_OFFSET);
+        long written = 0;
+        final long limit = count >= 0 ? Math.min(count, capacity) : capacity;
+        while (written < limit && word(written) != 0) {
+            written++;
+        }
+        this.size = written;
+    }
+
+    public static JournalReader open(Path path) throws IOException {
+        FileChannel channel = FileChannel.open(path, StandardOpenOption.READ);
+        try {
+            return new JournalReader(channel);
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    /**
+     * Number of complete records.
+     */
+    public long size() {
+        return size;
+    }
+
+    /**
+     * Wall-clock time ({@link System#currentTimeMillis()}) when the journal was opened.
+     */
+    public long getStartEpochMillis() {
+        return startEpochMillis;
+    }
+
+    public RaceJournal.Type type(long record) {
+        return RaceJournal.Type.of((int) (word(checked(record)) >>> 56));
+    }
+
+    /**
+     * Nanoseconds from the opening of the journal to the record.
+     */
+    public long nanos(long record) {
+        return word(checked(record)) & RaceJournal.NANOS_MASK;
+    }
+
+    public int lane(long record) {
+        checked(record);
+        return chunk(record).getInt(offset(record) + 8);
+    }
+
+    public int value(long record) {
+        checked(record);
+        return chunk(record).getInt(offset(record) + 12);
+    }
+
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+
+    private long checked(long record) {
+        if (record < 0 || record >= size) {
+            throw new IndexOutOfBoundsException("record " + record + " of " + size);
+        }
+        return record;
+    }
+
+    private long word(long record) {
+        return chunk(record).getLong(offset(record));
+    }
+
+    private MappedByteBuffer chunk(long record) {
+        return chunks[(int) (record / CHUNK_RECORDS)];
+    }
+
+    private static int offset(long record) {
+        return (int) (record % CHUNK_RECORDS) * RECORD_BYTES;
+    }
+}
@@ -0,0 +1,274 @@
+package edu.eci.arsw.dogsrace.journal;
+
+import edu.eci.arsw.dogsrace.control.RaceListener;
+
+import java.io.IOException;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Append-only binary journal of a race, backed by a memory-mapped file.
+ *
+ * Every event is one fixed-size record of {@value #RECORD_BYTES} bytes:
+ * <pre>
+ *   long  type (top 8 bits) | nanoseconds since the journal was opened (56 bits)
+ *   int   lane
+ *   int   value (steps taken, or finishing position)
+ * </pre>
+ * A writer claims the next slot with one atomic increment and fills it with
+ * plain stores into the mapping, so runner threads never wait on each other or
+ * on I/O. The first word is stored last with release semantics; a slot whose
+ * type is still 0 has been claimed but not written yet. The file is mapped in
+ * chunks created on demand; the writer that fills half of a chunk hands the
+ * next one to a background thread, so writers rarely find a chunk missing and
+ * never wait for each other's mapping.
+ *
+ * {@link #close()} claims the tail in the same counter the writers use, so a
+ * writer is either inside the count stored in the header or counted in
+ * {@link #getDropped()}, and waits for every claimed slot to be written.
+ *
+ * The header holds a magic number, the format version, the wall-clock start
+ * and, once closed, the number of records. See {@link JournalReader}.
+ */
+public final class RaceJournal implements RaceListener, AutoCloseable {
+
+    /**
+     * System property with the journal path; no journal when absent.
+     */
+    public static final String PROPERTY = "dogsrace.journal";
+
+    public static final int MAGIC = 0x44_47_52_4A; // "DGRJ"
+    public static final int VERSION = 1;
+    public static final int HEADER_BYTES = 64;
+    public static final int RECORD_BYTES = 16;
+
+    static final int MAGIC_OFFSET = 0;
+    static final int VERSION_OFFSET = 4;
+    static final int START_MILLIS_OFFSET = 8;
+    static final int COUNT_OFFSET = 16;
+
+    static final int CHUNK_RECORDS = 1 << 20;
+    static final long CHUNK_BYTES = (long) CHUNK_RECORDS * RECORD_BYTES;
+    private static final int MAX_CHUNKS = 4096;
+    private static final long MAX_RECORDS = (long) MAX_CHUNKS * CHUNK_RECORDS;
+
+    /** Added to the slot counter by {@link #close()}: every slot claimed afterwards is dropped. */
+    private static final long CLOSED = 1L << 62;
+
+    static final long NANOS_MASK = (1L << 56) - 1;
+
+    static final VarHandle LONGS = MethodHandles.byteBufferViewVarHandle(long[].class, ByteOrder.LITTLE_ENDIAN);
+
+    /**
+     * Kinds of records; the code is stored in the top byte of the first word.
+     */
+    public enum Type {
+        STEP, PAUSE, RESUME, ARRIVAL;
+
+        private static final Type[] VALUES = values();
+
+        public int code() {
+            return ordinal() + 1;
+        }
+
+        public static Type of(int code) {
+            return VALUES[code - 1];
+        }
+    }
+
+    private final FileChannel channel;
+    private final MappedByteBuffer header;
+    private final AtomicReferenceArray<MappedByteBuffer> chunks = new AtomicReferenceArray<>(MAX_CHUNKS);
+    private final AtomicLong next = new AtomicLong();
+    /** Slots below the closing count that have been written or dropped. */
+    private final LongAdder settled = new LongAdder();
+    private final AtomicLong dropped = new AtomicLong();
+    private final long startNanos;
+    /** Records claimed before {@link #close()}, or -1 while open. */
+    private volatile long count = -1;
+
+    private RaceJournal(FileChannel channel) throws IOException {
+        this.channel = channel;
+        this.header = channel.map(FileChannel.MapMode.READ_WRITE, 0, HEADER_BYTES);
+        header.order(ByteOrder.LITTLE_ENDIAN);
+        header.putInt(MAGIC_OFFSET, MAGIC);
+        header.putInt(VERSION_OFFSET, VERSION);
+        header.putLong(START_MILLIS_OFFSET, System.currentTimeMillis());
+        header.putLong(COUNT_OFFSET, -1);
+        this.startNanos = System.nanoTime();
+        if (chunk(0) == null) {
+            throw new IOException("cannot map the first journal chunk");
+        }
+    }
+
+    /**
+     * Creates (or truncates) the journal file at {@code path}.
+     */
+    public static RaceJournal create(Path path) throws IOException {
+        FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING,
+                StandardOpenOption.READ, StandardOpenOption.WRITE);
+        try {
+            return new RaceJournal(channel);
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    /**
+     * Journal at the path given by -Ddogsrace.journal, or {@code null} if it is not set.
+     */
+    public static RaceJournal fromSystemProperties() throws IOException {
+        String path = System.getProperty(PROPERTY);
+        return path == null || path.isBlank() ? null : create(Path.of(path));
+    }
+
+    @Override
+    public void onStep(int lane, int position) {
+        append(Type.STEP, lane, position);
+    }
+
+    @Override
+    public void onPause() {
+        append(Type.PAUSE, -1, 0);
+    }
+
+    @Override
+    public void onResume() {
+        append(Type.RESUME, -1, 0);
+    }
+
+    @Override
+    public void onArrival(int lane, int position) {
+        append(Type.ARRIVAL, lane, position);
+    }
+
+    /**
+     * Appends one record; never blocks. Records past the last chunk, after
+     * {@link #close()} or that could not be mapped are counted in
+     * {@link #getDropped()} instead: the journal never stops a race.
+     */
+    public void append(Type type, int lane, int value) {
+        append(System.nanoTime() - startNanos, type, lane, value);
+    }
+
+    /**
+     * Appends one record with the given timestamp (nanoseconds since the journal was opened).
+     */
+    void append(long nanos, Type type, int lane, int value) {
+        final long slot = next.getAndIncrement();
+        if (slot >= CLOSED) {
+            dropped.incrementAndGet();
+            return;
+        }
+        if (!write(slot, nanos, type, lane, value)) {
+            dropped.incrementAndGet();
+        }
+        settled.increment();
+    }
+
+    private boolean write(long slot, long nanos, Type type, int lane, int value) {
+        final int chunk = (int) (slot / CHUNK_RECORDS);
+        if (chunk >= MAX_CHUNKS) {
+            return false;
+        }
+        final int index = (int) (slot % CHUNK_RECORDS);
+        if (index == CHUNK_RECORDS / 2 && chunk + 1 < MAX_CHUNKS) {
+            prefetch(chunk + 1);
+        }
+        final MappedByteBuffer buffer = chunk(chunk);
+        if (buffer == null) {
+            return false;
+        }
+        final int offset = index * RECORD_BYTES;
+        buffer.putInt(offset + 8, lane);
+        buffer.putInt(offset + 12, value);
+        LONGS.setRelease(buffer, offset, ((long) type.code() << 56) | (nanos & NANOS_MASK));
+        return true;
+    }
+
+    /**
+     * Records claimed so far (written or about to be).
+     */
+    public long size() {
+        final long claimed = next.get();
+        if (claimed < CLOSED) {
+            return Math.min(claimed, MAX_RECORDS);
+        }
+        long closing;
+        // close() publishes the count right after claiming the tail
+        while ((closing = count) < 0) {
+            Thread.onSpinWait();
+        }
+        return closing;
+    }
+
+    public long getDropped() {
+        return dropped.get();
+    }
+
+    /**
+     * Stops accepting records, waits for the ones already claimed, stores the
+     * record count in the header, flushes the file and trims the unused tail
+     * of the last mapped chunk.
+     */
+    @Override
+    public void close() throws IOException {
+        long claimed;
+        do {
+            claimed = next.get();
+            if (claimed >= CLOSED) {
+                return;
+            }
+        } while (!next.compareAndSet(claimed, claimed + CLOSED));
+        count = Math.min(claimed, MAX_RECORDS);
+        // writers past the check hold slots below claimed: let them finish
+        while (settled.sum() < claimed) {
+            Thread.yield();
+        }
+        header.putLong(COUNT_OFFSET, count);
+        for (int i = 0; i < MAX_CHUNKS; i++) {
+            MappedByteBuffer buffer = chunks.get(i);
+            if (buffer == null) {
+                break;
+            }
+            buffer.force();
+        }
+        header.force();
+        channel.truncate(HEADER_BYTES + count * RECORD_BYTES);
+        channel.close();
+    }
+
+    /**
+     * Maps {@code chunk} on a background thread, so the writers that reach it find it ready.
+     */
+    private void prefetch(int chunk) {
+        if (chunks.get(chunk) == null) {
+            Thread.ofPlatform().daemon(true).name("race-journal-map").start(() -> chunk(chunk));
+        }
+    }
+
+    private MappedByteBuffer chunk(int chunk) {
+        MappedByteBuffer buffer = chunks.get(chunk);
+        if (buffer != null) {
+            return buffer;
+        }
+        // slow path: mapping is a system call, so it runs without any lock; if two
+        // threads race, the first mapping installed wins and the other one is dropped
+        try {
+            buffer = channel.map(FileChannel.MapMode.READ_WRITE, HEADER_BYTES + chunk * CHUNK_BYTES, CHUNK_BYTES);
+        } catch (IOException e) {
+            return chunks.get(chunk);
+        }
+        buffer.order(ByteOrder.LITTLE_ENDIAN);
+        return chunks.compareAndSet(chunk, null, buffer) ? buffer : chunks.get(chunk);
+    }
+}
@@ -0,0 +1,468 @@
+package edu.eci.arsw.dogsrace.journal;
+
+import edu.eci.arsw.dogsrace.domain.Lane;
+import edu.eci.arsw.dogsrace.domain.LaneModel;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Plays a recorded race back into a set of lanes, at any speed and from any instant.
+ *
+ * Opening the player scans the journal up front and keeps a keyframe every
+ * {@code keyframeInterval} records: the position and finish flag of every lane
+ * at that record. Seeking restores the nearest keyframe before the target and
+ * applies at most one interval of records on top of it, so a jump costs the
+ * same at the start or the end of a long race. Only lanes whose state changes
+ * are written to the sink.
+ *
+ * The sink receives the same calls a live runner makes ({@code setPasoOn},
+ * {@code displayPasos}, {@code finish}, and {@code reStart} when a seek goes
+ * back), so a {@code Carril} shows a replay exactly like a live race. Pauses
+ * and resumes are kept as the gap they left in the timeline.
+ *
+ * Replay time is the journal clock: nanoseconds since the journal was opened.
+ * Records written concurrently may carry slightly out-of-order timestamps; a
+ * record is shown at the latest timestamp seen up to it, so time never goes back.
+ *
+ * {@link #play()} holds the lock for at most {@code BATCH} records in a row,
+ * so a {@link #seek(long)} from the UI waits for one batch at most, and
+ * {@link #getTime()}, {@link #getSpeed()} and {@link #isPlaying()} read a
+ * volatile snapshot of the clock without taking the lock at all.
+ */
+public final class ReplayPlayer {
+
+    public static final double MIN_SPEED = 0.1;
+    public static final double MAX_SPEED = Double.POSITIVE_INFINITY;
+    public static final int DEFAULT_KEYFRAME_INTERVAL = 1 << 16;
+
+    /**
+     * Records applied between chances for {@link #seek(long)} or {@link #stop()} to get in at max speed.
+     */
+    private static final int BATCH = 1024;
+
+    private record Keyframe(long record, long time, int[] positions, boolean[] finished) { }
+
+    /**
+     * Replay clock: replay time at {@code anchorNanos}, and how it advances from there.
+     */
+    private record Timeline(long time, long anchorNanos, double speed, boolean playing) {
+
+        long now(long duration) {
+            if (!playing || speed == MAX_SPEED) {
+                return time;
+            }
+            long elapsed = (long) ((System.nanoTime() - anchorNanos) * speed);
+            return Math.min(duration, time + elapsed);
+        }
+
+        /** A clock that reads {@code time} now and advances at {@code speed} if playing. */
+        Timeline at(long time, double speed, boolean playing) {
+            return new Timeline(time, System.nanoTime(), speed, playing);
+        }
+    }
+
+    private final JournalReader reader;
+    private final Keyframe[] keyframes;
+    private final int lanes;
+    private final int trackLength;
+    private final int winner;
+    private final long duration;
+
+    // fair, so a seek from the UI gets in between two batches of play()
+    private final ReentrantLock lock = new ReentrantLock(true);
+    private final Condition changed = lock.newCondition();
+
+    private final int[] positions;
+    private final boolean[] finished;
+    private final int[] targetPositions;
+    private final boolean[] targetFinished;
+    private LaneModel[] sink = new LaneModel[0];
+
+    /** Next record to apply. */
+    private long cursor = 0;
+    /** Timeline instant of the last applied record. */
+    private long clock = 0;
+    /** Replaced under the lock, read without it. */
+    private volatile Timeline timeline = new Timeline(0, 0, 1.0, false);
+
+    public ReplayPlayer(JournalReader reader) {
+        this(reader, DEFAULT_KEYFRAME_INTERVAL);
+    }
+
+    public ReplayPlayer(JournalReader reader, int keyframeInterval) {
+        if (keyframeInterval <= 0) {
+            throw new IllegalArgumentException("keyframeInterval must be > 0");
+        }
+        this.reader = Objects.requireNonNull(reader, "reader");
+
+        // first pass: dimensions of the race
+        int maxLane = -1;
+        int maxStep = 0;
+        int first = -1;
+        long end = 0;
+        for (long i = 0; i < reader.size(); i++) {
+            end = Math.max(end, reader.nanos(i));
+            int lane = reader.lane(i);
+            if (lane < 0) {
+                continue;
+            }
+            maxLane = Math.max(maxLane, lane);
+            RaceJournal.Type type = reader.type(i);
+            if (type == RaceJournal.Type.STEP) {
+                maxStep = Math.max(maxStep, reader.value(i));
+            } else if (type == RaceJournal.Type.ARRIVAL && reader.value(i) == 1) {
+                first = lane;
+            }
+        }
+        this.lanes = maxLane + 1;
+        this.trackLength = maxStep;
+        this.winner = first;
+        this.duration = end;
+
+        this.positions = new int[lanes];
+        this.finished = new boolean[lanes];
+        this.targetPositions = new int[lanes];
+        this.targetFinished = new boolean[lanes];
+
+        // second pass: a snapshot of every lane each keyframeInterval records
+        List<Keyframe> index = new ArrayList<>();
+        long at = 0;
+        for (long i = 0; i < reader.size(); i++) {
+            if (i % keyframeInterval == 0) {
+                index.add(new Keyframe(i, at, positions.clone(), finished.clone()));
+            }
+            at = Math.max(at, reader.nanos(i));
+            applyTo(i, positions, finished);
+        }
+        if (index.isEmpty()) {
+            index.add(new Keyframe(0, 0, positions.clone(), finished.clone()));
+        }
+        this.keyframes = index.toArray(new Keyframe[0]);
+        Arrays.fill(positions, 0);
+        Arrays.fill(finished, false);
+    }
+
+    /**
+     * Lanes referenced by the journal (highest lane number + 1).
+     */
+    public int getLanes() {
+        return lanes;
+    }
+
+    /**
+     * Longest distance any lane covered, in steps.
+     */
+    public int getTrackLength() {
+        return trackLength;
+    }
+
+    /**
+     * Lane that arrived first, or -1 if nobody finished.
+     */
+    public int getWinner() {
+        return winner;
+    }
+
+    /**
+     * Replay time of the last record, in nanoseconds.
+     */
+    public long getDuration() {
+        return duration;
+    }
+
+    public int getKeyframes() {
+        return keyframes.length;
+    }
+
+    public long getRecords() {
+        return reader.size();
+    }
+
+    /**
+     * Headless lanes sized for this race, named after their lane number like the live ones.
+     */
+    public LaneModel[] newLanes() {
+        LaneModel[] models = new LaneModel[lanes];
+        for (int i = 0; i < lanes; i++) {
+            models[i] = new Lane(trackLength, String.valueOf(i));
+        }
+        return models;
+    }
+
+    /**
+     * Sends the replay to {@code lanes} from now on; they are first brought to the current instant.
+     */
+    public void attach(LaneModel... lanes) {
+        if (lanes.length < this.lanes) {
+            throw new IllegalArgumentException("the journal needs " + this.lanes + " lanes, got " + lanes.length);
+        }
+        lock.lock();
+        try {
+            for (int i = 0; i < this.lanes; i++) {
+                LaneModel lane = lanes[i];
+                lane.reStart();
+                for (int k = 0; k < positions[i]; k++) {
+                    lane.setPasoOn(k);
+                }
+                if (positions[i] > 0) {
+                    lane.displayPasos(positions[i]);
+                }
+                if (finished[i]) {
+                    lane.finish();
+                }
+            }
+            sink = lanes.clone();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public int getPosition(int lane) {
+        lock.lock();
+        try {
+            return positions[lane];
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public boolean isFinished(int lane) {
+        lock.lock();
+        try {
+            return finished[lane];
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Current replay time in nanoseconds, from 0 to {@link #getDuration()}.
+     */
+    public long getTime() {
+        return timeline.now(duration);
+    }
+
+    public double getSpeed() {
+        return timeline.speed();
+    }
+
+    /**
+     * Replay speed relative to the recording: from {@link #MIN_SPEED} up to
+     * {@link #MAX_SPEED}, which applies records as fast as possible.
+     * Takes effect immediately, also during {@link #play()}.
+     */
+    public void setSpeed(double speed) {
+        if (!(speed >= MIN_SPEED)) {
+            throw new IllegalArgumentException("speed must be >= " + MIN_SPEED);
+        }
+        lock.lock();
+        try {
+            Timeline current = timeline;
+            timeline = current.at(current.now(duration), speed, current.playing());
+            changed.signalAll();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public boolean isPlaying() {
+        return timeline.playing();
+    }
+
+    /**
+     * Jumps to {@code nanos} of replay time (clamped to the race), also during {@link #play()}.
+     */
+    public void seek(long nanos) {
+        final long target = Math.max(0, Math.min(nanos, duration));
+        lock.lock();
+        try {
+            Keyframe keyframe = keyframeAt(target);
+            System.arraycopy(keyframe.positions(), 0, targetPositions, 0, lanes);
+            System.arraycopy(keyframe.finished(), 0, targetFinished, 0, lanes);
+            long record = keyframe.record();
+            long at = keyframe.time();
+            final long size = reader.size();
+            while (record < size) {
+                long next = Math.max(at, reader.nanos(record));
+                if (next > target) {
+                    break;
+                }
+                at = next;
+                applyTo(record++, targetPositions, targetFinished);
+            }
+            for (int i = 0; i < lanes; i++) {
+                if (targetPositions[i] != positions[i] || targetFinished[i] != finished[i]) {
+                    show(i, targetPositions[i], targetFinished[i]);
+                }
+            }
+            cursor = record;
+            clock = at;
+            Timeline current = timeline;
+            timeline = current.at(target, current.speed(), current.playing());
+            changed.signalAll();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Plays from the current instant until the end of the race or {@link #stop()}.
+     *
+     * @return true if the end of the race was reached
+     */
+    public boolean play() throws InterruptedException {
+        lock.lockInterruptibly();
+        try {
+            Timeline current = timeline;
+            if (current.playing()) {
+                throw new IllegalStateException("already playing");
+            }
+            timeline = current.at(current.time(), current.speed(), true);
+            final long size = reader.size();
+            try {
+                int burst = 0;
+                while ((current = timeline).playing() && cursor < size) {
+                    if (current.speed() == MAX_SPEED) {
+                        long stop = Math.min(size, cursor + BATCH);
+                        while (cursor < stop) {
+                            clock = Math.max(clock, reader.nanos(cursor));
+                            apply(cursor++);
+                        }
+                        timeline = current.at(clock, MAX_SPEED, true);
+                        letOthersIn();
+                        continue;
+                    }
+                    long due = Math.max(clock, reader.nanos(cursor));
+                    long wait = due - current.now(duration);
+                    if (wait <= 0) {
+                        clock = due;
+                        apply(cursor++);
+                        // many records can be due at once: do not hold the lock for all of them
+                        if (++burst == BATCH) {
+                            burst = 0;
+                            letOthersIn();
+                        }
+                    } else {
+                        burst = 0;
+                        changed.awaitNanos((long) Math.ceil(wait / current.speed()));
+                    }
+                }
+                return cursor >= size;
+            } finally {
+                current = timeline;
+                timeline = current.at(cursor < size ? current.now(duration) : duration, current.speed(), false);
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Lets a waiting seek or stop in between two batches of {@link #play()}; the lock is fair.
+     */
+    private void letOthersIn() {
+        lock.unlock();
+        lock.lock();
+    }
+
+    /**
+     * Stops {@link #play()} at the current instant; a later call to play resumes from there.
+     */
+    public void stop() {
+        lock.lock();
+        try {
+            Timeline current = timeline;
+            if (current.playing()) {
+                timeline = current.at(current.now(duration), current.speed(), false);
+                changed.signalAll();
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private Keyframe keyframeAt(long nanos) {
+        int low = 0;
+        int high = keyframes.length - 1;
+        while (low < high) {
+            int mid = (low + high + 1) >>> 1;
+            if (keyframes[mid].time() <= nanos) {
+                low = mid;
+            } else {
+                high = mid - 1;
+            }
+        }
+        return keyframes[low];
+    }
+
+    private void applyTo(long record, int[] positions, boolean[] finished) {
+        int lane = reader.lane(record);
+        if (lane < 0) {
+            return;
+        }
+        switch (reader.type(record)) {
+            case STEP -> positions[lane] = Math.max(positions[lane], reader.value(record));
+            case ARRIVAL -> finished[lane] = true;
+            default -> { }
+        }
+    }
+
+    /**
+     * Applies one record to the current state and the sink.
+     */
+    private void apply(long record) {
+        int lane = reader.lane(record);
+        if (lane < 0) {
+            return;
+        }
+        switch (reader.type(record)) {
+            case STEP -> {
+                int step = reader.value(record);
+                if (step > positions[lane]) {
+                    show(lane, step, finished[lane]);
+                }
+            }
+            case ARRIVAL -> {
+                if (!finished[lane]) {
+                    show(lane, positions[lane], true);
+                }
+            }
+            default -> { }
+        }
+    }
+
+    /**
+     * Moves lane {@code i} to the given state, with the calls a runner would make.
+     */
+    private void show(int i, int position, boolean done) {
+        int from = positions[i];
+        boolean wasFinished = finished[i];
+        LaneModel lane = i < sink.length ? sink[i] : null;
+        if (position < from || (wasFinished && !done)) {
+            // going back: start the lane over, as a new race would
+            from = 0;
+            wasFinished = false;
+            if (lane != null) {
+                lane.reStart();
+            }
+        }
+        if (lane != null) {
+            for (int k = from; k < position; k++) {
+                lane.setPasoOn(k);
+            }
+            if (position > from) {
+                lane.displayPasos(position);
+            }
+            if (done && !wasFinished) {
+                lane.finish();
+            }
+        }
+        positions[i] = position;
+        finished[i] = done;
+    }
+}
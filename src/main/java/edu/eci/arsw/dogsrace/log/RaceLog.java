@@ -0,0 +1,275 @@
+package edu.eci.arsw.dogsrace.log;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Console (or file) output of the race that never makes a runner wait on I/O.
+ *
+ * {@code System.out} is a synchronized {@link PrintStream}: a runner that
+ * prints holds its lock for the whole write, and every other runner printing
+ * at the same time queues behind it. Here a runner only claims a slot in a
+ * preallocated ring (one CAS) and stores the message's format and arguments;
+ * a single background thread formats what is pending, writes it as one batch
+ * and flushes once per batch. When the ring is full the message is dropped and
+ * counted ({@link #getDropped()}) rather than waited for; the drainer reports
+ * new drops in the output itself.
+ *
+ * The ring is a bounded multi-producer, single-consumer queue: each slot has
+ * a sequence number that says whether it is free for the producer of lap n
+ * or holds a message for the consumer, so producers never lock and the
+ * drainer never CASes.
+ *
+ * {@link #shared()} is the log of the process: standard output, or the file
+ * given by {@code -Ddogsrace.log}, with {@code -Ddogsrace.log.capacity}
+ * slots. It is flushed and closed on exit.
+ */
+public final class RaceLog implements AutoCloseable {
+
+    /**
+     * System property with the log file path; standard output when absent.
+     */
+    public static final String PROPERTY = "dogsrace.log";
+    public static final String CAPACITY_PROPERTY = "dogsrace.log.capacity";
+    public static final int DEFAULT_CAPACITY = 8192;
+
+    /** Longest the drainer sleeps with nothing to write. */
+    static final long IDLE_PARK_NANOS = TimeUnit.MILLISECONDS.toNanos(10);
+
+    private static final class Holder {
+        static final RaceLog SHARED = fromSystemProperties();
+    }
+
+    private final PrintStream out;
+    private final boolean closeOut;
+    private final int mask;
+    private final AtomicLongArray sequences;
+    private final String[] formats;
+    private final Object[][] args;
+    private final AtomicLong tail = new AtomicLong();
+    private final AtomicLong dropped = new AtomicLong();
+    private final AtomicLong written = new AtomicLong();
+    private final Thread drainer;
+    /** Next slot to drain; drainer thread only. */
+    private long head = 0;
+    private long reportedDrops = 0;
+    private volatile boolean closed = false;
+
+    /**
+     * Log writing to {@code out}, which it flushes but does not close.
+     *
+     * @param capacity number of slots, rounded up to a power of two
+     */
+    public RaceLog(PrintStream out, int capacity) {
+        this(out, false, capacity);
+    }
+
+    private RaceLog(PrintStream out, boolean closeOut, int capacity) {
+        if (out == null) {
+            throw new IllegalArgumentException("out must not be null");
+        }
+        if (capacity <= 0 || capacity > 1 << 30) {
+            throw new IllegalArgumentException("capacity must be in (0, 2^30]");
+        }
+        final int size = Integer.highestOneBit(capacity) == capacity ? capacity : Integer.highestOneBit(capacity) << 1;
+        this.out = out;
+        this.closeOut = closeOut;
+        this.mask = size - 1;
+        this.sequences = new AtomicLongArray(size);
+        for (int i = 0; i < size; i++) {
+            sequences.set(i, i);
+        }
+        this.formats = new String[size];
+        this.args = new Object[size][];
+        this.drainer = new Thread(this::drain, "race-log");
+        drainer.setDaemon(true);
+        drainer.start();
+    }
+
+    /**
+     * Log appending to the file at {@code path} (created if missing).
+     */
+    public static RaceLog toFile(Path path, int capacity) throws IOException {
+        OutputStream file = Files.newOutputStream(path, StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+        return new RaceLog(new PrintStream(file, false, StandardCharsets.UTF_8), true, capacity);
+    }
+
+    /**
+     * The log of the process (see the class comment).
+     */
+    public static RaceLog shared() {
+        return Holder.SHARED;
+    }
+
+    private static RaceLog fromSystemProperties() {
+        final String capacity = System.getProperty(CAPACITY_PROPERTY);
+        final int slots = capacity == null || capacity.isBlank() ? DEFAULT_CAPACITY : Integer.parseInt(capacity.trim());
+        final String path = System.getProperty(PROPERTY);
+        RaceLog log;
+        if (path == null || path.isBlank()) {
+            log = new RaceLog(System.out, slots);
+        } else {
+            try {
+                log = toFile(Path.of(path), slots);
+            } catch (IOException e) {
+                System.err.println("No se pudo abrir el log " + path + ": " + e.getMessage());
+                log = new RaceLog(System.out, slots);
+            }
+        }
+        final RaceLog shared = log;
+        Runtime.getRuntime().addShutdownHook(new Thread(shared::close, "race-log-close"));
+        return shared;
+    }
+
+    /**
+     * Queues one line; never blocks.
+     *
+     * @return false if the message was dropped (log full or closed)
+     */
+    public boolean log(String line) {
+        return offer(line, null);
+    }
+
+    /**
+     * Queues one line, formatted with {@link String#format} on the drainer thread; never blocks.
+     * A line separator is added, so {@code format} should not end with {@code %n}.
+     *
+     * @return false if the message was dropped (log full or closed)
+     */
+    public boolean logf(String format, Object... arguments) {
+        return offer(format, arguments);
+    }
+
+    private boolean offer(String format, Object[] arguments) {
+        if (closed) {
+            dropped.incrementAndGet();
+            return false;
+        }
+        long slot = tail.get();
+        while (true) {
+            final int index = (int) slot & mask;
+            final long sequence = sequences.get(index);
+            if (sequence == slot) {
+                if (tail.compareAndSet(slot, slot + 1)) {
+                    formats[index] = format;
+                    args[index] = arguments;
+                    // publishes the message to the drainer
+                    sequences.lazySet(index, slot + 1);
+                    return true;
+                }
+                slot = tail.get();
+            } else if (sequence < slot) {
+                // the drainer has not freed this slot since the last lap: full
+                dropped.incrementAndGet();
+                return false;
+            } else {
+                slot = tail.get();
+            }
+        }
+    }
+
+    private void drain() {
+        final StringBuilder batch = new StringBuilder(4096);
+        while (true) {
+            final boolean closing = closed;
+            final int lines = takeBatch(batch);
+            final long drops = dropped.get();
+            if (drops != reportedDrops) {
+                batch.append("[log] ").append(drops - reportedDrops).append(" mensajes descartados")
+                        .append(System.lineSeparator());
+                reportedDrops = drops;
+            }
+            if (batch.length() > 0) {
+                out.print(batch);
+                out.flush();
+                written.addAndGet(lines);
+                batch.setLength(0);
+            } else if (closing) {
+                // everything published before close() has been written
+                return;
+            } else {
+                LockSupport.parkNanos(this, IDLE_PARK_NANOS);
+            }
+        }
+    }
+
+    /**
+     * Moves every published message into {@code batch}, freeing their slots. Returns how many.
+     */
+    private int takeBatch(StringBuilder batch) {
+        int lines = 0;
+        while (true) {
+            final int index = (int) head & mask;
+            if (sequences.get(index) != head + 1) {
+                return lines;
+            }
+            final String format = formats[index];
+            final Object[] arguments = args[index];
+            formats[index] = null;
+            args[index] = null;
+            sequences.lazySet(index, head + mask + 1);
+            head++;
+            try {
+                batch.append(arguments == null ? format : String.format(format, arguments));
+            } catch (RuntimeException e) {
+                batch.append("[log] formato invalido '").append(format).append("': ").append(e);
+            }
+            batch.append(System.lineSeparator());
+            lines++;
+        }
+    }
+
+    /**
+     * Messages dropped because the log was full or already closed.
+     */
+    public long getDropped() {
+        return dropped.get();
+    }
+
+    /**
+     * Messages written out so far.
+     */
+    public long getWritten() {
+        return written.get();
+    }
+
+    public int getCapacity() {
+        return mask + 1;
+    }
+
+    /**
+     * Stops accepting messages, waits for the drainer to write the ones already queued and,
+     * for a file log, closes the file. A message logged while this runs may be lost.
+     */
+    @Override
+    public void close() {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        LockSupport.unpark(drainer);
+        boolean interrupted = false;
+        while (drainer.isAlive()) {
+            try {
+                drainer.join();
+            } catch (InterruptedException e) {
+                interrupted = true;
+            }
+        }
+        if (closeOut) {
+            out.close();
+        }
+        if (interrupted) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,225 @@
+package edu.eci.arsw.dogsrace.metrics;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Concurrent latency histogram with log-linear buckets, in the style of HdrHistogram.
+ *
+ * Every power of two is split into {@value #SUB_BUCKETS} linear buckets, so a
+ * recorded value is known within 1/{@value #SUB_BUCKETS} (about 3%) from 1 ns
+ * up to {@link #MAX_VALUE}; larger values land in the last bucket.
+ *
+ * Recording never allocates and never blocks: the thread picks one of a few
+ * stripes of counters by its id and increments one bucket. Stripes keep
+ * runners on different cores off each other's cache lines, and are added up
+ * only when a {@link #snapshot()} is taken, which can happen at any time while
+ * the race runs.
+ */
+public final class LatencyHistogram {
+
+    static final int SUB_BUCKET_BITS = 5;
+    static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+    private static final int MAX_EXPONENT = 42;
+
+    /**
+     * Largest value told apart from larger ones (about 73 minutes in nanoseconds).
+     */
+    public static final long MAX_VALUE = (1L << MAX_EXPONENT) - 1;
+
+    static final int BUCKETS = (MAX_EXPONENT - SUB_BUCKET_BITS + 1) * SUB_BUCKETS;
+
+    private final String name;
+    private final int stripeMask;
+    private final AtomicLongArray counts;
+
+    public LatencyHistogram(String name) {
+        this(name, Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * @param stripes sets of counters to spread concurrent writers over (rounded up to a power of two)
+     */
+    public LatencyHistogram(String name, int stripes) {
+        if (stripes <= 0) {
+            throw new IllegalArgumentException("stripes must be > 0");
+        }
+        int rounded = Integer.highestOneBit(Math.min(stripes, 1 << 10));
+        if (rounded < stripes) {
+            rounded <<= 1;
+        }
+        this.name = name;
+        this.stripeMask = rounded - 1;
+        this.counts = new AtomicLongArray(rounded * BUCKETS);
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Records one latency in nanoseconds; negative values count as 0.
+     */
+    public void record(long nanos) {
+        counts.getAndIncrement(stripe() * BUCKETS + bucketOf(nanos));
+    }
+
+    /**
+     * Records the time elapsed since {@code startNanos} ({@link System#nanoTime()}).
+     */
+    public void recordSince(long startNanos) {
+        record(System.nanoTime() - startNanos);
+    }
+
+    /**
+     * Adds up all stripes. Values recorded meanwhile may or may not be included.
+     */
+    public Snapshot snapshot() {
+        final long[] merged = new long[BUCKETS];
+        final int stripes = stripeMask + 1;
+        for (int s = 0; s < stripes; s++) {
+            final int base = s * BUCKETS;
+            for (int b = 0; b < BUCKETS; b++) {
+                merged[b] += counts.get(base + b);
+            }
+        }
+        return new Snapshot(name, merged);
+    }
+
+    /**
+     * Forgets everything recorded so far (not atomic with concurrent writers).
+     */
+    public void reset() {
+        for (int i = 0; i < counts.length(); i++) {
+            counts.set(i, 0);
+        }
+    }
+
+    private int stripe() {
+        // Fibonacci hashing spreads consecutive thread ids over the stripes
+        return (int) ((Thread.currentThread().threadId() * 0x9E3779B97F4A7C15L) >>> 40) & stripeMask;
+    }
+
+    static int bucketOf(long value) {
+        if (value < SUB_BUCKETS) {
+            return value <= 0 ? 0 : (int) value;
+        }
+        if (value > MAX_VALUE) {
+            return BUCKETS - 1;
+        }
+        final int exponent = 63 - Long.numberOfLeadingZeros(value);
+        final int sub = (int) (value >>> (exponent - SUB_BUCKET_BITS)) & (SUB_BUCKETS - 1);
+        return (exponent - SUB_BUCKET_BITS + 1) * SUB_BUCKETS + sub;
+    }
+
+    /**
+     * Largest value that falls in {@code bucket}.
+     */
+    static long highestValueOf(int bucket) {
+        if (bucket < SUB_BUCKETS) {
+            return bucket;
+        }
+        final int shift = bucket / SUB_BUCKETS - 1;
+        final long lowest = (long) (SUB_BUCKETS + bucket % SUB_BUCKETS) << shift;
+        return lowest + (1L << shift) - 1;
+    }
+
+    /**
+     * Counts of a histogram at one instant.
+     */
+    public static final class Snapshot {
+
+        private final String name;
+        private final long[] counts;
+        private final long count;
+
+        Snapshot(String name, long[] counts) {
+            this.name = name;
+            this.counts = counts;
+            long total = 0;
+            for (long c : counts) {
+                total += c;
+            }
+            this.count = total;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public long count() {
+            return count;
+        }
+
+        /**
+         * Value (nanoseconds) at or below which {@code percentile}% of the recorded values fall,
+         * rounded up to the end of its bucket; 0 when nothing was recorded.
+         */
+        public long percentile(double percentile) {
+            if (percentile < 0 || percentile > 100) {
+                throw new IllegalArgumentException("percentile must be in [0, 100]");
+            }
+            if (count == 0) {
+                return 0;
+            }
+            final long rank = Math.max(1, (long) Math.ceil(percentile / 100 * count));
+            long seen = 0;
+            for (int b = 0; b < counts.length; b++) {
+                seen += counts[b];
+                if (seen >= rank) {
+                    return highestValueOf(b);
+                }
+            }
+            return highestValueOf(counts.length - 1);
+        }
+
+        public long p50() {
+            return percentile(50);
+        }
+
+        public long p99() {
+            return percentile(99);
+        }
+
+        public long p999() {
+            return percentile(99.9);
+        }
+
+        public long max() {
+            return percentile(100);
+        }
+
+        /**
+         * Mean of the bucket midpoints, in nanoseconds.
+         */
+        public double mean() {
+            if (count == 0) {
+                return 0;
+            }
+            double sum = 0;
+            for (int b = 0; b < counts.length; b++) {
+                if (counts[b] != 0) {
+                    long high = highestValueOf(b);
+                    long low = b == 0 ? 0 : highestValueOf(b - 1) + 1;
+                    sum += counts[b] * ((low + high) / 2.0);
+                }
+            }
+            return sum / count;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("%s: n=%d p50=%s p99=%s p999=%s max=%s", name, count,
+                    format(p50()), format(p99()), format(p999()), format(max()));
+        }
+
+        static String format(long nanos) {
+            if (nanos >= 1_000_000) {
+                return String.format("%.1fms", nanos / 1e6);
+            }
+            if (nanos >= 1_000) {
+                return String.format("%.1fus", nanos / 1e3);
+            }
+            return nanos + "ns";
+        }
+    }
+}
@@ -0,0 +1,74 @@
+package edu.eci.arsw.dogsrace.metrics;
+
+/**
+ * Latency histograms of the race hot paths, shared by every race of the process.
+ *
+ * <ul>
+ *   <li>{@link #STEP}: one {@code Galgo} step, from the end of the pause check
+ *       to the lane update (the nominal step delay plus whatever the scheduler adds)</li>
+ *   <li>{@link #PAUSE_WAIT}: time a runner spent blocked in
+ *       {@code RaceControl.awaitIfPaused} because the race was paused</li>
+ *   <li>{@link #ARRIVAL}: one {@code ArrivalRegistry.registerArrival} call</li>
+ *   <li>{@link #FIRST_STEP}: from starting a {@code RaceSession} race to the
+ *       first step of any of its lanes</li>
+ *   <li>{@link #TEARDOWN}: from aborting a race to the moment its last
+ *       runner stopped</li>
+ *   <li>{@link #START_SKEW}: from a {@code StartingGate} opening to each
+ *       runner getting past it</li>
+ * </ul>
+ *
+ * Recording is on by default; {@code -Ddogsrace.metrics=false} turns it off.
+ * The flag is read once, so with recording off the JIT drops the calls entirely.
+ */
+public final class RaceMetrics {
+
+    public static final String PROPERTY = "dogsrace.metrics";
+
+    public static final boolean ENABLED = !"false".equalsIgnoreCase(System.getProperty(PROPERTY));
+
+    public static final LatencyHistogram STEP = new LatencyHistogram("step");
+    public static final LatencyHistogram PAUSE_WAIT = new LatencyHistogram("pause-wait");
+    public static final LatencyHistogram ARRIVAL = new LatencyHistogram("arrival");
+    public static final LatencyHistogram FIRST_STEP = new LatencyHistogram("first-step");
+    public static final LatencyHistogram TEARDOWN = new LatencyHistogram("teardown");
+    public static final LatencyHistogram START_SKEW = new LatencyHistogram("start-skew");
+
+    private RaceMetrics() { }
+
+    /**
+     * {@link System#nanoTime()} when recording is on, 0 otherwise (to pass back to {@link #record}).
+     */
+    public static long start() {
+        return ENABLED ? System.nanoTime() : 0;
+    }
+
+    public static void record(LatencyHistogram histogram, long startNanos) {
+        if (ENABLED) {
+            histogram.recordSince(startNanos);
+        }
+    }
+
+    /**
+     * One line per histogram with count and p50/p99/p999/max.
+     */
+    public static String report() {
+        if (!ENABLED) {
+            return "metrics disabled (-D" + PROPERTY + "=false)";
+        }
+        return STEP.snapshot() + System.lineSeparator()
+                + PAUSE_WAIT.snapshot() + System.lineSeparator()
+                + ARRIVAL.snapshot() + System.lineSeparator()
+                + FIRST_STEP.snapshot() + System.lineSeparator()
+                + TEARDOWN.snapshot() + System.lineSeparator()
+                + START_SKEW.snapshot();
+    }
+
+    public static void reset() {
+        STEP.reset();
+        PAUSE_WAIT.reset();
+        ARRIVAL.reset();
+        FIRST_STEP.reset();
+        TEARDOWN.reset();
+        START_SKEW.reset();
+    }
+}
@@ -0,0 +1,474 @@
+package edu.eci.arsw.dogsrace.spectator;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import edu.eci.arsw.dogsrace.control.RaceListener;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Streams a race to browsers over Server-Sent Events, without the Swing UI.
+ *
+ * As a {@link RaceListener} it only stores each lane's position and finishing
+ * place in atomic arrays, so the runners never wait on a spectator. A
+ * broadcaster thread compares them with what it last sent, at a fixed frame
+ * rate, and encodes the lanes that changed as one {@code delta} event; that
+ * single byte array is handed to every spectator, so the cost of a frame does
+ * not grow with the audience. A new spectator first gets a {@code snapshot}
+ * event with the whole race as of the last frame, encoded once per frame
+ * however many connect.
+ *
+ * Each spectator has a bounded queue of frames, written to its socket by a
+ * virtual thread of its own. A spectator that falls a whole queue behind
+ * loses what is queued and gets a fresh snapshot instead
+ * ({@link #getResyncs()}), so a slow connection never holds back the
+ * broadcaster or the other spectators.
+ *
+ * {@code GET /} serves a page that draws the race; {@code GET /events} is the
+ * stream. Events carry JSON:
+ * <pre>
+ *   snapshot  {"track":100,"positions":[..],"places":[..],"paused":false}
+ *   delta     {"steps":[[lane,position],..],"places":[[lane,place],..],"paused":false}
+ * </pre>
+ * A place of 0 means the lane has not finished. {@link #newRace()} puts every
+ * lane back at the line.
+ */
+public final class SpectatorServer implements RaceListener, AutoCloseable {
+
+    public static final int DEFAULT_FPS = 20;
+    /** Frames a spectator may fall behind before it is resynced with a snapshot. */
+    public static final int DEFAULT_CLIENT_QUEUE = 64;
+
+    /** A comment line sent when nothing changed for this long, to notice spectators that left. */
+    static final long KEEPALIVE_NANOS = TimeUnit.SECONDS.toNanos(15);
+    private static final byte[] KEEPALIVE = ": keepalive\n\n".getBytes(StandardCharsets.UTF_8);
+    /** Queued to a spectator to end its stream; compared by identity. */
+    private static final byte[] CLOSE = new byte[0];
+
+    private final int lanes;
+    private final int track;
+    private final int clientQueue;
+    private final long frameNanos;
+    private final AtomicIntegerArray positions;
+    private final AtomicIntegerArray places;
+    private volatile boolean paused = false;
+
+    /** Guards the spectators and the state as of the last frame. */
+    private final Object lock = new Object();
+    private final List<Client> clients = new ArrayList<>();
+    private final int[] sentPositions;
+    private final int[] sentPlaces;
+    private boolean sentPaused = false;
+    /** Snapshot of the sent state, encoded on first use after each frame. */
+    private byte[] snapshot = null;
+    private long lastFrameNanos = System.nanoTime();
+
+    private final AtomicLong frames = new AtomicLong();
+    private final AtomicLong resyncs = new AtomicLong();
+    private final HttpServer server;
+    private final ExecutorService executor;
+    private final Thread broadcaster;
+    private volatile boolean closed = false;
+
+    /**
+     * @param framesPerSecond most deltas sent per second, or 0 for no broadcaster (frames only through
+     *                        {@link #publishFrame()})
+     */
+    SpectatorServer(InetSocketAddress address, int lanes, int track, int framesPerSecond, int clientQueue)
+            throws IOException {
+        if (lanes <= 0) {
+            throw new IllegalArgumentException("lanes must be > 0");
+        }
+        if (track <= 0) {
+            throw new IllegalArgumentException("track must be > 0");
+        }
+        if (framesPerSecond < 0) {
+            throw new IllegalArgumentException("framesPerSecond must be >= 0");
+        }
+        if (clientQueue <= 0) {
+            throw new IllegalArgumentException("clientQueue must be > 0");
+        }
+        this.lanes = lanes;
+        this.track = track;
+        this.clientQueue = clientQueue;
+        this.frameNanos = framesPerSecond == 0 ? 0 : TimeUnit.SECONDS.toNanos(1) / framesPerSecond;
+        this.positions = new AtomicIntegerArray(lanes);
+        this.places = new AtomicIntegerArray(lanes);
+        this.sentPositions = new int[lanes];
+        this.sentPlaces = new int[lanes];
+
+        // a large backlog: thousands of spectators may connect at once
+        server = HttpServer.create(address, 4096);
+        // one virtual thread per request, and a stream holds its request for as long as it is watched
+        executor = Executors.newVirtualThreadPerTaskExecutor();
+        server.setExecutor(executor);
+        server.createContext("/", this::page);
+        server.createContext("/events", this::events);
+        broadcaster = new Thread(this::broadcast, "spectator-frames");
+        broadcaster.setDaemon(true);
+        server.start();
+        if (frameNanos > 0) {
+            broadcaster.start();
+        }
+    }
+
+    /**
+     * Starts a server on {@code port} (0 for any free port) of every interface, at {@link #DEFAULT_FPS}.
+     */
+    public static SpectatorServer start(int port, int lanes, int track) throws IOException {
+        return start(new InetSocketAddress(port), lanes, track, DEFAULT_FPS, DEFAULT_CLIENT_QUEUE);
+    }
+
+    /**
+     * @param lanes           lanes of the race, numbered {@code 0..lanes-1} as in {@link RaceListener}
+     * @param track           steps to the finish line
+     * @param framesPerSecond most deltas sent per second
+     * @param clientQueue     frames a spectator may fall behind before it is resynced
+     */
+    public static SpectatorServer start(InetSocketAddress address, int lanes, int track, int framesPerSecond,
+            int clientQueue) throws IOException {
+        if (framesPerSecond <= 0) {
+            throw new IllegalArgumentException("framesPerSecond must be > 0");
+        }
+        return new SpectatorServer(address, lanes, track, framesPerSecond, clientQueue);
+    }
+
+    @Override
+    public void onStep(int lane, int position) {
+        if (lane >= 0 && lane < lanes) {
+            positions.lazySet(lane, position);
+        }
+    }
+
+    @Override
+    public void onPause() {
+        paused = true;
+    }
+
+    @Override
+    public void onResume() {
+        paused = false;
+    }
+
+    @Override
+    public void onArrival(int lane, int position) {
+        if (lane >= 0 && lane < lanes) {
+            places.lazySet(lane, position);
+        }
+    }
+
+    /**
+     * Puts every lane back at the line; call it before each race after the first.
+     */
+    public void newRace() {
+        for (int i = 0; i < lanes; i++) {
+            positions.set(i, 0);
+            places.set(i, 0);
+        }
+        paused = false;
+    }
+
+    private void broadcast() {
+        while (!closed) {
+            LockSupport.parkNanos(this, frameNanos);
+            publishFrame();
+        }
+    }
+
+    /**
+     * Sends what changed since the last frame to every spectator; a keepalive if nothing did for a while.
+     *
+     * @return the lanes in the frame
+     */
+    int publishFrame() {
+        synchronized (lock) {
+            if (closed) {
+                // the streams have their CLOSE queued; a resync now could clear it
+                return 0;
+            }
+            final StringBuilder steps = new StringBuilder();
+            final StringBuilder finished = new StringBuilder();
+            int changed = 0;
+            for (int i = 0; i < lanes; i++) {
+                final int position = positions.get(i);
+                final int place = places.get(i);
+                if (position != sentPositions[i]) {
+                    pair(steps, i, position);
+                    sentPositions[i] = position;
+                    changed++;
+                }
+                if (place != sentPlaces[i]) {
+                    pair(finished, i, place);
+                    sentPlaces[i] = place;
+                }
+            }
+            final boolean nowPaused = paused;
+            final long now = System.nanoTime();
+            if (steps.length() == 0 && finished.length() == 0 && nowPaused == sentPaused) {
+                if (now - lastFrameNanos >= KEEPALIVE_NANOS) {
+                    lastFrameNanos = now;
+                    fanOut(KEEPALIVE);
+                }
+                return 0;
+            }
+            sentPaused = nowPaused;
+            snapshot = null;
+            lastFrameNanos = now;
+            final String data = "{\"steps\":[" + steps + "],\"places\":[" + finished + "],\"paused\":" + nowPaused + "}";
+            fanOut(event("delta", data));
+            frames.incrementAndGet();
+            return changed;
+        }
+    }
+
+    /**
+     * Hands one encoded frame to every spectator; guarded by lock.
+     */
+    private void fanOut(byte[] frame) {
+        for (Client client : clients) {
+            if (!client.queue.offer(frame)) {
+                // too far behind: drop its backlog and start it over from the current state
+                client.queue.clear();
+                client.queue.offer(snapshot());
+                resyncs.incrementAndGet();
+            }
+        }
+    }
+
+    /**
+     * Snapshot of the state as of the last frame; guarded by lock.
+     */
+    private byte[] snapshot() {
+        if (snapshot == null) {
+            final StringBuilder data = new StringBuilder(32 + lanes * 8);
+            data.append("{\"track\":").append(track).append(",\"positions\":");
+            array(data, sentPositions);
+            data.append(",\"places\":");
+            array(data, sentPlaces);
+            data.append(",\"paused\":").append(sentPaused).append('}');
+            snapshot = event("snapshot", data.toString());
+        }
+        return snapshot;
+    }
+
+    /**
+     * Registers a spectator, its queue starting with a snapshot.
+     */
+    Client connect() {
+        final Client client = new Client(clientQueue);
+        synchronized (lock) {
+            if (closed) {
+                client.queue.offer(CLOSE);
+            } else {
+                client.queue.offer(snapshot());
+                clients.add(client);
+            }
+        }
+        return client;
+    }
+
+    void disconnect(Client client) {
+        synchronized (lock) {
+            clients.remove(client);
+        }
+    }
+
+    private void events(HttpExchange exchange) throws IOException {
+        if (!"GET".equals(exchange.getRequestMethod())) {
+            reply(exchange, 405, "text/plain", "GET only");
+            return;
+        }
+        exchange.getResponseHeaders().set("Content-Type", "text/event-stream; charset=utf-8");
+        exchange.getResponseHeaders().set("Cache-Control", "no-cache");
+        exchange.sendResponseHeaders(200, 0);
+        final Client client = connect();
+        try (OutputStream body = exchange.getResponseBody()) {
+            while (true) {
+                final byte[] frame = client.queue.take();
+                if (frame == CLOSE) {
+                    break;
+                }
+                body.write(frame);
+                body.flush();
+            }
+        } catch (IOException e) {
+            // the spectator went away
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            disconnect(client);
+            exchange.close();
+        }
+    }
+
+    private void page(HttpExchange exchange) throws IOException {
+        if (!"/".equals(exchange.getRequestURI().getPath())) {
+            reply(exchange, 404, "text/plain", "not found");
+            return;
+        }
+        reply(exchange, 200, "text/html", PAGE);
+    }
+
+    private static void reply(HttpExchange exchange, int status, String type, String text) throws IOException {
+        final byte[] body = text.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().set("Content-Type", type + "; charset=utf-8");
+        exchange.sendResponseHeaders(status, body.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(body);
+        }
+    }
+
+    private static byte[] event(String name, String data) {
+        return ("event: " + name + "\ndata: " + data + "\n\n").getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static void pair(StringBuilder out, int lane, int value) {
+        if (out.length() > 0) {
+            out.append(',');
+        }
+        out.append('[').append(lane).append(',').append(value).append(']');
+    }
+
+    private static void array(StringBuilder out, int[] values) {
+        out.append('[');
+        for (int i = 0; i < values.length; i++) {
+            if (i > 0) {
+                out.append(',');
+            }
+            out.append(values[i]);
+        }
+        out.append(']');
+    }
+
+    public int getPort() {
+        return server.getAddress().getPort();
+    }
+
+    /**
+     * Spectators connected now.
+     */
+    public int getClients() {
+        synchronized (lock) {
+            return clients.size();
+        }
+    }
+
+    /**
+     * Delta frames sent so far.
+     */
+    public long getFrames() {
+        return frames.get();
+    }
+
+    /**
+     * Times a spectator fell a whole queue behind and was sent a snapshot instead.
+     */
+    public long getResyncs() {
+        return resyncs.get();
+    }
+
+    /**
+     * Ends every stream and stops the server.
+     */
+    @Override
+    public void close() {
+        synchronized (lock) {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            for (Client client : clients) {
+                client.queue.clear();
+                client.queue.offer(CLOSE);
+            }
+        }
+        LockSupport.unpark(broadcaster);
+        server.stop(0);
+        executor.shutdownNow();
+    }
+
+    /**
+     * Frames waiting to be written to one spectator.
+     */
+    static final class Client {
+
+        final BlockingQueue<byte[]> queue;
+
+        Client(int capacity) {
+            queue = new ArrayBlockingQueue<>(capacity);
+        }
+    }
+
+    private static final String PAGE = """
+            <!DOCTYPE html>
+            <html lang="es">
+            <head>
+            <meta charset="utf-8">
+            <title>Canodromo</title>
+            <style>
+              body { font-family: sans-serif; margin: 1em; }
+              .lane { display: flex; align-items: center; height: 14px; margin: 2px 0; }
+              .name { width: 3em; font-size: 11px; }
+              .track { flex: 1; background: #eee; height: 10px; }
+              .dog { background: #c33; height: 10px; }
+              .done { background: #393; }
+              .place { width: 3em; font-size: 11px; text-align: right; }
+            </style>
+            </head>
+            <body>
+            <h1>Canodromo <small id="state"></small></h1>
+            <div id="lanes"></div>
+            <script>
+              let track = 1, bars = [], marks = [];
+              const lanes = document.getElementById('lanes');
+              const state = document.getElementById('state');
+              function step(lane, position) {
+                bars[lane].style.width = (100 * position / track) + '%';
+              }
+              function place(lane, value) {
+                marks[lane].textContent = value > 0 ? value + 'º' : '';
+                bars[lane].classList.toggle('done', value > 0);
+              }
+              const source = new EventSource('events');
+              source.addEventListener('snapshot', e => {
+                const race = JSON.parse(e.data);
+                track = race.track;
+                lanes.innerHTML = '';
+                bars = []; marks = [];
+                race.positions.forEach((position, lane) => {
+                  const row = document.createElement('div');
+                  row.className = 'lane';
+                  row.innerHTML = '<span class="name">' + lane + '</span><div class="track"><div class="dog"></div></div>'
+                      + '<span class="place"></span>';
+                  lanes.appendChild(row);
+                  bars.push(row.querySelector('.dog'));
+                  marks.push(row.querySelector('.place'));
+                  step(lane, position);
+                  place(lane, race.places[lane]);
+                });
+                state.textContent = race.paused ? 'en pausa' : '';
+              });
+              source.addEventListener('delta', e => {
+                const delta = JSON.parse(e.data);
+                delta.steps.forEach(([lane, position]) => step(lane, position));
+                delta.places.forEach(([lane, value]) => place(lane, value));
+                state.textContent = delta.paused ? 'en pausa' : '';
+              });
+            </script>
+            </body>
+            </html>
+            """;
+}
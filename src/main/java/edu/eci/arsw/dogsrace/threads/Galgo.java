@@ -1,40 +1,116 @@
 package edu.eci.arsw.dogsrace.threads;
 
 import edu.eci.arsw.dogsrace.control.RaceControl;
+import edu.eci.arsw.dogsrace.control.RaceListener;
 import edu.eci.arsw.dogsrace.domain.ArrivalRegistry;
-import edu.eci.arsw.dogsrace.ui.Carril;
+import edu.eci.arsw.dogsrace.domain.LaneModel;
+import edu.eci.arsw.dogsrace.jfr.StepEvent;
+import edu.eci.arsw.dogsrace.log.RaceLog;
+import edu.eci.arsw.dogsrace.metrics.RaceMetrics;
 
 /**
  * A runner (greyhound) in the race.
+ *
+ * It is a {@link Runnable}, not a thread: {@link RunnerMode#start} runs it on
+ * a new platform or virtual thread (join that one), and a pool or a
+ * {@code RaceScope} runs it on one of theirs, so building a runner allocates
+ * no thread. Progress is written to a
+ * {@link LaneModel}: a headless {@code Lane}, or a Swing {@code Carril}.
+ * Steps and the arrival are reported to the race's {@link RaceListener}
+ * under the runner's lane number (-1 when built without one). Each step's
+ * duration goes to {@link RaceMetrics#STEP} and, when Flight Recorder is on,
+ * to a {@link StepEvent}. If the race has a starting gate the runner waits
+ * there before its first step, and in lockstep it waits after every step
+ * until the other runners have taken it too. The arrival is announced through
+ * {@link RaceLog}, so a runner never waits on the console.
  */
-public class Galgo extends Thread {
+public class Galgo implements Runnable {
 
-    private final Carril carril;
+    public static final long DEFAULT_STEP_DELAY_MILLIS = 100;
+
+    private final String name;
+    private final LaneModel carril;
     private final ArrivalRegistry registry;
     private final RaceControl control;
+    private final long stepDelayMillis;
+    private final int lane;
 
     private int paso = 0;
 
-    public Galgo(Carril carril, String name, ArrivalRegistry registry, RaceControl control) {
-        super(name);
+    public Galgo(LaneModel carril, String name, ArrivalRegistry registry, RaceControl control) {
+        this(carril, name, registry, control, DEFAULT_STEP_DELAY_MILLIS);
+    }
+
+    public Galgo(LaneModel carril, String name, ArrivalRegistry registry, RaceControl control, long stepDelayMillis) {
+        this(carril, name, -1, registry, control, stepDelayMillis);
+    }
+
+    /**
+     * Runner of lane {@code lane}, named after it as in {@code MainCanodromo}.
+     */
+    public Galgo(LaneModel carril, int lane, ArrivalRegistry registry, RaceControl control, long stepDelayMillis) {
+        this(carril, String.valueOf(lane), lane, registry, control, stepDelayMillis);
+    }
+
+    private Galgo(LaneModel carril, String name, int lane, ArrivalRegistry registry, RaceControl control, long stepDelayMillis) {
+        if (stepDelayMillis < 0) {
+            throw new IllegalArgumentException("stepDelayMillis must be >= 0");
+        }
+        this.name = name;
         this.carril = carril;
         this.registry = registry;
         this.control = control;
+        this.stepDelayMillis = stepDelayMillis;
+        this.lane = lane;
+    }
+
+    /**
+     * Name of the runner, used for its arrival and for the thread {@link RunnerMode} starts it on.
+     */
+    public String getName() {
+        return name;
+    }
+
+    public int getLane() {
+        return lane;
     }
 
     private void corra() throws InterruptedException {
-        while (paso < carril.size()) {
-            control.awaitIfPaused();
+        final RaceListener events = control.listener();
+        try {
+            control.awaitStart(lane);
+            while (paso < carril.size()) {
+                control.awaitIfPaused(lane, paso);
 
-            Thread.sleep(100);
-            carril.setPasoOn(paso++);
-            carril.displayPasos(paso);
+                final long stepStart = RaceMetrics.start();
+                final StepEvent stepEvent = new StepEvent();
+                stepEvent.begin();
+                if (stepDelayMillis > 0) {
+                    // sleep outside of any monitor: a virtual runner unmounts here
+                    Thread.sleep(stepDelayMillis);
+                }
+                carril.setPasoOn(paso++);
+                carril.displayPasos(paso);
+                RaceMetrics.record(RaceMetrics.STEP, stepStart);
+                if (stepEvent.shouldCommit()) {
+                    stepEvent.lane = lane;
+                    stepEvent.position = paso;
+                    stepEvent.commit();
+                }
+                events.onStep(lane, paso);
 
-            if (paso == carril.size()) {
-                carril.finish();
-                var snapshot = registry.registerArrival(getName());
-                System.out.printf("El galgo %s llego en la posicion %d%n", getName(), snapshot.position());
+                if (paso == carril.size()) {
+                    carril.finish();
+                    var snapshot = registry.registerArrival(lane, getName());
+                    events.onArrival(lane, snapshot.position());
+                    RaceLog.shared().logf("El galgo %s llego en la posicion %d", getName(), snapshot.position());
+                } else {
+                    control.awaitRound(lane);
+                }
             }
+        } finally {
+            // in lockstep, later rounds must not wait for a runner that is gone
+            control.leaveRounds(lane);
         }
     }
 
@@ -0,0 +1,49 @@
+package edu.eci.arsw.dogsrace.threads;
+
+import java.util.Locale;
+
+/**
+ * How the {@link Galgo} step loop is scheduled.
+ *
+ * PLATFORM starts each runner on its own OS thread (the original behaviour);
+ * VIRTUAL runs the same loop on a virtual thread, so thousands of lanes share
+ * a handful of carrier threads. Either way the thread is created only when
+ * the runner starts and is named after it.
+ */
+public enum RunnerMode {
+
+    PLATFORM {
+        @Override
+        public Thread start(Galgo galgo) {
+            return Thread.ofPlatform().name(galgo.getName()).start(galgo);
+        }
+    },
+
+    VIRTUAL {
+        @Override
+        public Thread start(Galgo galgo) {
+            return Thread.ofVirtual().name(galgo.getName()).start(galgo);
+        }
+    };
+
+    /**
+     * System property used to pick the mode at startup.
+     */
+    public static final String PROPERTY = "dogsrace.runner";
+
+    /**
+     * Starts the runner and returns the thread that executes it (join on this one).
+     */
+    public abstract Thread start(Galgo galgo);
+
+    public static RunnerMode parse(String value) {
+        if (value == null || value.isBlank()) {
+            return PLATFORM;
+        }
+        return valueOf(value.trim().toUpperCase(Locale.ROOT));
+    }
+
+    public static RunnerMode fromSystemProperties() {
+        return parse(System.getProperty(PROPERTY));
+    }
+}
@@ -3,18 +3,23 @@ package edu.eci.arsw.dogsrace.ui;
 import java.awt.BorderLayout;
 import java.awt.Dimension;
 import java.awt.FlowLayout;
-import java.awt.GridLayout;
-import java.awt.Insets;
 import java.awt.Toolkit;
 import java.awt.event.ActionListener;
 import java.awt.event.WindowAdapter;
 import java.awt.event.WindowEvent;
 
 import javax.swing.JButton;
+import javax.swing.JCheckBox;
+import javax.swing.JComponent;
 import javax.swing.JFrame;
+import javax.swing.JLabel;
 import javax.swing.JPanel;
 import javax.swing.JOptionPane;
-import javax.swing.border.EmptyBorder;
+import javax.swing.JScrollPane;
+
+import edu.eci.arsw.dogsrace.domain.Lane;
+import edu.eci.arsw.dogsrace.domain.LaneModel;
+import edu.eci.arsw.dogsrace.domain.Leaderboard;
 
 /**
  * Interfaz de usuario y modelo para un Canodromo
@@ -25,14 +30,42 @@ import javax.swing.border.EmptyBorder;
 public class Canodromo extends JFrame {
 	private static final long serialVersionUID = 1L;
 
+	/**
+	 * Carriles que se muestran en la tabla de lideres
+	 */
+	static final int LEADERS_SHOWN = 5;
+
 	/**
 	 * Carriles del canodromo
 	 */
 	private Carril[] carril;
 
+	/**
+	 * Pista pintada en un solo componente
+	 */
+	private final TrackPanel pista;
+
+	/**
+	 * Pinta los carriles en el EDT a tasa fija
+	 */
+	private final RenderLoop renderLoop;
+
 	private JButton butStart = new JButton("Start");
 	private JButton butStop = new JButton("Stop");
 	private JButton butContinue = new JButton("Continue");
+	private JButton butAbort = new JButton("Abort");
+	private JCheckBox chkFollow = new JCheckBox("Seguir lideres");
+
+	/**
+	 * Lideres de la carrera en curso, o null si no se muestran
+	 */
+	private volatile Leaderboard leaderboard;
+	private final JLabel lblLideres = new JLabel(" ");
+
+	/**
+	 * Panel de los botones de control
+	 */
+	private final JPanel butPanel = new JPanel();
 	/**
 	 * Constructor
 	 * 
@@ -42,52 +75,62 @@ public class Canodromo extends JFrame {
 	 *            Longitud de la pista
 	 */
 	public Canodromo(int nCarriles, int longPista) {
-		carril = new Carril[nCarriles];
+		this(lanes(nCarriles, longPista));
+	}
+
+	/**
+	 * Construye el canodromo como vista de modelos de carril existentes
+	 * 
+	 * @param lanes
+	 *            Modelos de los carriles, uno por fila
+	 */
+	public Canodromo(LaneModel[] lanes) {
+		this(lanes, RenderLoop.framesPerSecondFromSystemProperties());
+	}
+
+	/**
+	 * Construye el canodromo con una tasa de refresco dada
+	 * 
+	 * @param lanes
+	 *            Modelos de los carriles, uno por fila
+	 * @param framesPerSecond
+	 *            Cuadros por segundo con que se pintan los carriles
+	 */
+	public Canodromo(LaneModel[] lanes, int framesPerSecond) {
+		renderLoop = new RenderLoop(framesPerSecond);
+		carril = new Carril[lanes.length];
 		for (int i = 0; i < carril.length; i++) {
-			carril[i] = new Carril(longPista, "" + i);
+			carril[i] = new Carril(lanes[i]);
 		}
 
 		JPanel cont = (JPanel) getContentPane();
 		cont.setLayout(new BorderLayout());
 
-		JPanel panPistas = new JPanel();
-		panPistas.setLayout(new GridLayout(nCarriles, 1));
-
-		JPanel panCarril;
-		BorderLayout bLay;
-		GridLayout gridTrack = new GridLayout(1, longPista);
-		for (int row = 0; row < nCarriles; row++) {
-			bLay = new BorderLayout();
-			panCarril = new JPanel();
-			panCarril.setLayout(bLay);
-			JPanel panTrack = new JPanel();
-			panTrack.setLayout(gridTrack);
-
-			for (int col = 0; col < longPista; col++) {
-				panTrack.add(carril[row].getPaso(col));
-			}
-			panCarril.add(panTrack, BorderLayout.CENTER);
-			panCarril.add(carril[row].getLlegada(), BorderLayout.EAST);
-			panPistas.add(panCarril);
-		}
-
-		panPistas.setBorder(new EmptyBorder(new Insets(5, 0, 5, 0)));
-
-		int butWidht = 8;
-		int butHeight = 20;
-		cont.add(panPistas, BorderLayout.NORTH);
+		pista = new TrackPanel(lanes);
+		pista.bindTo(renderLoop);
+		// con muchos carriles solo se leen y pintan las filas visibles
+		JScrollPane scroll = new JScrollPane(pista, JScrollPane.VERTICAL_SCROLLBAR_AS_NEEDED,
+				JScrollPane.HORIZONTAL_SCROLLBAR_NEVER);
+		scroll.getVerticalScrollBar().setUnitIncrement(TrackPanel.ROW_HEIGHT);
+		cont.add(scroll, BorderLayout.CENTER);
 
-		JPanel butPanel = new JPanel();
 		butPanel.setLayout(new FlowLayout());
 		butPanel.add(butStart);
 		butPanel.add(butStop);
 		butPanel.add(butContinue);
+		butPanel.add(butAbort);
+		chkFollow.addActionListener(e -> pista.setFollowLeaders(chkFollow.isSelected()));
+		butPanel.add(chkFollow);
 		cont.add(butPanel, BorderLayout.SOUTH);
-
-		this.setSize(butWidht * longPista, butHeight * nCarriles + 400);
+		cont.add(lblLideres, BorderLayout.NORTH);
+		renderLoop.onFrame(this::refreshLeaders);
 
 		// Get the size of the screen
 		Dimension dim = Toolkit.getDefaultToolkit().getScreenSize();
+		// la pista se escala, asi que la ventana nunca pasa de la pantalla
+		Dimension preferred = pista.getPreferredScrollableViewportSize();
+		this.setSize(Math.min(preferred.width, dim.width), Math.min(preferred.height + 100, dim.height));
+
 		// Determine the new location of the window
 		int w = this.getSize().width;
 		int h = this.getSize().height;
@@ -103,6 +146,8 @@ public class Canodromo extends JFrame {
 				System.exit(0);
 			}
 		});
+
+		renderLoop.start();
 	}
 
 	/**
@@ -125,6 +170,25 @@ public class Canodromo extends JFrame {
 		return carril[i];
 	}
 
+	/**
+	 * Retorna el modelo del carril i, para correr sin pasar por la vista
+	 * 
+	 * @param i
+	 *            Numero del carril
+	 * @return
+	 */
+	public LaneModel getLane(int i) {
+		return carril[i].getModel();
+	}
+
+	public TrackPanel getPista() {
+		return pista;
+	}
+
+	public RenderLoop getRenderLoop() {
+		return renderLoop;
+	}
+
 	public int getNumCarriles() {
 		return carril.length;
 	}
@@ -155,7 +219,68 @@ public class Canodromo extends JFrame {
 	public void setContinueAction(ActionListener action){
 		butContinue.addActionListener(action);
 	}
+
+	/**
+	 * Asocia una accion con el boton de abortar
+	 * 
+	 * @param action
+	 */
+	public void setAbortAction(ActionListener action) {
+		butAbort.addActionListener(action);
+	}
 	
+	/**
+	 * Agrega un control (por ejemplo, el de la repeticion) junto a los botones
+	 * 
+	 * @param control
+	 */
+	public void addControl(JComponent control) {
+		butPanel.add(control);
+		butPanel.revalidate();
+	}
+
+	/**
+	 * Muestra en cada cuadro los primeros carriles de la tabla dada
+	 * 
+	 * @param board
+	 *            Tabla de la carrera en curso, o null para ocultarla
+	 */
+	public void showLeaders(Leaderboard board) {
+		this.leaderboard = board;
+	}
+
+	/**
+	 * Texto de los lideres del ultimo cuadro
+	 * 
+	 * @return
+	 */
+	String getLeadersText() {
+		return lblLideres.getText();
+	}
+
+	private void refreshLeaders() {
+		Leaderboard board = leaderboard;
+		if (board == null) {
+			lblLideres.setText(" ");
+			return;
+		}
+		StringBuilder text = new StringBuilder("Lideres:");
+		int k = 1;
+		for (Leaderboard.Standing standing : board.top(LEADERS_SHOWN)) {
+			text.append("  ").append(k++).append(") ").append(getLane(standing.lane()).getName());
+			text.append(standing.finished() ? " (llego)" : " (" + standing.position() + ")");
+		}
+		lblLideres.setText(text.toString());
+	}
+
+	private static LaneModel[] lanes(int nCarriles, int longPista) {
+		LaneModel[] lanes = new LaneModel[nCarriles];
+		for (int i = 0; i < nCarriles; i++) {
+			lanes[i] = new Lane(longPista, "" + i);
+		}
+		return lanes;
+	}
+
 	public void winnerDialog(String winner,int total) {
             JOptionPane.showMessageDialog(null, "El ganador fue:" + winner + " de un total de " + total);
         }	
@@ -1,34 +1,26 @@
 package edu.eci.arsw.dogsrace.ui;
 
-import java.awt.Color;
-
-import javax.swing.JButton;
+import edu.eci.arsw.dogsrace.domain.Lane;
+import edu.eci.arsw.dogsrace.domain.LaneModel;
 
 /**
- * Un carril del canodromo
+ * Un carril del canodromo: fila de la pista que muestra un {@link LaneModel}.
+ * 
+ * El progreso vive en el modelo y el {@link TrackPanel} lo pinta en cada
+ * cuadro; el carril solo lo delega, asi que un corredor puede escribir en el
+ * carril o directamente en el modelo cuando corre sin interfaz.
  * 
  * @author rlopez
  * 
  */
-public class Carril {
-	private Color on = Color.CYAN;
-	private Color off = Color.LIGHT_GRAY;
-	private Color stop = Color.red;
-	private Color start = Color.GREEN;
+public class Carril implements LaneModel {
 	/**
-	 * Pasos del carril
+	 * Modelo del carril
 	 */
-	private JButton[] paso;
+	private final LaneModel model;
 
 	/**
-	 * Bandera de llegada del carril
-	 */
-	private JButton llegada;
-
-	private String name;
-
-	/**
-	 * Construye un carril
+	 * Construye un carril con su propio modelo
 	 * 
 	 * @param nPasos
 	 *            Numero de pasos del carril
@@ -36,87 +28,81 @@ public class Carril {
 	 *            Nombre del carril
 	 */
 	public Carril(int nPasos, String name) {
-		paso = new JButton[nPasos];
-		JButton bTmp;
-		for (int k = 0; k < nPasos; k++) {
-			bTmp = new JButton();
-			bTmp.setBackground(off);
-			paso[k] = bTmp;
-		}
-		llegada = new JButton(name);
-		llegada.setBackground(start);
-		this.name = name;
+		this(new Lane(nPasos, name));
 	}
 
 	/**
-	 * Tama��o del carril en numero de pasos
+	 * Construye el carril de un modelo existente
 	 * 
-	 * @return
+	 * @param model
+	 *            Modelo del carril
 	 */
-	public int size() {
-		return paso.length;
-	}
-
-	public String getName() {
-		return llegada.getText();
+	public Carril(LaneModel model) {
+		this.model = model;
 	}
 
 	/**
-	 * Retorna el i-esimo paso del carril
+	 * Retorna el modelo que refleja este carril
 	 * 
-	 * @param i
 	 * @return
 	 */
-	public JButton getPaso(int i) {
-		return paso[i];
+	public LaneModel getModel() {
+		return model;
 	}
 
 	/**
-	 * Retorna la bandera de llegada del carril
+	 * Tamaño del carril en numero de pasos
 	 * 
 	 * @return
 	 */
-	public JButton getLlegada() {
-		return llegada;
+	@Override
+	public int size() {
+		return model.size();
 	}
 
-	/**
-	 * Indica que el paso i ha sido utilizado
-	 * 
-	 * @param i
-	 */
-	public void setPasoOn(int i) {
-		paso[i].setText("o");
+	@Override
+	public String getName() {
+		return model.getName();
+	}
+
+	@Override
+	public int getPosition() {
+		return model.getPosition();
+	}
+
+	@Override
+	public boolean isFinished() {
+		return model.isFinished();
 	}
 
 	/**
-	 * Indica que el paso i no ha sido utilizado
+	 * Indica que el paso i ha sido utilizado
 	 * 
 	 * @param i
 	 */
-	public void setPasoOff(int i) {
-		paso[i].setText("");
+	@Override
+	public void setPasoOn(int i) {
+		model.setPasoOn(i);
 	}
 
 	/**
 	 * Indica que se ha llegado al final del carril
 	 */
+	@Override
 	public void finish() {
-		llegada.setText("!");
+		model.finish();
 	}
 
+	@Override
 	public void displayPasos(int n) {
-		llegada.setText("" + n);
+		model.displayPasos(n);
 	}
 
 	/**
 	 * Reinicia el carril: ningun paso se ha usado, la bandera abajo.
 	 */
+	@Override
 	public void reStart() {
-		for (int k = 0; k < paso.length; k++) {
-			paso[k].setBackground(off);
-		}
-		llegada.setBackground(start);
-		llegada.setText(name);
+		model.reStart();
 	}
 }
@@ -0,0 +1,83 @@
+package edu.eci.arsw.dogsrace.ui;
+
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import javax.swing.SwingUtilities;
+import javax.swing.Timer;
+
+/**
+ * Refresca la pista en el Event Dispatch Thread a una tasa fija.
+ * 
+ * Los corredores solo escriben en los modelos de sus carriles; en cada cuadro
+ * el EDT corre las acciones registradas con {@link #onFrame(Runnable)} (como
+ * {@link TrackPanel#refresh()}), que leen el estado mas reciente. Los estados
+ * intermedios se descartan, asi que el costo de la interfaz depende de la tasa
+ * de cuadros y no de corredores x pasos.
+ * 
+ */
+public class RenderLoop {
+
+	/**
+	 * Propiedad del sistema para fijar los cuadros por segundo
+	 */
+	public static final String PROPERTY = "dogsrace.fps";
+
+	public static final int DEFAULT_FPS = 30;
+
+	private final CopyOnWriteArrayList<Runnable> frameListeners = new CopyOnWriteArrayList<>();
+
+	private final Timer timer;
+
+	/**
+	 * @param framesPerSecond
+	 *            Cuadros por segundo
+	 */
+	public RenderLoop(int framesPerSecond) {
+		if (framesPerSecond <= 0) {
+			throw new IllegalArgumentException("framesPerSecond must be > 0");
+		}
+		timer = new Timer(1000 / framesPerSecond, e -> flush());
+		// si el EDT se atrasa, los ticks pendientes se funden en uno
+		timer.setCoalesce(true);
+	}
+
+	/**
+	 * Tasa leida de -Ddogsrace.fps, o {@link #DEFAULT_FPS}
+	 */
+	public static int framesPerSecondFromSystemProperties() {
+		return Integer.getInteger(PROPERTY, DEFAULT_FPS);
+	}
+
+	public void start() {
+		timer.start();
+	}
+
+	public void stop() {
+		timer.stop();
+	}
+
+	public int getFrameDelayMillis() {
+		return timer.getDelay();
+	}
+
+	/**
+	 * Agrega una accion que corre en el EDT al final de cada cuadro
+	 * 
+	 * @param listener
+	 */
+	public void onFrame(Runnable listener) {
+		frameListeners.add(listener);
+	}
+
+	/**
+	 * Corre las acciones de cuadro. Debe correr en el EDT.
+	 */
+	public void flush() {
+		if (!SwingUtilities.isEventDispatchThread()) {
+			throw new IllegalStateException("flush must run on the Event Dispatch Thread");
+		}
+		for (Runnable listener : frameListeners) {
+			listener.run();
+		}
+	}
+}
@@ -0,0 +1,390 @@
+package edu.eci.arsw.dogsrace.ui;
+
+import java.awt.Color;
+import java.awt.Dimension;
+import java.awt.Font;
+import java.awt.FontMetrics;
+import java.awt.Graphics;
+import java.awt.Graphics2D;
+import java.awt.Rectangle;
+import java.awt.image.BufferedImage;
+
+import javax.swing.JComponent;
+import javax.swing.JViewport;
+import javax.swing.Scrollable;
+import javax.swing.SwingConstants;
+import javax.swing.SwingUtilities;
+
+import edu.eci.arsw.dogsrace.domain.LaneModel;
+
+/**
+ * Pista completa pintada con Graphics2D en un solo componente.
+ *
+ * Reemplaza la rejilla de un JButton por paso: el estado que se pinta es un
+ * arreglo de posiciones leido de los modelos en cada cuadro, y el fondo de un
+ * carril (pasos y meta) se dibuja una sola vez en una imagen que se copia en
+ * cada fila. Solo se repintan las filas cuya posicion cambio, y al pintar solo
+ * se recorren las filas que cortan el area recortada.
+ *
+ * La escala se ajusta al tamaño del componente: con pistas largas varios pasos
+ * comparten un pixel y las marcas de paso se omiten.
+ *
+ * Dentro de un JScrollPane la vista es virtual: si los carriles caben con al
+ * menos {@value #MIN_ROW_HEIGHT} pixeles cada uno se reparten la altura
+ * visible; si no, cada fila mide {@value #ROW_HEIGHT} pixeles y solo las filas
+ * visibles se leen y se repintan en cada cuadro. Los carriles fuera de
+ * pantalla siguen avanzando en su modelo y se leen al aparecer. En modo
+ * "seguir lideres" la vista se desplaza para mantener visible al carril que va
+ * adelante.
+ *
+ */
+public class TrackPanel extends JComponent implements Scrollable {
+	private static final long serialVersionUID = 1L;
+
+	static final Color ON = Color.CYAN;
+	static final Color OFF = Color.LIGHT_GRAY;
+	static final Color START = Color.GREEN;
+	static final Color STOP = Color.RED;
+	static final Color TICK = new Color(0xB0B0B0);
+
+	/**
+	 * Ancho de la bandera de llegada (nombre o posicion del carril)
+	 */
+	static final int FLAG_WIDTH = 48;
+
+	/**
+	 * Tamaño de fila y de paso preferidos
+	 */
+	static final int ROW_HEIGHT = 20;
+	static final int STEP_WIDTH = 8;
+
+	/**
+	 * Altura minima de fila antes de pasar a filas fijas con desplazamiento
+	 */
+	static final int MIN_ROW_HEIGHT = 8;
+
+	/**
+	 * Filas visibles que pide el panel dentro de un JScrollPane
+	 */
+	static final int VISIBLE_ROWS = 40;
+
+	/**
+	 * Ancho minimo de un paso para dibujar su marca
+	 */
+	private static final double MIN_TICK_SPACING = 3;
+
+	private final LaneModel[] lanes;
+	private final int longPista;
+
+	/**
+	 * Posiciones pintadas; solo se usan en el EDT
+	 */
+	private final int[] positions;
+	private final boolean[] finished;
+
+	/**
+	 * Fondo de un carril para el tamaño actual, o null
+	 */
+	private transient BufferedImage background;
+
+	/**
+	 * Si la vista sigue al carril que va adelante (solo se usa en el EDT)
+	 */
+	private boolean followLeaders = false;
+
+	/**
+	 * @param lanes
+	 *            Modelos de los carriles, uno por fila
+	 */
+	public TrackPanel(LaneModel[] lanes) {
+		this.lanes = lanes.clone();
+		int max = 0;
+		for (LaneModel lane : lanes) {
+			max = Math.max(max, lane.size());
+		}
+		this.longPista = max;
+		this.positions = new int[lanes.length];
+		this.finished = new boolean[lanes.length];
+		setOpaque(true);
+		setFont(new Font(Font.SANS_SERIF, Font.PLAIN, 11));
+	}
+
+	/**
+	 * Refresca el panel en cada cuadro del RenderLoop
+	 *
+	 * @param loop
+	 */
+	public void bindTo(RenderLoop loop) {
+		loop.onFrame(this::refresh);
+	}
+
+	public int getLaneCount() {
+		return lanes.length;
+	}
+
+	public int getLongPista() {
+		return longPista;
+	}
+
+	/**
+	 * Posicion del carril i tal como se pinto por ultima vez
+	 *
+	 * @param i
+	 * @return
+	 */
+	public int getShownPosition(int i) {
+		return positions[i];
+	}
+
+	public boolean isFollowLeaders() {
+		return followLeaders;
+	}
+
+	/**
+	 * Activa o desactiva el modo que desplaza la vista hacia el carril que va adelante
+	 *
+	 * @param followLeaders
+	 */
+	public void setFollowLeaders(boolean followLeaders) {
+		this.followLeaders = followLeaders;
+	}
+
+	/**
+	 * Carril sin terminar con mas pasos (el de menor numero si hay empate), o -1
+	 * si todos terminaron. Recorre los modelos, no lo pintado.
+	 *
+	 * @return
+	 */
+	public int getLeader() {
+		int leader = -1;
+		int best = -1;
+		for (int i = 0; i < lanes.length; i++) {
+			LaneModel lane = lanes[i];
+			int position = lane.getPosition();
+			if (position > best && !lane.isFinished()) {
+				best = position;
+				leader = i;
+			}
+		}
+		return leader;
+	}
+
+	/**
+	 * Lee los modelos de las filas visibles y repinta las que cambiaron; en modo
+	 * "seguir lideres" primero lleva la vista al carril que va adelante. Debe
+	 * correr en el EDT.
+	 *
+	 * @return numero de filas que cambiaron
+	 */
+	public int refresh() {
+		if (!SwingUtilities.isEventDispatchThread()) {
+			throw new IllegalStateException("refresh must run on the Event Dispatch Thread");
+		}
+		if (lanes.length == 0) {
+			return 0;
+		}
+		if (followLeaders) {
+			int leader = getLeader();
+			if (leader >= 0) {
+				showRow(leader);
+			}
+		}
+		Rectangle visible = getVisibleRect();
+		if (visible.isEmpty()) {
+			return 0;
+		}
+		return refreshRows(rowAt(visible.y), rowAt(visible.y + visible.height - 1) + 1);
+	}
+
+	/**
+	 * Desplaza la vista lo minimo para que la fila i quede visible
+	 */
+	void showRow(int i) {
+		Rectangle visible = getVisibleRect();
+		int top = rowTop(i);
+		int bottom = rowTop(i + 1);
+		if (top >= visible.y && bottom <= visible.y + visible.height) {
+			return;
+		}
+		// la fila queda al centro, para no perseguirla en cada paso
+		int y = top - Math.max(0, (visible.height - (bottom - top)) / 2);
+		scrollRectToVisible(new Rectangle(visible.x, y, visible.width, visible.height));
+	}
+
+	/**
+	 * Refresca las filas [from, to)
+	 */
+	int refreshRows(int from, int to) {
+		int changed = 0;
+		for (int i = from; i < to; i++) {
+			LaneModel lane = lanes[i];
+			int position = lane.getPosition();
+			boolean done = lane.isFinished();
+			if (position != positions[i] || done != finished[i]) {
+				positions[i] = position;
+				finished[i] = done;
+				repaint(0, rowTop(i), getWidth(), rowTop(i + 1) - rowTop(i));
+				changed++;
+			}
+		}
+		return changed;
+	}
+
+	@Override
+	public Dimension getPreferredSize() {
+		if (isPreferredSizeSet()) {
+			return super.getPreferredSize();
+		}
+		return new Dimension(STEP_WIDTH * longPista + FLAG_WIDTH, ROW_HEIGHT * lanes.length);
+	}
+
+	@Override
+	public Dimension getPreferredScrollableViewportSize() {
+		Dimension preferred = getPreferredSize();
+		return new Dimension(preferred.width, Math.min(preferred.height, VISIBLE_ROWS * ROW_HEIGHT));
+	}
+
+	@Override
+	public int getScrollableUnitIncrement(Rectangle visibleRect, int orientation, int direction) {
+		return orientation == SwingConstants.VERTICAL ? ROW_HEIGHT : STEP_WIDTH;
+	}
+
+	@Override
+	public int getScrollableBlockIncrement(Rectangle visibleRect, int orientation, int direction) {
+		int block = orientation == SwingConstants.VERTICAL ? visibleRect.height : visibleRect.width;
+		return Math.max(ROW_HEIGHT, block - ROW_HEIGHT);
+	}
+
+	/**
+	 * La pista siempre se escala al ancho visible
+	 */
+	@Override
+	public boolean getScrollableTracksViewportWidth() {
+		return true;
+	}
+
+	/**
+	 * Se escala a la altura visible mientras cada carril tenga al menos MIN_ROW_HEIGHT pixeles
+	 */
+	@Override
+	public boolean getScrollableTracksViewportHeight() {
+		if (getParent() instanceof JViewport viewport) {
+			return (long) lanes.length * MIN_ROW_HEIGHT <= viewport.getHeight();
+		}
+		return false;
+	}
+
+	/**
+	 * Primera coordenada y de la fila i
+	 */
+	int rowTop(int i) {
+		return lanes.length == 0 ? 0 : (int) ((long) i * getHeight() / lanes.length);
+	}
+
+	/**
+	 * Fila que contiene la coordenada y
+	 */
+	int rowAt(int y) {
+		int height = Math.max(1, getHeight());
+		int row = (int) ((long) Math.max(0, y) * lanes.length / height);
+		return Math.min(row, Math.max(0, lanes.length - 1));
+	}
+
+	/**
+	 * Ancho en pixeles de la parte de pasos de la pista
+	 */
+	int trackWidth() {
+		return Math.max(1, getWidth() - FLAG_WIDTH);
+	}
+
+	@Override
+	protected void paintComponent(Graphics g) {
+		Graphics2D g2 = (Graphics2D) g;
+		Rectangle clip = g2.getClipBounds();
+		if (clip == null) {
+			clip = new Rectangle(0, 0, getWidth(), getHeight());
+		}
+		g2.setColor(getBackground() != null ? getBackground() : Color.WHITE);
+		g2.fillRect(clip.x, clip.y, clip.width, clip.height);
+		if (lanes.length == 0) {
+			return;
+		}
+		int first = rowAt(clip.y);
+		int last = rowAt(clip.y + clip.height - 1);
+		paintRows(g2, first, last);
+	}
+
+	/**
+	 * Pinta las filas [first, last]
+	 */
+	void paintRows(Graphics2D g2, int first, int last) {
+		final int track = trackWidth();
+		final int rowHeight = Math.max(1, getHeight() / Math.max(1, lanes.length));
+		BufferedImage lane = background(track, rowHeight);
+		FontMetrics metrics = g2.getFontMetrics();
+		for (int i = first; i <= last; i++) {
+			int top = rowTop(i);
+			int height = rowTop(i + 1) - top;
+			if (height <= 0) {
+				continue;
+			}
+			// una fila que acaba de aparecer puede no haberse leido en cuadros anteriores
+			positions[i] = lanes[i].getPosition();
+			finished[i] = lanes[i].isFinished();
+			g2.drawImage(lane, 0, top, track, height, null);
+			int position = positions[i];
+			if (position > 0 && longPista > 0) {
+				int filled = (int) ((long) position * track / longPista);
+				g2.setColor(ON);
+				g2.fillRect(0, top, Math.max(1, filled), height);
+			}
+			paintFlag(g2, metrics, i, track, top, height);
+		}
+	}
+
+	private void paintFlag(Graphics2D g2, FontMetrics metrics, int i, int x, int top, int height) {
+		g2.setColor(finished[i] ? STOP : START);
+		g2.fillRect(x, top, FLAG_WIDTH, height);
+		if (height < metrics.getAscent()) {
+			return;
+		}
+		String text = finished[i] ? "!" : positions[i] == 0 ? lanes[i].getName() : Integer.toString(positions[i]);
+		g2.setColor(Color.BLACK);
+		int textX = x + (FLAG_WIDTH - metrics.stringWidth(text)) / 2;
+		int textY = top + (height + metrics.getAscent() - metrics.getDescent()) / 2;
+		g2.drawString(text, textX, textY);
+	}
+
+	/**
+	 * Fondo de un carril: pasos apagados, marcas entre pasos y linea de meta.
+	 * Se regenera solo si cambia el tamaño.
+	 */
+	BufferedImage background(int width, int height) {
+		BufferedImage image = background;
+		if (image != null && image.getWidth() == width && image.getHeight() == height) {
+			return image;
+		}
+		image = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+		Graphics2D g = image.createGraphics();
+		try {
+			g.setColor(OFF);
+			g.fillRect(0, 0, width, height);
+			double step = longPista == 0 ? width : (double) width / longPista;
+			if (step >= MIN_TICK_SPACING) {
+				g.setColor(TICK);
+				for (int k = 1; k < longPista; k++) {
+					int x = (int) (k * step);
+					g.drawLine(x, 0, x, height - 1);
+				}
+			}
+			if (height > 2) {
+				g.setColor(Color.WHITE);
+				g.drawLine(0, height - 1, width - 1, height - 1);
+			}
+		} finally {
+			g.dispose();
+		}
+		background = image;
+		return image;
+	}
+}
@@ -0,0 +1,79 @@
+package edu.eci.arsw.dogsrace.util;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Random streams of one race, all derived from a single race seed.
+ *
+ * The engine gets a {@link SplittableRandom} computed from the seed only
+ * (e.g. to order runners that tie), so it does not depend on which thread
+ * asks first, and a tournament derives one child seed per race. Replaying a
+ * seed replays every random decision of a race.
+ */
+public final class RaceRandom {
+
+    /**
+     * System property used to fix the race seed at startup.
+     */
+    public static final String PROPERTY = "dogsrace.seed";
+
+    private static final long GOLDEN_GAMMA = 0x9E3779B97F4A7C15L;
+    private static final long ENGINE_STREAM = -1;
+    private static final long CHILD_SALT = 0x5DEECE66DL;
+
+    private final long seed;
+
+    public RaceRandom(long seed) {
+        this.seed = seed;
+    }
+
+    /**
+     * A race with a fresh, unpredictable seed (read it back with {@link #seed()} to replay it).
+     */
+    public static RaceRandom random() {
+        return new RaceRandom(ThreadLocalRandom.current().nextLong());
+    }
+
+    /**
+     * Seed from -Ddogsrace.seed, or a fresh one.
+     */
+    public static RaceRandom fromSystemProperties() {
+        Long seed = Long.getLong(PROPERTY);
+        return seed == null ? random() : new RaceRandom(seed);
+    }
+
+    public long seed() {
+        return seed;
+    }
+
+    /**
+     * Stream of the engine; the same seed always gives the same stream.
+     */
+    public SplittableRandom engine() {
+        return stream(ENGINE_STREAM);
+    }
+
+    /**
+     * Seed of the {@code race}-th race of a series started from this seed.
+     */
+    public RaceRandom child(int race) {
+        return new RaceRandom(mix64(seed ^ mix64(CHILD_SALT + race)));
+    }
+
+    private SplittableRandom stream(long index) {
+        return new SplittableRandom(mix64(seed + GOLDEN_GAMMA * (index + 2)));
+    }
+
+    // SplitMix64 finalizer: nearby inputs give unrelated outputs
+    private static long mix64(long z) {
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+
+    @Override
+    public String toString() {
+        return "RaceRandom[seed=" + seed + "]";
+    }
+}
@@ -0,0 +1,79 @@
+package edu.eci.arsw.dogsrace.app;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Pruebas unitarias para MainRace
+ * Cobertura: carrera completa desde la línea de comandos en una JVM aparte, sin cargar AWT
+ */
+@DisplayName("MainRace Unit Tests")
+class MainRaceTest {
+
+    @TempDir
+    Path dir;
+
+    private record Run(String output, String classes) { }
+
+    /**
+     * Runs MainRace in a fresh JVM that logs every class it loads to a file.
+     */
+    private Run run(String... args) throws IOException, InterruptedException {
+        Path classLog = Files.createTempFile(dir, "classes", ".log");
+        String java = ProcessHandle.current().info().command().orElse("java");
+        List<String> command = new ArrayList<>(List.of(java, "-Xlog:class+load=info:file=" + classLog,
+                "-cp", System.getProperty("java.class.path"), MainRace.class.getName()));
+        command.addAll(List.of(args));
+        Process process = new ProcessBuilder(command).redirectErrorStream(true).start();
+        String output = new String(process.getInputStream().readAllBytes(), StandardCharsets.UTF_8);
+        assertTrue(process.waitFor(30, TimeUnit.SECONDS));
+        assertEquals(0, process.exitValue(), output);
+        return new Run(output, Files.readString(classLog));
+    }
+
+    @Test
+    @Timeout(value = 60, unit = TimeUnit.SECONDS)
+    @DisplayName("Una carrera desde la línea de comandos no debe cargar clases de AWT ni de Swing")
+    void testRunsWithoutAwt() throws Exception {
+        Run run = run("6", "10", "0", "tick", "42");
+
+        assertTrue(run.output().contains("Carrera de 6 carriles x 10 pasos (motor tick, semilla 42)"), run.output());
+        assertTrue(run.output().contains("El ganador fue: "), run.output());
+        assertTrue(run.classes().contains(MainRace.class.getName()), "the class log is empty");
+        assertFalse(run.classes().contains("java.awt."), "AWT was loaded");
+        assertFalse(run.classes().contains("javax.swing."), "Swing was loaded");
+    }
+
+    @Test
+    @Timeout(value = 60, unit = TimeUnit.SECONDS)
+    @DisplayName("La misma semilla debe imprimir las mismas llegadas")
+    void testSeededRunIsReproducible() throws Exception {
+        String first = arrivals(run("20", "5", "0", "tick", "7").output());
+        String second = arrivals(run("20", "5", "0", "tick", "7").output());
+
+        assertFalse(first.isEmpty());
+        assertEquals(first, second);
+    }
+
+    private static String arrivals(String output) {
+        StringBuilder table = new StringBuilder();
+        for (String line : output.split("\\R")) {
+            if (line.matches("\\s+\\d+\\s+\\d+")) {
+                table.append(line).append('\n');
+            }
+        }
+        return table.toString();
+    }
+}
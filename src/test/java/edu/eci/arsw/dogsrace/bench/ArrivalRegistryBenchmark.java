@@ -0,0 +1,95 @@
+package edu.eci.arsw.dogsrace.bench;
+
+import edu.eci.arsw.dogsrace.domain.ArrivalRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Throughput de registerArrival con 1, 8, 64 y 1000 hilos registrando a la vez,
+ * comparado con el registro sincronizado anterior.
+ * Solo corre con {@code mvn test -Pbench}.
+ */
+@Tag("benchmark")
+@DisplayName("Benchmark - ArrivalRegistry")
+class ArrivalRegistryBenchmark {
+
+    private static final int TOTAL_ARRIVALS = Integer.getInteger("bench.arrivals", 2_000_000);
+    private static final int[] REGISTRANTS = {1, 8, 64, 1000};
+
+    @Test
+    @DisplayName("Llegadas por segundo según hilos concurrentes")
+    void contention() throws InterruptedException {
+        System.out.printf("%-12s %8s %16s %16s%n", "registrants", "threads", "lock-free ops/s", "synchronized ops/s");
+        for (int round = 0; round < 2; round++) {
+            for (int threads : REGISTRANTS) {
+                ArrivalRegistry lockFree = new ArrivalRegistry(TOTAL_ARRIVALS);
+                double lf = run(threads, name -> lockFree.registerArrival(name));
+                assertEquals(TOTAL_ARRIVALS + 1 - TOTAL_ARRIVALS % threads, lockFree.getNextPosition());
+
+                SynchronizedRegistry locked = new SynchronizedRegistry(TOTAL_ARRIVALS);
+                double sy = run(threads, locked::registerArrival);
+
+                if (round > 0) {
+                    System.out.printf("%-12s %8d %16.0f %16.0f%n", "", threads, lf, sy);
+                }
+            }
+        }
+    }
+
+    private static double run(int threads, Consumer<String> register) throws InterruptedException {
+        final int perThread = TOTAL_ARRIVALS / threads;
+        CountDownLatch start = new CountDownLatch(1);
+        Thread[] workers = new Thread[threads];
+        for (int t = 0; t < threads; t++) {
+            final String name = "Dog" + t;
+            workers[t] = new Thread(() -> {
+                try {
+                    start.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+                for (int i = 0; i < perThread; i++) {
+                    register.accept(name);
+                }
+            });
+            workers[t].start();
+        }
+        long t0 = System.nanoTime();
+        start.countDown();
+        for (Thread worker : workers) {
+            worker.join();
+        }
+        long nanos = System.nanoTime() - t0;
+        return (double) perThread * threads / nanos * 1e9;
+    }
+
+    /**
+     * The registry as it was before going lock-free, recording the same arrival
+     * data under its monitor so both sides do the same work.
+     */
+    private static final class SynchronizedRegistry {
+        private final ArrivalRegistry.Arrival[] arrivals;
+        private int nextPosition = 1;
+        private String winner;
+
+        SynchronizedRegistry(int capacity) {
+            arrivals = new ArrivalRegistry.Arrival[capacity];
+        }
+
+        synchronized ArrivalRegistry.ArrivalSnapshot registerArrival(String dogName) {
+            final int position = nextPosition++;
+            if (position == 1) {
+                winner = dogName;
+            }
+            arrivals[position - 1] = new ArrivalRegistry.Arrival(position, dogName, System.nanoTime());
+            return new ArrivalRegistry.ArrivalSnapshot(position, winner);
+        }
+    }
+}
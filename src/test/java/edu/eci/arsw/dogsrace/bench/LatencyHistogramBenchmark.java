@@ -0,0 +1,68 @@
+package edu.eci.arsw.dogsrace.bench;
+
+import edu.eci.arsw.dogsrace.metrics.LatencyHistogram;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CountDownLatch;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Valores por segundo que registra un histograma con 1, 4 y 16 hilos
+ * escribiendo, y costo de tomar un snapshot mientras escriben.
+ * Solo corre con {@code mvn test -Pbench}.
+ */
+@Tag("benchmark")
+@DisplayName("Benchmark - LatencyHistogram")
+class LatencyHistogramBenchmark {
+
+    private static final int VALUES = Integer.getInteger("bench.values", 20_000_000);
+    private static final int[] WRITERS = {1, 4, 16};
+
+    @Test
+    @DisplayName("Registros por segundo según hilos escritores")
+    void recordThroughput() throws InterruptedException {
+        System.out.printf("%8s %16s %14s%n", "writers", "records/s", "snapshot us");
+        for (int round = 0; round < 2; round++) {
+            for (int writers : WRITERS) {
+                LatencyHistogram histogram = new LatencyHistogram("bench");
+                double rate = record(histogram, writers);
+                long t0 = System.nanoTime();
+                LatencyHistogram.Snapshot snapshot = histogram.snapshot();
+                long snapshotNanos = System.nanoTime() - t0;
+                assertEquals((long) VALUES / writers * writers, snapshot.count());
+                if (round > 0) {
+                    System.out.printf("%8d %16.0f %14d%n", writers, rate, snapshotNanos / 1000);
+                }
+            }
+        }
+    }
+
+    private double record(LatencyHistogram histogram, int writers) throws InterruptedException {
+        final int perWriter = VALUES / writers;
+        CountDownLatch start = new CountDownLatch(1);
+        Thread[] threads = new Thread[writers];
+        for (int w = 0; w < writers; w++) {
+            threads[w] = new Thread(() -> {
+                try {
+                    start.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+                for (int i = 0; i < perWriter; i++) {
+                    histogram.record(i & 0xFFFFF);
+                }
+            });
+            threads[w].start();
+        }
+        long t0 = System.nanoTime();
+        start.countDown();
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        return (double) perWriter * writers * 1e9 / (System.nanoTime() - t0);
+    }
+}
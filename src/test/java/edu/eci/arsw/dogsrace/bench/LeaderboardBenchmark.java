@@ -0,0 +1,81 @@
+package edu.eci.arsw.dogsrace.bench;
+
+import edu.eci.arsw.dogsrace.control.RaceControl;
+import edu.eci.arsw.dogsrace.domain.ArrivalRegistry;
+import edu.eci.arsw.dogsrace.domain.Leaderboard;
+import edu.eci.arsw.dogsrace.engine.TickRaceEngine;
+import edu.eci.arsw.dogsrace.util.RaceRandom;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Costo de mantener la tabla de líderes en una carrera de 100 000 carriles y
+ * de leer el top 10, frente a ordenar todos los carriles en cada lectura.
+ * Solo corre con {@code mvn test -Pbench}.
+ */
+@Tag("benchmark")
+@DisplayName("Benchmark - Leaderboard")
+class LeaderboardBenchmark {
+
+    private static final int LANES = 100_000;
+    private static final int TRACK = 20;
+    private static final int READS = 200;
+
+    @Test
+    @DisplayName("Carrera por ticks con y sin tabla de líderes")
+    void raceWithLeaderboard() throws InterruptedException {
+        long t0 = System.nanoTime();
+        new TickRaceEngine(LANES, TRACK, new ArrivalRegistry(LANES), new RaceControl(), 0, new RaceRandom(1)).run();
+        long plain = System.nanoTime() - t0;
+
+        Leaderboard board = new Leaderboard(LANES);
+        t0 = System.nanoTime();
+        new TickRaceEngine(LANES, TRACK, new ArrivalRegistry(LANES), new RaceControl(board), 0, new RaceRandom(1)).run();
+        long tracked = System.nanoTime() - t0;
+
+        assertEquals(10, board.top(10).size());
+        long steps = (long) LANES * TRACK;
+        System.out.printf("%d lanes x %d steps: %d ms without leaderboard, %d ms with it (%.0f ns per step)%n",
+                LANES, TRACK, plain / 1_000_000, tracked / 1_000_000, (double) (tracked - plain) / steps);
+    }
+
+    @Test
+    @DisplayName("Leer el top 10: tabla frente a ordenar todos los carriles")
+    void readTop10() {
+        SplittableRandom random = new SplittableRandom(1);
+        Leaderboard board = new Leaderboard(LANES);
+        int[] positions = new int[LANES];
+        for (int lane = 0; lane < LANES; lane++) {
+            positions[lane] = random.nextInt(TRACK);
+            board.onStep(lane, positions[lane]);
+        }
+
+        long t0 = System.nanoTime();
+        int sink = 0;
+        for (int r = 0; r < READS; r++) {
+            sink += board.top(10).get(0).lane();
+        }
+        long top = (System.nanoTime() - t0) / READS;
+
+        t0 = System.nanoTime();
+        for (int r = 0; r < READS; r++) {
+            long[] keys = new long[LANES];
+            for (int lane = 0; lane < LANES; lane++) {
+                keys[lane] = (long) (Integer.MAX_VALUE - positions[lane]) << 32 | lane;
+            }
+            Arrays.sort(keys);
+            sink += (int) keys[0];
+        }
+        long sorted = (System.nanoTime() - t0) / READS;
+
+        assertTrue(sink >= 0);
+        System.out.printf("top 10 of %d lanes: %.1f us from the leaderboard, %.1f us sorting every lane%n",
+                LANES, top / 1e3, sorted / 1e3);
+    }
+}
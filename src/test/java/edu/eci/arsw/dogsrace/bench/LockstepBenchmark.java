@@ -0,0 +1,76 @@
+package edu.eci.arsw.dogsrace.bench;
+
+import edu.eci.arsw.dogsrace.control.LockstepRounds;
+import edu.eci.arsw.dogsrace.control.RaceControl;
+import edu.eci.arsw.dogsrace.control.RaceListener;
+import edu.eci.arsw.dogsrace.control.StartingGate;
+import edu.eci.arsw.dogsrace.domain.ArrivalRegistry;
+import edu.eci.arsw.dogsrace.domain.Lane;
+import edu.eci.arsw.dogsrace.engine.RaceScope;
+import edu.eci.arsw.dogsrace.threads.Galgo;
+import edu.eci.arsw.dogsrace.threads.RunnerMode;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Pasos por segundo de una carrera completa con corredores libres y con los
+ * mismos corredores en rondas ({@link LockstepRounds}). Solo corre con
+ * {@code mvn test -Pbench}.
+ */
+@Tag("benchmark")
+@DisplayName("Benchmark - LockstepRounds")
+class LockstepBenchmark {
+
+    private static final int ROUNDS = 5;
+    private static final int TRACK = 100;
+
+    /**
+     * Nanoseconds from opening the gate to the last arrival.
+     */
+    private static long race(RunnerMode mode, int lanes, boolean lockstep) throws InterruptedException {
+        StartingGate gate = new StartingGate(lanes);
+        RaceControl control = new RaceControl(RaceListener.NONE, gate, lockstep ? new LockstepRounds(lanes) : null);
+        ArrivalRegistry registry = new ArrivalRegistry(lanes);
+        long start;
+        try (RaceScope scope = RaceScope.ofThreads(mode, control)) {
+            for (int i = 0; i < lanes; i++) {
+                scope.fork(new Galgo(new Lane(TRACK, String.valueOf(i)), i, registry, control, 0));
+            }
+            start = System.nanoTime();
+            gate.open();
+            scope.join();
+        }
+        long elapsed = System.nanoTime() - start;
+        assertEquals(lanes, registry.getArrivals().size());
+        return elapsed;
+    }
+
+    @Test
+    @DisplayName("Pasos por segundo, libres y en lockstep")
+    void stepsPerSecond() throws InterruptedException {
+        System.out.printf("%-8s %7s %-9s %14s%n", "runners", "lanes", "engine", "steps/s");
+        for (RunnerMode mode : RunnerMode.values()) {
+            for (int lanes : new int[]{100, 1_000, 10_000}) {
+                if (mode == RunnerMode.PLATFORM && lanes > 1_000) {
+                    continue;
+                }
+                for (boolean lockstep : new boolean[]{false, true}) {
+                    long[] nanos = new long[ROUNDS];
+                    for (int r = 0; r < ROUNDS; r++) {
+                        nanos[r] = race(mode, lanes, lockstep);
+                    }
+                    Arrays.sort(nanos);
+                    double stepsPerSecond = (double) lanes * TRACK / (nanos[ROUNDS / 2] / 1e9);
+                    System.out.printf("%-8s %7d %-9s %14.0f%n", mode.name().toLowerCase(), lanes,
+                            lockstep ? "lockstep" : "threads", stepsPerSecond);
+                    assertTrue(stepsPerSecond > 0);
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,124 @@
+package edu.eci.arsw.dogsrace.bench;
+
+import edu.eci.arsw.dogsrace.control.RaceControl;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Pasos por segundo de awaitIfPaused (sin pausa) según cantidad de corredores,
+ * comparado con el control que siempre toma el lock, y latencia de reanudar
+ * a todos los corredores en pausa.
+ * Solo corre con {@code mvn test -Pbench}.
+ */
+@Tag("benchmark")
+@DisplayName("Benchmark - RaceControl")
+class RaceControlBenchmark {
+
+    private static final long MILLIS = Long.getLong("bench.millis", 1000);
+    private static final int[] RUNNERS = {1, 8, 64, 1000};
+
+    interface Gate {
+        void awaitIfPaused(int lane, int position) throws InterruptedException;
+    }
+
+    @Test
+    @DisplayName("Pasos por segundo según corredores")
+    void stepsPerSecond() throws InterruptedException {
+        System.out.printf("%8s %18s %18s%n", "runners", "fast-path steps/s", "locked steps/s");
+        for (int runners : RUNNERS) {
+            RaceControl control = new RaceControl();
+            LockedControl locked = new LockedControl();
+            double fast = run(runners, control::awaitIfPaused);
+            double slow = run(runners, locked::awaitIfPaused);
+            System.out.printf("%8d %18.0f %18.0f%n", runners, fast, slow);
+        }
+    }
+
+    @Test
+    @DisplayName("Latencia de reanudar corredores en pausa")
+    void resumeLatency() throws InterruptedException {
+        for (int runners : RUNNERS) {
+            RaceControl control = new RaceControl();
+            control.pause();
+            CountDownLatch released = new CountDownLatch(runners);
+            for (int i = 0; i < runners; i++) {
+                final int lane = i;
+                Thread.ofVirtual().start(() -> {
+                    try {
+                        control.awaitIfPaused(lane, 0);
+                        released.countDown();
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                });
+            }
+            Thread.sleep(200);
+            long t0 = System.nanoTime();
+            control.resume();
+            released.await();
+            System.out.printf("resume %5d parked runners: %6d us%n", runners, (System.nanoTime() - t0) / 1000);
+        }
+    }
+
+    private static double run(int runners, Gate gate) throws InterruptedException {
+        LongAdder steps = new LongAdder();
+        AtomicBoolean stop = new AtomicBoolean();
+        CountDownLatch start = new CountDownLatch(1);
+        Thread[] threads = new Thread[runners];
+        for (int i = 0; i < runners; i++) {
+            final int lane = i;
+            threads[i] = new Thread(() -> {
+                try {
+                    start.await();
+                    long local = 0;
+                    while (!stop.get()) {
+                        gate.awaitIfPaused(lane, 0);
+                        local++;
+                    }
+                    steps.add(local);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            });
+            threads[i].start();
+        }
+        long t0 = System.nanoTime();
+        start.countDown();
+        Thread.sleep(MILLIS);
+        stop.set(true);
+        long nanos = System.nanoTime() - t0;
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        assertTrue(steps.sum() > 0);
+        return steps.sum() / (nanos / 1e9);
+    }
+
+    /** The control as it was before the fast path: the lock is taken on every step. */
+    private static final class LockedControl implements Gate {
+        private final ReentrantLock lock = new ReentrantLock();
+        private final Condition resumed = lock.newCondition();
+        private boolean paused;
+
+        @Override
+        public void awaitIfPaused(int lane, int position) throws InterruptedException {
+            lock.lockInterruptibly();
+            try {
+                while (paused) {
+                    resumed.await();
+                }
+            } finally {
+                lock.unlock();
+            }
+        }
+    }
+}
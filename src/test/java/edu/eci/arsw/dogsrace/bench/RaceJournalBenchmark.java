@@ -0,0 +1,98 @@
+package edu.eci.arsw.dogsrace.bench;
+
+import edu.eci.arsw.dogsrace.control.RaceControl;
+import edu.eci.arsw.dogsrace.domain.ArrivalRegistry;
+import edu.eci.arsw.dogsrace.engine.TickRaceEngine;
+import edu.eci.arsw.dogsrace.journal.RaceJournal;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.concurrent.CountDownLatch;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Eventos por segundo que acepta el journal con 1, 4 y 16 hilos escribiendo,
+ * y costo de dejarlo encendido en una carrera del motor por ticks.
+ * Solo corre con {@code mvn test -Pbench}.
+ */
+@Tag("benchmark")
+@DisplayName("Benchmark - RaceJournal")
+class RaceJournalBenchmark {
+
+    private static final int EVENTS = Integer.getInteger("bench.events", 8_000_000);
+    private static final int[] WRITERS = {1, 4, 16};
+
+    @TempDir
+    Path dir;
+
+    @Test
+    @DisplayName("Eventos por segundo según hilos escritores")
+    void appendThroughput() throws Exception {
+        System.out.printf("%8s %16s%n", "writers", "events/s");
+        for (int round = 0; round < 2; round++) {
+            for (int writers : WRITERS) {
+                double rate = append(writers);
+                if (round > 0) {
+                    System.out.printf("%8d %16.0f%n", writers, rate);
+                }
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Carrera por ticks con y sin journal")
+    void tickRaceOverhead() throws Exception {
+        final int lanes = 100_000;
+        final int track = 100;
+        for (int round = 0; round < 3; round++) {
+            long t0 = System.nanoTime();
+            new TickRaceEngine(lanes, track, new ArrivalRegistry(lanes), new RaceControl(), 0).run();
+            long plain = System.nanoTime() - t0;
+
+            try (RaceJournal journal = RaceJournal.create(dir.resolve("tick" + round + ".bin"))) {
+                t0 = System.nanoTime();
+                new TickRaceEngine(lanes, track, new ArrivalRegistry(lanes), new RaceControl(journal), 0).run();
+                long journaled = System.nanoTime() - t0;
+                assertEquals((long) lanes * (track + 1), journal.size());
+                System.out.printf("tick race %d x %d: %d ms plain, %d ms journaled (%.1f M events/s)%n",
+                        lanes, track, plain / 1_000_000, journaled / 1_000_000, journal.size() * 1e3 / journaled);
+            }
+        }
+    }
+
+    private double append(int writers) throws IOException, InterruptedException {
+        final int perWriter = EVENTS / writers;
+        try (RaceJournal journal = RaceJournal.create(dir.resolve("append" + writers + ".bin"))) {
+            CountDownLatch start = new CountDownLatch(1);
+            Thread[] threads = new Thread[writers];
+            for (int w = 0; w < writers; w++) {
+                final int lane = w;
+                threads[w] = new Thread(() -> {
+                    try {
+                        start.await();
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                        return;
+                    }
+                    for (int i = 0; i < perWriter; i++) {
+                        journal.onStep(lane, i);
+                    }
+                });
+                threads[w].start();
+            }
+            long t0 = System.nanoTime();
+            start.countDown();
+            for (Thread thread : threads) {
+                thread.join();
+            }
+            long elapsed = System.nanoTime() - t0;
+            assertEquals(0, journal.getDropped());
+            return (double) perWriter * writers * 1e9 / elapsed;
+        }
+    }
+}
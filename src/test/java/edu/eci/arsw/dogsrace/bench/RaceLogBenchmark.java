@@ -0,0 +1,95 @@
+package edu.eci.arsw.dogsrace.bench;
+
+import edu.eci.arsw.dogsrace.log.RaceLog;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.io.FileNotFoundException;
+import java.io.FileOutputStream;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.LongAdder;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tiempo que pasa un corredor anunciando su llegada con {@code printf} sobre
+ * un {@link PrintStream} compartido y con {@link RaceLog}, con 1, 8 y 64
+ * hilos escribiendo a {@code /dev/null} sin buffer (como una consola).
+ * Solo corre con {@code mvn test -Pbench}.
+ */
+@Tag("benchmark")
+@DisplayName("Benchmark - RaceLog")
+class RaceLogBenchmark {
+
+    private static final int MESSAGES = Integer.getInteger("bench.messages", 200_000);
+    private static final int[] WRITERS = {1, 8, 64};
+
+    private interface Sink {
+        void arrival(String name, int position);
+    }
+
+    @Test
+    @DisplayName("Mensajes por segundo según hilos escritores")
+    void throughput() throws Exception {
+        System.out.printf("%8s %-8s %14s %10s%n", "writers", "output", "messages/s", "dropped");
+        for (int round = 0; round < 2; round++) {
+            for (int writers : WRITERS) {
+                try (PrintStream console = devNull()) {
+                    double rate = run(writers, (name, position) ->
+                            console.printf("El galgo %s llego en la posicion %d%n", name, position));
+                    if (round > 0) {
+                        System.out.printf("%8d %-8s %14.0f %10s%n", writers, "printf", rate, "-");
+                    }
+                }
+                try (PrintStream console = devNull()) {
+                    RaceLog log = new RaceLog(console, RaceLog.DEFAULT_CAPACITY);
+                    LongAdder accepted = new LongAdder();
+                    double rate = run(writers, (name, position) -> {
+                        if (log.logf("El galgo %s llego en la posicion %d", name, position)) {
+                            accepted.increment();
+                        }
+                    });
+                    log.close();
+                    assertEquals(accepted.sum(), log.getWritten());
+                    if (round > 0) {
+                        System.out.printf("%8d %-8s %14.0f %10d%n", writers, "RaceLog", rate, log.getDropped());
+                    }
+                }
+            }
+        }
+    }
+
+    private static PrintStream devNull() throws FileNotFoundException {
+        return new PrintStream(new FileOutputStream("/dev/null"), false, StandardCharsets.UTF_8);
+    }
+
+    private static double run(int writers, Sink sink) throws InterruptedException {
+        final int perWriter = MESSAGES / writers;
+        CountDownLatch start = new CountDownLatch(1);
+        Thread[] threads = new Thread[writers];
+        for (int w = 0; w < writers; w++) {
+            final String name = String.valueOf(w);
+            threads[w] = new Thread(() -> {
+                try {
+                    start.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+                for (int i = 0; i < perWriter; i++) {
+                    sink.arrival(name, i);
+                }
+            });
+            threads[w].start();
+        }
+        long t0 = System.nanoTime();
+        start.countDown();
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        return (double) perWriter * writers * 1e9 / (System.nanoTime() - t0);
+    }
+}
@@ -0,0 +1,75 @@
+package edu.eci.arsw.dogsrace.bench;
+
+import edu.eci.arsw.dogsrace.control.RaceControl;
+import edu.eci.arsw.dogsrace.domain.ArrivalRegistry;
+import edu.eci.arsw.dogsrace.domain.Lane;
+import edu.eci.arsw.dogsrace.engine.RaceScope;
+import edu.eci.arsw.dogsrace.threads.Galgo;
+import edu.eci.arsw.dogsrace.threads.RunnerMode;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tiempo desde abortar una carrera hasta que su último corredor se detiene,
+ * con corredores que duermen entre pasos, que no duermen nunca y que están
+ * en pausa. Solo corre con {@code mvn test -Pbench}.
+ */
+@Tag("benchmark")
+@DisplayName("Benchmark - RaceScope")
+class RaceScopeBenchmark {
+
+    private static final int ROUNDS = 5;
+    private static final int TRACK = Integer.MAX_VALUE - 1;
+
+    private static double median(long[] nanos) {
+        long[] sorted = nanos.clone();
+        Arrays.sort(sorted);
+        return sorted[sorted.length / 2] / 1e6;
+    }
+
+    private static long teardown(RunnerMode mode, int lanes, long delay, boolean paused) throws InterruptedException {
+        RaceControl control = new RaceControl();
+        ArrivalRegistry registry = new ArrivalRegistry(lanes);
+        if (paused) {
+            control.pause();
+        }
+        RaceScope scope = RaceScope.ofThreads(mode, control);
+        for (int i = 0; i < lanes; i++) {
+            scope.fork(new Galgo(new Lane(TRACK, String.valueOf(i)), i, registry, control, delay));
+        }
+        // let every runner get going before pulling the plug
+        Thread.sleep(200);
+        scope.abort();
+        scope.close();
+        assertTrue(registry.getArrivals().isEmpty());
+        return scope.getTeardownNanos();
+    }
+
+    @Test
+    @DisplayName("Desmontaje de 1 000 y 10 000 corredores")
+    void teardown() throws InterruptedException {
+        System.out.printf("%-8s %7s %-10s %14s%n", "runners", "lanes", "state", "teardown (ms)");
+        for (RunnerMode mode : RunnerMode.values()) {
+            for (int lanes : new int[]{1_000, 10_000}) {
+                if (mode == RunnerMode.PLATFORM && lanes > 1_000) {
+                    continue; // 10k OS threads is what virtual runners are for
+                }
+                for (String state : new String[]{"sleeping", "busy", "paused"}) {
+                    long[] nanos = new long[ROUNDS];
+                    for (int r = 0; r < ROUNDS; r++) {
+                        nanos[r] = teardown(mode, lanes, "sleeping".equals(state) ? 10 : 0, "paused".equals(state));
+                    }
+                    System.out.printf("%-8s %7d %-10s %14.3f%n", mode.name().toLowerCase(), lanes, state,
+                            median(nanos));
+                    assertTrue(median(nanos) < TimeUnit.SECONDS.toMillis(5));
+                }
+            }
+        }
+    }
+}
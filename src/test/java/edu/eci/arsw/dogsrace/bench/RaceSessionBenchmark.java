@@ -0,0 +1,95 @@
+package edu.eci.arsw.dogsrace.bench;
+
+import edu.eci.arsw.dogsrace.control.RaceListener;
+import edu.eci.arsw.dogsrace.domain.Lane;
+import edu.eci.arsw.dogsrace.domain.LaneModel;
+import edu.eci.arsw.dogsrace.engine.EngineMode;
+import edu.eci.arsw.dogsrace.engine.RaceRunner;
+import edu.eci.arsw.dogsrace.engine.RaceSession;
+import edu.eci.arsw.dogsrace.threads.RunnerMode;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tiempo hasta el primer paso y duración de carreras repetidas: hilos nuevos
+ * en cada carrera ({@link RaceRunner}) frente al pool ya iniciado de una
+ * {@link RaceSession}. Solo corre con {@code mvn test -Pbench}.
+ */
+@Tag("benchmark")
+@DisplayName("Benchmark - RaceSession")
+class RaceSessionBenchmark {
+
+    private static final int RACES = 30;
+    private static final int TRACK = 5;
+
+    /**
+     * Notes the first step after {@link #arm}.
+     */
+    private static final class FirstStep implements RaceListener {
+
+        private final AtomicLong first = new AtomicLong();
+        private volatile long start;
+
+        void arm() {
+            first.set(0);
+            start = System.nanoTime();
+        }
+
+        long elapsed() {
+            return first.get() - start;
+        }
+
+        @Override
+        public void onStep(int lane, int position) {
+            if (first.get() == 0) {
+                first.compareAndSet(0, System.nanoTime());
+            }
+        }
+    }
+
+    private static double median(long[] nanos) {
+        long[] sorted = nanos.clone();
+        Arrays.sort(sorted);
+        return sorted[sorted.length / 2] / 1e6;
+    }
+
+    @Test
+    @DisplayName("Hilos nuevos por carrera vs pool iniciado de antemano")
+    void compare() throws InterruptedException {
+        System.out.printf("%-8s %6s %16s %14s%n", "runners", "lanes", "first step (ms)", "race (ms)");
+        for (int lanes : new int[]{17, 200}) {
+            FirstStep probe = new FirstStep();
+            long[] firstStep = new long[RACES];
+            long[] race = new long[RACES];
+
+            RaceRunner runner = new RaceRunner(probe);
+            RaceRunner.Config config = new RaceRunner.Config(lanes, TRACK, 0, EngineMode.THREADS, RunnerMode.PLATFORM, 0);
+            for (int r = 0; r < RACES; r++) {
+                probe.arm();
+                race[r] = runner.run(config).elapsedNanos();
+                firstStep[r] = probe.elapsed();
+            }
+            System.out.printf("%-8s %6d %16.3f %14.3f%n", "fresh", lanes, median(firstStep), median(race));
+
+            LaneModel[] models = new LaneModel[lanes];
+            for (int i = 0; i < lanes; i++) {
+                models[i] = new Lane(TRACK, String.valueOf(i));
+            }
+            try (RaceSession session = new RaceSession(models, EngineMode.THREADS, 0)) {
+                for (int r = 0; r < RACES; r++) {
+                    RaceRunner.Result result = session.run();
+                    race[r] = result.elapsedNanos();
+                    firstStep[r] = session.getTimeToFirstStepNanos();
+                    assertEquals(lanes, result.arrivals().size());
+                }
+            }
+            System.out.printf("%-8s %6d %16.3f %14.3f%n", "session", lanes, median(firstStep), median(race));
+        }
+    }
+}
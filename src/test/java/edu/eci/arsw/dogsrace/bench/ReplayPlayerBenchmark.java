@@ -0,0 +1,67 @@
+package edu.eci.arsw.dogsrace.bench;
+
+import edu.eci.arsw.dogsrace.control.RaceControl;
+import edu.eci.arsw.dogsrace.domain.ArrivalRegistry;
+import edu.eci.arsw.dogsrace.domain.LaneModel;
+import edu.eci.arsw.dogsrace.engine.TickRaceEngine;
+import edu.eci.arsw.dogsrace.journal.JournalReader;
+import edu.eci.arsw.dogsrace.journal.RaceJournal;
+import edu.eci.arsw.dogsrace.journal.ReplayPlayer;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Costo de abrir una repetición (construir el índice) y de saltar a instantes
+ * al azar en una carrera de 10 000 carriles, con y sin keyframes.
+ * Solo corre con {@code mvn test -Pbench}.
+ */
+@Tag("benchmark")
+@DisplayName("Benchmark - ReplayPlayer")
+class ReplayPlayerBenchmark {
+
+    private static final int LANES = Integer.getInteger("bench.replayLanes", 10_000);
+    private static final int TRACK = 100;
+    private static final int SEEKS = 200;
+
+    @TempDir
+    Path dir;
+
+    @Test
+    @DisplayName("Seek aleatorio según intervalo de keyframes")
+    void randomSeek() throws Exception {
+        Path file = dir.resolve("replay.bin");
+        try (RaceJournal journal = RaceJournal.create(file)) {
+            new TickRaceEngine(LANES, TRACK, new ArrivalRegistry(LANES), new RaceControl(journal), 0).run();
+        }
+
+        try (JournalReader reader = JournalReader.open(file)) {
+            System.out.printf("%d records, %d lanes x %d steps%n", reader.size(), LANES, TRACK);
+            System.out.printf("%12s %10s %10s %14s%n", "interval", "keyframes", "open ms", "us per seek");
+            for (int interval : new int[]{Integer.MAX_VALUE, 1 << 20, 1 << 16, 1 << 14}) {
+                long t0 = System.nanoTime();
+                ReplayPlayer player = new ReplayPlayer(reader, interval);
+                long open = System.nanoTime() - t0;
+                LaneModel[] lanes = player.newLanes();
+                player.attach(lanes);
+
+                SplittableRandom random = new SplittableRandom(42);
+                t0 = System.nanoTime();
+                for (int i = 0; i < SEEKS; i++) {
+                    player.seek(random.nextLong(player.getDuration() + 1));
+                }
+                long seek = (System.nanoTime() - t0) / SEEKS;
+                player.seek(player.getDuration());
+                assertEquals(TRACK, lanes[LANES - 1].getPosition());
+                System.out.printf("%12d %10d %10d %14d%n", interval, player.getKeyframes(),
+                        open / 1_000_000, seek / 1_000);
+            }
+        }
+    }
+}
@@ -0,0 +1,117 @@
+package edu.eci.arsw.dogsrace.bench;
+
+import edu.eci.arsw.dogsrace.control.RaceControl;
+import edu.eci.arsw.dogsrace.domain.ArrivalRegistry;
+import edu.eci.arsw.dogsrace.domain.Lane;
+import edu.eci.arsw.dogsrace.threads.Galgo;
+import edu.eci.arsw.dogsrace.threads.RunnerMode;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Comparación de hilos de plataforma vs virtuales por corredor.
+ *
+ * Solo corre con {@code mvn test -Pbench}. Para cada modo arranca N galgos
+ * detenidos en una carrera pausada, mide heap y RSS por corredor y luego
+ * sube N hasta {@code bench.maxLanes} para encontrar el máximo sostenible.
+ */
+@Tag("benchmark")
+@DisplayName("Benchmark - RunnerMode")
+class RunnerModeBenchmark {
+
+    private static final int MAX_LANES = Integer.getInteger("bench.maxLanes", 20_000);
+    private static final long BUDGET_MILLIS = Long.getLong("bench.budgetMillis", 30_000);
+
+    @Test
+    @DisplayName("Memoria por corredor y máximo de carriles por modo")
+    void compareModes() throws Exception {
+        System.out.printf("%-9s %8s %14s %14s %12s %12s%n",
+                "mode", "lanes", "heapB/runner", "rssB/runner", "start(ms)", "finish(ms)");
+        for (RunnerMode mode : RunnerMode.values()) {
+            int sustained = 0;
+            for (int lanes = 1_000; lanes <= MAX_LANES; lanes *= 2) {
+                Sample sample = measure(mode, lanes);
+                if (sample == null) {
+                    break;
+                }
+                sustained = lanes;
+                System.out.printf("%-9s %8d %14d %14d %12d %12d%n", mode, lanes,
+                        sample.heapBytes / lanes, sample.rssBytes / lanes, sample.startMillis, sample.finishMillis);
+            }
+            System.out.printf("%-9s max sustainable lanes (<= %d): %d%n", mode, MAX_LANES, sustained);
+            assertTrue(sustained > 0);
+        }
+    }
+
+    private Sample measure(RunnerMode mode, int lanes) throws InterruptedException {
+        ArrivalRegistry registry = new ArrivalRegistry();
+        RaceControl control = new RaceControl();
+        Galgo[] galgos = new Galgo[lanes];
+        for (int i = 0; i < lanes; i++) {
+            galgos[i] = new Galgo(new Lane(1, String.valueOf(i)), String.valueOf(i), registry, control, 0);
+        }
+
+        control.pause();
+        long heapBefore = usedHeap();
+        long rssBefore = rss();
+        long t0 = System.nanoTime();
+        Thread[] runners = new Thread[lanes];
+        try {
+            for (int i = 0; i < lanes; i++) {
+                runners[i] = mode.start(galgos[i]);
+            }
+        } catch (OutOfMemoryError e) {
+            control.resume();
+            return null;
+        }
+        // every runner is parked in awaitIfPaused
+        for (Thread runner : runners) {
+            while (runner.getState() != Thread.State.WAITING) {
+                Thread.onSpinWait();
+            }
+        }
+        long startMillis = (System.nanoTime() - t0) / 1_000_000;
+        long heap = usedHeap() - heapBefore;
+        long rss = rss() - rssBefore;
+
+        long t1 = System.nanoTime();
+        control.resume();
+        for (Thread runner : runners) {
+            runner.join(BUDGET_MILLIS);
+        }
+        long finishMillis = (System.nanoTime() - t1) / 1_000_000;
+        if (registry.getNextPosition() != lanes + 1 || startMillis + finishMillis > BUDGET_MILLIS) {
+            return null;
+        }
+        return new Sample(Math.max(0, heap), Math.max(0, rss), startMillis, finishMillis);
+    }
+
+    private static long usedHeap() {
+        Runtime rt = Runtime.getRuntime();
+        System.gc();
+        return rt.totalMemory() - rt.freeMemory();
+    }
+
+    /** Resident set size in bytes (Linux only, 0 elsewhere); it includes native thread stacks. */
+    private static long rss() {
+        try {
+            for (String line : Files.readAllLines(Path.of("/proc/self/status"))) {
+                if (line.startsWith("VmRSS:")) {
+                    return Long.parseLong(line.replaceAll("\\D", "")) * 1024;
+                }
+            }
+        } catch (IOException | RuntimeException e) {
+            // not available on this platform
+        }
+        return 0;
+    }
+
+    private record Sample(long heapBytes, long rssBytes, long startMillis, long finishMillis) { }
+}
@@ -0,0 +1,106 @@
+package edu.eci.arsw.dogsrace.bench;
+
+import edu.eci.arsw.dogsrace.spectator.SpectatorServer;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.LongAdder;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Espectadores locales conectados por socket a un {@link SpectatorServer}
+ * mientras 1 000 carriles avanzan en cada cuadro: cuadros entregados por
+ * segundo a toda la audiencia, parte de los cuadros que llegó y
+ * resincronizaciones. Solo corre con {@code mvn test -Pbench}.
+ */
+@Tag("benchmark")
+@DisplayName("Benchmark - SpectatorServer")
+class SpectatorServerBenchmark {
+
+    private static final int LANES = 1_000;
+    private static final int FRAMES = 100;
+    private static final int FPS = 20;
+
+    @Test
+    @DisplayName("Cuadros entregados con 100, 1 000 y 5 000 espectadores")
+    void fanOut() throws Exception {
+        System.out.printf("%8s %8s %16s %11s %8s%n", "clients", "frames", "deliveries/s", "delivered %", "resyncs");
+        for (int clients : new int[]{100, 1_000, 5_000}) {
+            try (SpectatorServer server = SpectatorServer.start(
+                    new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), LANES, FRAMES, FPS,
+                    SpectatorServer.DEFAULT_CLIENT_QUEUE)) {
+                LongAdder received = new LongAdder();
+                List<Socket> sockets = new ArrayList<>();
+                List<Thread> readers = new ArrayList<>();
+                for (int c = 0; c < clients; c++) {
+                    Socket socket = new Socket(InetAddress.getLoopbackAddress(), server.getPort());
+                    sockets.add(socket);
+                    readers.add(Thread.ofVirtual().start(() -> read(socket, received)));
+                }
+                while (server.getClients() < clients) {
+                    Thread.sleep(10);
+                }
+
+                long t0 = System.nanoTime();
+                for (int step = 1; step <= FRAMES; step++) {
+                    for (int lane = 0; lane < LANES; lane++) {
+                        server.onStep(lane, step);
+                    }
+                    Thread.sleep(1_000 / FPS);
+                }
+                // wait for the spectators to read what is still queued
+                long last = -1;
+                while (received.sum() != last) {
+                    last = received.sum();
+                    Thread.sleep(500);
+                }
+                double seconds = (System.nanoTime() - t0) / 1e9;
+                long expected = server.getFrames() * clients;
+
+                System.out.printf("%8d %8d %16.0f %11.1f %8d%n", clients, server.getFrames(),
+                        received.sum() / seconds, 100.0 * received.sum() / expected, server.getResyncs());
+                assertTrue(received.sum() > 0);
+                for (Socket socket : sockets) {
+                    socket.close();
+                }
+                for (Thread reader : readers) {
+                    reader.join();
+                }
+            }
+        }
+    }
+
+    /**
+     * Reads an event stream until the socket closes, counting delta events.
+     */
+    private static void read(Socket socket, LongAdder deltas) {
+        try {
+            OutputStream out = socket.getOutputStream();
+            out.write("GET /events HTTP/1.1\r\nHost: localhost\r\nAccept: text/event-stream\r\n\r\n"
+                    .getBytes(StandardCharsets.US_ASCII));
+            out.flush();
+            BufferedReader in = new BufferedReader(new InputStreamReader(socket.getInputStream(),
+                    StandardCharsets.UTF_8));
+            String line;
+            while ((line = in.readLine()) != null) {
+                if (line.equals("event: delta")) {
+                    deltas.increment();
+                }
+            }
+        } catch (IOException e) {
+            // closed at the end of the round
+        }
+    }
+}
@@ -0,0 +1,94 @@
+package edu.eci.arsw.dogsrace.bench;
+
+import edu.eci.arsw.dogsrace.control.RaceControl;
+import edu.eci.arsw.dogsrace.control.RaceListener;
+import edu.eci.arsw.dogsrace.control.StartingGate;
+import edu.eci.arsw.dogsrace.domain.ArrivalRegistry;
+import edu.eci.arsw.dogsrace.domain.Lane;
+import edu.eci.arsw.dogsrace.engine.RaceScope;
+import edu.eci.arsw.dogsrace.threads.Galgo;
+import edu.eci.arsw.dogsrace.threads.RunnerMode;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Desfase entre el primer paso del primer corredor y el de los demás, con los
+ * corredores arrancados uno a uno y con todos retenidos en una
+ * {@link StartingGate}. Solo corre con {@code mvn test -Pbench}.
+ */
+@Tag("benchmark")
+@DisplayName("Benchmark - StartingGate")
+class StartingGateBenchmark {
+
+    private static final int ROUNDS = 5;
+
+    /**
+     * Offsets from the first lane to take a step to each lane's first step, sorted.
+     */
+    private static long[] firstSteps(RunnerMode mode, int lanes, boolean gated) throws InterruptedException {
+        AtomicLongArray first = new AtomicLongArray(lanes);
+        RaceListener probe = new RaceListener() {
+            @Override
+            public void onStep(int lane, int position) {
+                if (position == 1) {
+                    first.set(lane, System.nanoTime());
+                }
+            }
+        };
+        StartingGate gate = gated ? new StartingGate(lanes) : null;
+        RaceControl control = new RaceControl(probe, gate);
+        ArrivalRegistry registry = new ArrivalRegistry(lanes);
+        try (RaceScope scope = RaceScope.ofThreads(mode, control)) {
+            for (int i = 0; i < lanes; i++) {
+                scope.fork(new Galgo(new Lane(1, String.valueOf(i)), i, registry, control, 0));
+            }
+            if (gate != null) {
+                gate.open();
+            }
+            scope.join();
+        }
+        long[] offsets = new long[lanes];
+        for (int i = 0; i < lanes; i++) {
+            offsets[i] = first.get(i);
+        }
+        Arrays.sort(offsets);
+        long earliest = offsets[0];
+        for (int i = 0; i < lanes; i++) {
+            offsets[i] -= earliest;
+        }
+        return offsets;
+    }
+
+    @Test
+    @DisplayName("Desfase de salida sin y con puerta")
+    void skew() throws InterruptedException {
+        System.out.printf("%-8s %7s %-6s %12s %12s%n", "runners", "lanes", "gate", "p50 (ms)", "max (ms)");
+        for (RunnerMode mode : RunnerMode.values()) {
+            for (int lanes : new int[]{1_000, 10_000}) {
+                if (mode == RunnerMode.PLATFORM && lanes > 1_000) {
+                    continue;
+                }
+                for (boolean gated : new boolean[]{false, true}) {
+                    long[] p50 = new long[ROUNDS];
+                    long[] max = new long[ROUNDS];
+                    for (int r = 0; r < ROUNDS; r++) {
+                        long[] offsets = firstSteps(mode, lanes, gated);
+                        p50[r] = offsets[lanes / 2];
+                        max[r] = offsets[lanes - 1];
+                    }
+                    Arrays.sort(p50);
+                    Arrays.sort(max);
+                    System.out.printf("%-8s %7d %-6s %12.3f %12.3f%n", mode.name().toLowerCase(), lanes,
+                            gated ? "yes" : "no", p50[ROUNDS / 2] / 1e6, max[ROUNDS / 2] / 1e6);
+                    assertTrue(max[ROUNDS / 2] >= 0);
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,37 @@
+package edu.eci.arsw.dogsrace.bench;
+
+import edu.eci.arsw.dogsrace.control.RaceControl;
+import edu.eci.arsw.dogsrace.domain.ArrivalRegistry;
+import edu.eci.arsw.dogsrace.engine.TickRaceEngine;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Carrera de un millón de carriles en un solo hilo con el motor por ticks.
+ * Solo corre con {@code mvn test -Pbench}.
+ */
+@Tag("benchmark")
+@DisplayName("Benchmark - TickRaceEngine")
+class TickRaceEngineBenchmark {
+
+    private static final int LANES = Integer.getInteger("bench.lanes", 1_000_000);
+    private static final int TRACK = Integer.getInteger("bench.track", 100);
+
+    @Test
+    @DisplayName("Un millón de carriles en un núcleo")
+    void millionLanes() throws InterruptedException {
+        for (int round = 0; round < 3; round++) {
+            ArrivalRegistry registry = new ArrivalRegistry();
+            long t0 = System.nanoTime();
+            int ticks = new TickRaceEngine(LANES, TRACK, registry, new RaceControl(), 0).run();
+            long millis = (System.nanoTime() - t0) / 1_000_000;
+
+            assertEquals(LANES + 1, registry.getNextPosition());
+            System.out.printf("tick engine: %d lanes x %d steps in %d ms (%d ticks, %.1f M steps/s)%n",
+                    LANES, TRACK, millis, ticks, (double) LANES * TRACK / Math.max(1, millis) / 1000.0);
+        }
+    }
+}
@@ -0,0 +1,41 @@
+package edu.eci.arsw.dogsrace.bench;
+
+import edu.eci.arsw.dogsrace.engine.TournamentEngine;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Carreras por segundo del torneo con 1, 2, 4... hilos hasta los núcleos disponibles,
+ * para ver qué tan cerca de lineal escala.
+ * Solo corre con {@code mvn test -Pbench}.
+ */
+@Tag("benchmark")
+@DisplayName("Benchmark - TournamentEngine")
+class TournamentEngineBenchmark {
+
+    private static final int RACES = Integer.getInteger("bench.races", 50_000);
+    private static final int LANES = Integer.getInteger("bench.lanes", 17);
+    private static final int TRACK = Integer.getInteger("bench.track", 100);
+
+    @Test
+    @DisplayName("Escalamiento de carreras/s según hilos")
+    void scaling() throws InterruptedException {
+        final int cores = Runtime.getRuntime().availableProcessors();
+        // warm-up
+        new TournamentEngine(LANES, TRACK, cores).run(RACES / 10);
+
+        System.out.printf("%8s %14s %10s%n", "threads", "races/s", "speedup");
+        double base = 0;
+        for (int threads = 1; threads <= cores; threads = threads < cores ? Math.min(cores, threads * 2) : cores + 1) {
+            TournamentEngine.Result result = new TournamentEngine(LANES, TRACK, threads).run(RACES);
+            assertEquals(RACES, result.races());
+            if (threads == 1) {
+                base = result.racesPerSecond();
+            }
+            System.out.printf("%8d %14.0f %10.2f%n", threads, result.racesPerSecond(), result.racesPerSecond() / base);
+        }
+    }
+}
@@ -0,0 +1,129 @@
+package edu.eci.arsw.dogsrace.bench;
+
+import edu.eci.arsw.dogsrace.domain.Lane;
+import edu.eci.arsw.dogsrace.domain.LaneModel;
+import edu.eci.arsw.dogsrace.ui.TrackPanel;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import javax.swing.JViewport;
+import javax.swing.SwingUtilities;
+import java.awt.Graphics2D;
+import java.awt.Point;
+import java.awt.image.BufferedImage;
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Costo de crear y pintar la pista con {@link TrackPanel} (1 000 carriles x
+ * 10 000 pasos), y costo por cuadro de la vista con desplazamiento sobre
+ * 100 000 carriles.
+ * Solo corre con {@code mvn test -Pbench}.
+ */
+@Tag("benchmark")
+@DisplayName("Benchmark - TrackPanel")
+class TrackPanelBenchmark {
+
+    private static final int LANES = 1_000;
+    private static final int STEPS = 10_000;
+    private static final int FRAMES = 60;
+
+    private static long usedHeap() {
+        Runtime runtime = Runtime.getRuntime();
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+        }
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+
+    @Test
+    @DisplayName("Pista pintada: memoria y tiempo por cuadro")
+    void paintedTrack() throws Exception {
+        long before = usedHeap();
+        long t0 = System.nanoTime();
+        LaneModel[] lanes = new LaneModel[LANES];
+        for (int i = 0; i < LANES; i++) {
+            lanes[i] = new Lane(STEPS, String.valueOf(i));
+        }
+        TrackPanel panel = new TrackPanel(lanes);
+        panel.setSize(1600, 1000);
+        long build = System.nanoTime() - t0;
+        long heap = usedHeap() - before;
+
+        BufferedImage frame = new BufferedImage(1600, 1000, BufferedImage.TYPE_INT_RGB);
+        SplittableRandom random = new SplittableRandom(1);
+        long[] full = new long[1];
+        long[] partial = new long[1];
+        SwingUtilities.invokeAndWait(() -> {
+            for (int f = 0; f < FRAMES; f++) {
+                for (LaneModel lane : lanes) {
+                    lane.displayPasos(random.nextInt(STEPS + 1));
+                }
+                long start = System.nanoTime();
+                panel.refresh();
+                Graphics2D g = frame.createGraphics();
+                panel.paint(g);
+                g.dispose();
+                full[0] += System.nanoTime() - start;
+
+                // a typical frame: a few lanes moved one step
+                for (int k = 0; k < 20; k++) {
+                    LaneModel lane = lanes[random.nextInt(LANES)];
+                    lane.displayPasos(Math.min(STEPS, lane.getPosition() + 1));
+                }
+                start = System.nanoTime();
+                panel.refresh();
+                g = frame.createGraphics();
+                g.setClip(0, 0, 1600, 100);
+                panel.paint(g);
+                g.dispose();
+                partial[0] += System.nanoTime() - start;
+            }
+        });
+        assertEquals(LANES, panel.getLaneCount());
+        System.out.printf("TrackPanel %d x %d: built in %d ms, ~%d KB heap, full frame %.2f ms, clipped frame %.2f ms%n",
+                LANES, STEPS, build / 1_000_000, heap / 1024, full[0] / 1e6 / FRAMES, partial[0] / 1e6 / FRAMES);
+    }
+
+    @Test
+    @DisplayName("Vista con desplazamiento: 100 000 carriles, 40 visibles")
+    void scrolledTrack() throws Exception {
+        int lanesCount = 100_000;
+        LaneModel[] lanes = new LaneModel[lanesCount];
+        for (int i = 0; i < lanesCount; i++) {
+            lanes[i] = new Lane(STEPS, String.valueOf(i));
+        }
+        TrackPanel panel = new TrackPanel(lanes);
+        JViewport viewport = new JViewport();
+        int height = panel.getPreferredScrollableViewportSize().height;
+        BufferedImage frame = new BufferedImage(1600, height, BufferedImage.TYPE_INT_RGB);
+        SplittableRandom random = new SplittableRandom(1);
+        long[] elapsed = new long[1];
+        SwingUtilities.invokeAndWait(() -> {
+            viewport.setView(panel);
+            viewport.setSize(1600, height);
+            panel.setSize(1600, panel.getPreferredSize().height);
+            panel.setFollowLeaders(true);
+            for (int f = 0; f < FRAMES; f++) {
+                // every lane moves, only the rows on screen are read and painted
+                for (LaneModel lane : lanes) {
+                    lane.displayPasos(random.nextInt(STEPS + 1));
+                }
+                long start = System.nanoTime();
+                panel.refresh();
+                Point at = viewport.getViewPosition();
+                Graphics2D g = frame.createGraphics();
+                g.translate(0, -at.y);
+                g.setClip(0, at.y, 1600, height);
+                panel.paint(g);
+                g.dispose();
+                elapsed[0] += System.nanoTime() - start;
+            }
+        });
+        assertTrue(panel.getLeader() >= 0);
+        System.out.printf("TrackPanel %d lanes scrolled, following leaders: %.2f ms per frame%n",
+                lanesCount, elapsed[0] / 1e6 / FRAMES);
+    }
+}
@@ -0,0 +1,37 @@
+package edu.eci.arsw.dogsrace.bench;
+
+import edu.eci.arsw.dogsrace.engine.WinProbabilityEstimator;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Estimación Monte Carlo de 17 carriles x 100 pasos con un millón de muestras.
+ * Solo corre con {@code mvn test -Pbench}.
+ */
+@Tag("benchmark")
+@DisplayName("Benchmark - WinProbabilityEstimator")
+class WinProbabilityEstimatorBenchmark {
+
+    private static final int SAMPLES = Integer.getInteger("bench.samples", 1_000_000);
+    private static final int LANES = Integer.getInteger("bench.lanes", 17);
+    private static final int TRACK = Integer.getInteger("bench.track", 100);
+
+    @Test
+    @DisplayName("Un millón de muestras de 17 carriles")
+    void millionSamples() {
+        WinProbabilityEstimator estimator = new WinProbabilityEstimator(LANES, TRACK);
+        for (int round = 0; round < 3; round++) {
+            long t0 = System.nanoTime();
+            WinProbabilityEstimator.Result result = estimator.estimate(SAMPLES, round);
+            long millis = (System.nanoTime() - t0) / 1_000_000;
+
+            assertEquals(SAMPLES, result.samples());
+            WinProbabilityEstimator.Estimate win = result.win(0);
+            System.out.printf("estimator: %d lanes x %d steps, %d samples in %d ms (lane 0 wins %.4f [%.4f, %.4f])%n",
+                    LANES, TRACK, SAMPLES, millis, win.probability(), win.low(), win.high());
+        }
+    }
+}
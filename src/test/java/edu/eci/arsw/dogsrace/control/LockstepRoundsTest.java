@@ -0,0 +1,185 @@
+package edu.eci.arsw.dogsrace.control;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Pruebas unitarias para LockstepRounds
+ * Cobertura: nadie adelanta una ronda, corredores que terminan antes, varios niveles de phasers,
+ * aborto, interrupción y validación
+ */
+@DisplayName("LockstepRounds Unit Tests")
+class LockstepRoundsTest {
+
+    /**
+     * Runner i takes {@code steps[i]} steps in lockstep; fails if it ever sees a live runner two steps behind.
+     */
+    private static void race(LockstepRounds rounds, int[] steps, AtomicReference<String> failure)
+            throws InterruptedException {
+        AtomicIntegerArray taken = new AtomicIntegerArray(steps.length);
+        List<Thread> threads = new ArrayList<>();
+        for (int i = 0; i < steps.length; i++) {
+            final int lane = i;
+            Thread t = new Thread(() -> {
+                try {
+                    for (int k = 1; k <= steps[lane]; k++) {
+                        taken.set(lane, k);
+                        for (int other = 0; other < steps.length; other++) {
+                            int behind = Math.min(k - 1, steps[other]);
+                            if (taken.get(other) < behind) {
+                                failure.compareAndSet(null, "lane " + lane + " took step " + k + " before lane "
+                                        + other + " took step " + behind);
+                            }
+                        }
+                        if (k < steps[lane]) {
+                            rounds.awaitRound(lane);
+                        }
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                } finally {
+                    rounds.leave(lane);
+                }
+            });
+            threads.add(t);
+            t.start();
+        }
+        for (Thread t : threads) {
+            t.join();
+        }
+    }
+
+    @Test
+    @Timeout(value = 10, unit = TimeUnit.SECONDS)
+    @DisplayName("Ningún corredor debe dar el paso k antes de que todos den el k-1")
+    void testNobodyGetsAhead() throws InterruptedException {
+        int[] steps = new int[8];
+        java.util.Arrays.fill(steps, 50);
+        LockstepRounds rounds = new LockstepRounds(steps.length);
+        AtomicReference<String> failure = new AtomicReference<>();
+
+        race(rounds, steps, failure);
+
+        assertNull(failure.get(), failure.get());
+        assertEquals(50, rounds.getRounds());
+        assertTrue(rounds.isDone());
+    }
+
+    @Test
+    @Timeout(value = 10, unit = TimeUnit.SECONDS)
+    @DisplayName("Los corredores que terminan no deben detener las rondas siguientes")
+    void testFinishedRunnersLeave() throws InterruptedException {
+        int[] steps = {1, 5, 10, 20, 40};
+        LockstepRounds rounds = new LockstepRounds(steps.length);
+        AtomicReference<String> failure = new AtomicReference<>();
+
+        race(rounds, steps, failure);
+
+        assertNull(failure.get(), failure.get());
+        assertTrue(rounds.isDone());
+    }
+
+    @Test
+    @Timeout(value = 20, unit = TimeUnit.SECONDS)
+    @DisplayName("Con más corredores que una hoja del árbol deben seguir en rondas")
+    void testTiered() throws InterruptedException {
+        int[] steps = new int[PhaserTree.TIER + 40];
+        for (int i = 0; i < steps.length; i++) {
+            steps[i] = 3 + i % 7;
+        }
+        LockstepRounds rounds = new LockstepRounds(steps.length);
+        AtomicReference<String> failure = new AtomicReference<>();
+
+        race(rounds, steps, failure);
+
+        assertNull(failure.get(), failure.get());
+        assertTrue(rounds.isDone());
+    }
+
+    @Test
+    @Timeout(value = 10, unit = TimeUnit.SECONDS)
+    @DisplayName("Abortar debe liberar a los que esperan la ronda")
+    void testAbort() throws InterruptedException {
+        LockstepRounds rounds = new LockstepRounds(3);
+        CountDownLatch released = new CountDownLatch(2);
+        for (int lane = 0; lane < 2; lane++) {
+            final int l = lane;
+            new Thread(() -> {
+                try {
+                    rounds.awaitRound(l);
+                    released.countDown();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }).start();
+        }
+        Thread.sleep(50);
+        assertEquals(2, released.getCount(), "lane 2 has not arrived");
+
+        new RaceControl(RaceListener.NONE, null, rounds).abort();
+
+        assertTrue(released.await(2, TimeUnit.SECONDS));
+        assertTrue(rounds.isDone());
+    }
+
+    @Test
+    @Timeout(value = 10, unit = TimeUnit.SECONDS)
+    @DisplayName("Un corredor interrumpido en la ronda debe salir sin romper la cuenta de los demás")
+    void testInterruptedRunnerLeaves() throws InterruptedException {
+        LockstepRounds rounds = new LockstepRounds(2);
+        AtomicInteger otherRounds = new AtomicInteger();
+        Thread interrupted = new Thread(() -> {
+            try {
+                rounds.awaitRound(0);
+            } catch (InterruptedException e) {
+                // leaving after an interrupt waits for the round it already arrived at
+            } finally {
+                rounds.leave(0);
+            }
+        });
+        interrupted.start();
+        Thread.sleep(50);
+        interrupted.interrupt();
+
+        Thread other = new Thread(() -> {
+            try {
+                for (int k = 0; k < 5; k++) {
+                    rounds.awaitRound(1);
+                    otherRounds.incrementAndGet();
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } finally {
+                rounds.leave(1);
+            }
+        });
+        other.start();
+        other.join(5_000);
+        interrupted.join(5_000);
+
+        assertFalse(other.isAlive());
+        assertEquals(5, otherRounds.get());
+        assertTrue(rounds.isDone());
+    }
+
+    @Test
+    @DisplayName("Datos inválidos deben rechazarse")
+    void testInvalidArguments() {
+        assertThrows(IllegalArgumentException.class, () -> new LockstepRounds(0));
+        LockstepRounds rounds = new LockstepRounds(2);
+        assertThrows(IllegalArgumentException.class, () -> rounds.awaitRound(2));
+        assertThrows(IllegalArgumentException.class, () -> rounds.leave(-1));
+        assertNull(new RaceControl().rounds());
+    }
+}
@@ -11,6 +11,7 @@ import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
 
 import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
 
 /**
  * Pruebas unitarias para RaceControl - VERSION CORREGIDA
@@ -66,7 +67,7 @@ class RaceControlTest {
     @DisplayName("awaitIfPaused no debe bloquear si no está pausado")
     @Timeout(value = 2, unit = TimeUnit.SECONDS)
     void testAwaitIfPausedDoesNotBlockWhenNotPaused() throws InterruptedException {
-        control.awaitIfPaused();
+        control.awaitIfPaused(0, 0);
         assertTrue(true);
     }
 
@@ -81,7 +82,7 @@ class RaceControlTest {
         Thread testThread = new Thread(() -> {
             try {
                 threadWaited.set(true);
-                control.awaitIfPaused();
+                control.awaitIfPaused(0, 0);
                 threadContinued.set(true);
             } catch (InterruptedException e) {
                 Thread.currentThread().interrupt();
@@ -113,7 +114,7 @@ class RaceControlTest {
             new Thread(() -> {
                 try {
                     allThreadsWaiting.countDown();
-                    control.awaitIfPaused();
+                    control.awaitIfPaused(0, 0);
                     allThreadsContinued.countDown();
                 } catch (InterruptedException e) {
                     Thread.currentThread().interrupt();
@@ -140,7 +141,7 @@ class RaceControlTest {
 
         Thread testThread = new Thread(() -> {
             try {
-                control.awaitIfPaused();
+                control.awaitIfPaused(0, 0);
             } catch (InterruptedException e) {
                 interrupted.set(true);
                 Thread.currentThread().interrupt();
@@ -185,7 +186,7 @@ class RaceControlTest {
         Thread worker = new Thread(() -> {
             for (int i = 0; i < iterations; i++) {
                 try {
-                    control.awaitIfPaused();
+                    control.awaitIfPaused(0, 0);
                     completedIterations.incrementAndGet();
                     Thread.sleep(1);
                 } catch (InterruptedException e) {
@@ -241,4 +242,145 @@ class RaceControlTest {
         assertTrue(latch.await(10, TimeUnit.SECONDS));
         assertEquals(1000, readCount.get());
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("Hilos virtuales en pausa deben reanudarse todos")
+    @Timeout(value = 10, unit = TimeUnit.SECONDS)
+    void testVirtualThreadsWaitAndResume() throws InterruptedException {
+        control.pause();
+
+        int numberOfThreads = 1000;
+        CountDownLatch allThreadsContinued = new CountDownLatch(numberOfThreads);
+
+        for (int i = 0; i < numberOfThreads; i++) {
+            Thread.ofVirtual().start(() -> {
+                try {
+                    control.awaitIfPaused(0, 0);
+                    allThreadsContinued.countDown();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            });
+        }
+
+        Thread.sleep(100);
+        assertEquals(numberOfThreads, allThreadsContinued.getCount());
+
+        control.resume();
+
+        assertTrue(allThreadsContinued.await(5, TimeUnit.SECONDS));
+    }
+
+    @Test
+    @DisplayName("Si se pausa de nuevo antes de despertar, debe seguir esperando")
+    @Timeout(value = 5, unit = TimeUnit.SECONDS)
+    void testRepauseKeepsWaiting() throws InterruptedException {
+        control.pause();
+        CountDownLatch continued = new CountDownLatch(1);
+
+        Thread waiter = new Thread(() -> {
+            try {
+                control.awaitIfPaused(0, 0);
+                continued.countDown();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        waiter.start();
+        Thread.sleep(50);
+
+        control.resume();
+        control.pause();
+        continued.await(100, TimeUnit.MILLISECONDS);
+        // resume-then-pause may or may not let the waiter through, but it must end once resumed
+        control.resume();
+
+        assertTrue(continued.await(2, TimeUnit.SECONDS));
+    }
+
+    @Test
+    @DisplayName("awaitIfPaused no debe esperar a quien pausa o reanuda")
+    @Timeout(value = 5, unit = TimeUnit.SECONDS)
+    void testFastPathDoesNotTouchTheLock() throws InterruptedException {
+        AtomicInteger steps = new AtomicInteger();
+        Thread runner = new Thread(() -> {
+            try {
+                for (int i = 0; i < 1_000_000; i++) {
+                    control.awaitIfPaused(0, 0);
+                    steps.incrementAndGet();
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+
+        runner.start();
+        runner.join();
+
+        assertEquals(1_000_000, steps.get());
+        assertFalse(control.isPaused());
+    }
+
+    @Test
+    @DisplayName("Debe avisar al listener una vez por pausa y por reanudación")
+    void testReportsPauseAndResumeToListener() {
+        RaceListener listener = mock(RaceListener.class);
+        RaceControl observed = new RaceControl(listener);
+
+        observed.pause();
+        observed.pause();
+        observed.resume();
+        observed.resume();
+
+        verify(listener, times(1)).onPause();
+        verify(listener, times(1)).onResume();
+        assertSame(listener, observed.listener());
+    }
+
+    @Test
+    @DisplayName("Sin listener explícito no debe avisar a nadie")
+    void testDefaultListenerIsNone() {
+        assertSame(RaceListener.NONE, control.listener());
+        assertThrows(NullPointerException.class, () -> new RaceControl(null));
+    }
+
+    @Test
+    @DisplayName("Abortar debe despertar a los pausados con InterruptedException")
+    @Timeout(value = 5, unit = TimeUnit.SECONDS)
+    void testAbortWakesPausedRunners() throws InterruptedException {
+        control.pause();
+        int threads = 4;
+        CountDownLatch parked = new CountDownLatch(threads);
+        CountDownLatch stopped = new CountDownLatch(threads);
+        for (int i = 0; i < threads; i++) {
+            new Thread(() -> {
+                parked.countDown();
+                try {
+                    control.awaitIfPaused(0, 0);
+                } catch (InterruptedException e) {
+                    stopped.countDown();
+                }
+            }).start();
+        }
+        assertTrue(parked.await(1, TimeUnit.SECONDS));
+        Thread.sleep(50);
+
+        control.abort();
+
+        assertTrue(stopped.await(2, TimeUnit.SECONDS));
+        assertTrue(control.isAborted());
+        assertFalse(control.isPaused());
+    }
+
+    @Test
+    @DisplayName("Tras abortar, pausar o reanudar no debe reabrir la carrera")
+    void testAbortIsFinal() {
+        control.abort();
+        control.resume();
+        control.pause();
+
+        assertTrue(control.isAborted());
+        assertFalse(control.isPaused());
+        assertThrows(InterruptedException.class, () -> control.awaitIfPaused(0, 0));
+    }
+}
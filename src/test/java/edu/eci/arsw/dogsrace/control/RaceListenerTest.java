@@ -0,0 +1,67 @@
+package edu.eci.arsw.dogsrace.control;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Pruebas unitarias para RaceListener
+ * Cobertura: combinación de varios listeners de una carrera
+ */
+@DisplayName("RaceListener Unit Tests")
+class RaceListenerTest {
+
+    private static RaceListener recording(String name, List<String> events) {
+        return new RaceListener() {
+            @Override
+            public void onStep(int lane, int position) {
+                events.add(name + ":step " + lane + " " + position);
+            }
+
+            @Override
+            public void onPause() {
+                events.add(name + ":pause");
+            }
+
+            @Override
+            public void onResume() {
+                events.add(name + ":resume");
+            }
+
+            @Override
+            public void onArrival(int lane, int position) {
+                events.add(name + ":arrival " + lane + " " + position);
+            }
+        };
+    }
+
+    @Test
+    @DisplayName("Cada evento debe llegar a todos los listeners, en orden")
+    void testAllForwardsEveryEvent() {
+        List<String> events = new ArrayList<>();
+        RaceListener all = RaceListener.all(recording("a", events), recording("b", events));
+
+        all.onStep(1, 2);
+        all.onPause();
+        all.onResume();
+        all.onArrival(1, 1);
+
+        assertEquals(List.of("a:step 1 2", "b:step 1 2", "a:pause", "b:pause",
+                "a:resume", "b:resume", "a:arrival 1 1", "b:arrival 1 1"), events);
+    }
+
+    @Test
+    @DisplayName("NONE debe descartarse y un único listener devolverse tal cual")
+    void testAllDropsNone() {
+        RaceListener only = recording("a", new ArrayList<>());
+
+        assertSame(only, RaceListener.all(RaceListener.NONE, only));
+        assertSame(RaceListener.NONE, RaceListener.all());
+        assertSame(RaceListener.NONE, RaceListener.all(RaceListener.NONE, RaceListener.NONE));
+        assertThrows(NullPointerException.class, () -> RaceListener.all(only, null));
+    }
+}
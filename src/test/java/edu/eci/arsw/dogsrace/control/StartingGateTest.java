@@ -0,0 +1,158 @@
+package edu.eci.arsw.dogsrace.control;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Pruebas unitarias para StartingGate
+ * Cobertura: nadie sale antes de abrir, salida conjunta con varios niveles de phasers,
+ * desfase de salida, aborto y validación
+ */
+@DisplayName("StartingGate Unit Tests")
+class StartingGateTest {
+
+    private static List<Thread> startRunners(StartingGate gate, int runners, AtomicInteger passed,
+            AtomicReference<Throwable> failure) {
+        List<Thread> threads = new ArrayList<>();
+        for (int i = 0; i < runners; i++) {
+            final int lane = i;
+            Thread t = new Thread(() -> {
+                try {
+                    gate.await(lane);
+                    passed.incrementAndGet();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                } catch (RuntimeException e) {
+                    failure.set(e);
+                }
+            });
+            t.start();
+            threads.add(t);
+        }
+        return threads;
+    }
+
+    @Test
+    @Timeout(value = 10, unit = TimeUnit.SECONDS)
+    @DisplayName("Ningún corredor debe salir antes de que el juez abra la puerta")
+    void testNobodyLeavesBeforeOpen() throws InterruptedException {
+        StartingGate gate = new StartingGate(10);
+        AtomicInteger passed = new AtomicInteger();
+        List<Thread> runners = startRunners(gate, 10, passed, new AtomicReference<>());
+        Thread.sleep(100);
+
+        assertEquals(0, passed.get());
+        assertFalse(gate.isOpen());
+
+        gate.open();
+        for (Thread t : runners) {
+            t.join();
+        }
+        assertEquals(10, passed.get());
+        assertTrue(gate.isOpen());
+        assertEquals(10, gate.skew().count());
+    }
+
+    @Test
+    @Timeout(value = 10, unit = TimeUnit.SECONDS)
+    @DisplayName("La puerta debe abrir cuando llega el último corredor si el juez ya dio la salida")
+    void testOpensOnLastArrival() throws InterruptedException {
+        StartingGate gate = new StartingGate(PhaserTree.TIER * 2 + 3);
+        gate.open();
+        gate.open();
+        AtomicInteger passed = new AtomicInteger();
+        AtomicReference<Throwable> failure = new AtomicReference<>();
+        List<Thread> runners = startRunners(gate, gate.getRunners() - 1, passed, failure);
+        Thread.sleep(100);
+        assertEquals(0, passed.get(), "one runner is still missing");
+
+        Thread last = new Thread(() -> {
+            try {
+                gate.await(gate.getRunners() - 1);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        last.start();
+        last.join();
+        for (Thread t : runners) {
+            t.join();
+        }
+
+        assertNull(failure.get());
+        assertEquals(gate.getRunners() - 1, passed.get());
+        assertEquals(gate.getRunners(), gate.skew().count());
+    }
+
+    @Test
+    @Timeout(value = 10, unit = TimeUnit.SECONDS)
+    @DisplayName("Abortar debe liberar a los que esperan sin abrir la puerta")
+    void testAbortReleasesWaiters() throws InterruptedException {
+        StartingGate gate = new StartingGate(4);
+        AtomicInteger passed = new AtomicInteger();
+        List<Thread> runners = startRunners(gate, 3, passed, new AtomicReference<>());
+        Thread.sleep(50);
+
+        gate.abort();
+        for (Thread t : runners) {
+            t.join();
+        }
+
+        assertEquals(3, passed.get());
+        assertFalse(gate.isOpen());
+        assertEquals(0, gate.skew().count());
+    }
+
+    @Test
+    @Timeout(value = 10, unit = TimeUnit.SECONDS)
+    @DisplayName("Un corredor en espera debe poder interrumpirse")
+    void testAwaitIsInterruptible() throws InterruptedException {
+        StartingGate gate = new StartingGate(2);
+        CountDownLatch interrupted = new CountDownLatch(1);
+        Thread t = new Thread(() -> {
+            try {
+                gate.await(0);
+            } catch (InterruptedException e) {
+                interrupted.countDown();
+            }
+        });
+        t.start();
+        Thread.sleep(50);
+        t.interrupt();
+
+        assertTrue(interrupted.await(2, TimeUnit.SECONDS));
+    }
+
+    @Test
+    @DisplayName("Abortar la carrera debe abortar su puerta")
+    void testRaceControlAbortsItsGate() throws InterruptedException {
+        StartingGate gate = new StartingGate(1);
+        RaceControl control = new RaceControl(RaceListener.NONE, gate);
+        assertSame(gate, control.startingGate());
+
+        control.abort();
+        control.awaitStart(0);
+
+        assertFalse(gate.isOpen());
+        assertNull(new RaceControl().startingGate());
+    }
+
+    @Test
+    @DisplayName("Datos inválidos deben rechazarse")
+    void testInvalidArguments() {
+        assertThrows(IllegalArgumentException.class, () -> new StartingGate(0));
+        StartingGate gate = new StartingGate(3);
+        assertThrows(IllegalArgumentException.class, () -> gate.await(-1));
+        assertThrows(IllegalArgumentException.class, () -> gate.await(3));
+    }
+}
@@ -3,17 +3,27 @@ package edu.eci.arsw.dogsrace.domain;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.DisplayName;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.Flow;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
 
 import static org.junit.jupiter.api.Assertions.*;
 
 /**
  * Pruebas unitarias para ArrivalRegistry
- * Cobertura: sincronización, registro de llegadas, thread-safety
+ * Cobertura: sincronización, registro de llegadas, thread-safety, publicación de llegadas (Flow),
+ * ganador visible antes de la primera llegada, ejecutor que rechaza
  */
 @DisplayName("ArrivalRegistry Unit Tests")
 class ArrivalRegistryTest {
@@ -160,4 +170,439 @@ class ArrivalRegistryTest {
         assertNotNull(snapshot.toString());
         assertEquals(snapshot, new ArrivalRegistry.ArrivalSnapshot(1, "Winner"));
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("Debe registrar un lote de llegadas en orden")
+    void testRegisterArrivalsBatch() {
+        int first = registry.registerArrivals("A", "B", "C");
+
+        assertEquals(1, first);
+        assertEquals("A", registry.getWinner());
+        assertEquals(4, registry.getNextPosition());
+
+        ArrivalRegistry.ArrivalSnapshot next = registry.registerArrival("D");
+        assertEquals(4, next.position());
+        assertEquals("A", next.winner());
+    }
+
+    @Test
+    @DisplayName("Un lote posterior no debe cambiar el ganador")
+    void testLaterBatchKeepsWinner() {
+        registry.registerArrival("Winner");
+
+        assertEquals(2, registry.registerArrivals("X", "Y"));
+        assertEquals("Winner", registry.getWinner());
+        assertEquals(4, registry.getNextPosition());
+    }
+
+    @Test
+    @DisplayName("Un lote vacío no debe cambiar el estado")
+    void testEmptyBatch() {
+        assertEquals(1, registry.registerArrivals());
+        assertNull(registry.getWinner());
+        assertEquals(1, registry.getNextPosition());
+    }
+
+    @Test
+    @DisplayName("Un lote con nombres null debe rechazarse completo")
+    void testBatchWithNullRejected() {
+        assertThrows(NullPointerException.class, () -> registry.registerArrivals("A", null));
+        assertEquals(1, registry.getNextPosition());
+        assertNull(registry.getWinner());
+    }
+
+    @Test
+    @DisplayName("Debe exponer las llegadas en orden con su instante")
+    void testArrivalsInOrderWithNanoTime() {
+        long before = System.nanoTime();
+        registry.registerArrival("A");
+        registry.registerArrivals("B", "C");
+        registry.registerArrival("D");
+        long after = System.nanoTime();
+
+        List<ArrivalRegistry.Arrival> arrivals = registry.getArrivals();
+
+        assertEquals(4, arrivals.size());
+        String[] expected = {"A", "B", "C", "D"};
+        for (int i = 0; i < expected.length; i++) {
+            ArrivalRegistry.Arrival arrival = arrivals.get(i);
+            assertEquals(i + 1, arrival.position());
+            assertEquals(expected[i], arrival.dogName());
+            assertTrue(arrival.nanoTime() >= before && arrival.nanoTime() <= after);
+        }
+        assertEquals(arrivals.get(1).nanoTime(), arrivals.get(2).nanoTime());
+    }
+
+    @Test
+    @DisplayName("Sin llegadas la lista debe estar vacía")
+    void testNoArrivals() {
+        assertTrue(registry.getArrivals().isEmpty());
+    }
+
+    @Test
+    @DisplayName("Debe crecer más allá de la capacidad inicial")
+    void testGrowsBeyondInitialCapacity() {
+        ArrivalRegistry small = new ArrivalRegistry(3);
+        for (int i = 0; i < 100; i++) {
+            assertEquals(i + 1, small.registerArrival("Dog" + i).position());
+        }
+        small.registerArrivals("X", "Y", "Z");
+
+        List<ArrivalRegistry.Arrival> arrivals = small.getArrivals();
+        assertEquals(103, arrivals.size());
+        for (int i = 0; i < arrivals.size(); i++) {
+            assertEquals(i + 1, arrivals.get(i).position());
+        }
+        assertEquals("Dog0", small.getWinner());
+        assertEquals("Z", arrivals.get(102).dogName());
+    }
+
+    @Test
+    @DisplayName("Debe rechazar una capacidad no positiva")
+    void testRejectsInvalidCapacity() {
+        assertThrows(IllegalArgumentException.class, () -> new ArrivalRegistry(0));
+    }
+
+    @Test
+    @DisplayName("Todas las instantáneas deben ver al mismo ganador bajo concurrencia")
+    void testEverySnapshotSeesTheWinner() throws InterruptedException {
+        int participants = 200;
+        ArrivalRegistry.ArrivalSnapshot[] snapshots = new ArrivalRegistry.ArrivalSnapshot[participants];
+        CountDownLatch startLatch = new CountDownLatch(1);
+        Thread[] threads = new Thread[participants];
+
+        for (int i = 0; i < participants; i++) {
+            final int dogNum = i;
+            threads[i] = new Thread(() -> {
+                try {
+                    startLatch.await();
+                    snapshots[dogNum] = registry.registerArrival("Dog" + dogNum);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            });
+            threads[i].start();
+        }
+        startLatch.countDown();
+        for (Thread thread : threads) {
+            thread.join();
+        }
+
+        Set<Integer> positions = new HashSet<>();
+        for (ArrivalRegistry.ArrivalSnapshot snapshot : snapshots) {
+            assertEquals(registry.getWinner(), snapshot.winner());
+            positions.add(snapshot.position());
+        }
+        assertEquals(participants, positions.size());
+        assertEquals(registry.getWinner(), registry.getArrivals().get(0).dogName());
+    }
+
+    @Test
+    @DisplayName("Un lote debe ocupar posiciones consecutivas aunque otros lleguen a la vez")
+    void testBatchStaysConsecutiveUnderConcurrency() throws InterruptedException {
+        int singles = 50;
+        CountDownLatch startLatch = new CountDownLatch(1);
+        AtomicInteger batchFirst = new AtomicInteger();
+        List<Thread> threads = new ArrayList<>();
+        threads.add(new Thread(() -> {
+            try {
+                startLatch.await();
+                batchFirst.set(registry.registerArrivals("B1", "B2", "B3"));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }));
+        for (int i = 0; i < singles; i++) {
+            final int dogNum = i;
+            threads.add(new Thread(() -> {
+                try {
+                    startLatch.await();
+                    registry.registerArrival("Dog" + dogNum);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }));
+        }
+        threads.forEach(Thread::start);
+        startLatch.countDown();
+        for (Thread thread : threads) {
+            thread.join();
+        }
+
+        List<ArrivalRegistry.Arrival> arrivals = registry.getArrivals();
+        assertEquals(singles + 3, arrivals.size());
+        int first = batchFirst.get();
+        assertEquals("B1", arrivals.get(first - 1).dogName());
+        assertEquals("B2", arrivals.get(first).dogName());
+        assertEquals("B3", arrivals.get(first + 1).dogName());
+        assertEquals(arrivals.get(0).dogName(), registry.getWinner());
+    }
+
+    @Test
+    @DisplayName("Leer las llegadas no debe bloquear a quienes registran")
+    void testReadersSeeConsistentPrefix() throws InterruptedException {
+        int writers = 8;
+        int perWriter = 2000;
+        AtomicBoolean done = new AtomicBoolean(false);
+        AtomicBoolean inconsistent = new AtomicBoolean(false);
+
+        Thread reader = new Thread(() -> {
+            while (!done.get()) {
+                List<ArrivalRegistry.Arrival> arrivals = registry.getArrivals();
+                for (int i = 0; i < arrivals.size(); i++) {
+                    if (arrivals.get(i).position() != i + 1) {
+                        inconsistent.set(true);
+                    }
+                }
+            }
+        });
+        reader.start();
+
+        ExecutorService executor = Executors.newFixedThreadPool(writers);
+        for (int w = 0; w < writers; w++) {
+            final int writer = w;
+            executor.submit(() -> {
+                for (int i = 0; i < perWriter; i++) {
+                    registry.registerArrival("W" + writer + "-" + i);
+                }
+            });
+        }
+        executor.shutdown();
+        assertTrue(executor.awaitTermination(10, TimeUnit.SECONDS));
+        done.set(true);
+        reader.join();
+
+        assertFalse(inconsistent.get());
+        assertEquals(writers * perWriter, registry.getArrivals().size());
+    }
+
+    /**
+     * Subscriber that keeps what it receives and requests {@code initial} arrivals on subscribe.
+     */
+    private static class Recorder implements Flow.Subscriber<ArrivalRegistry.Arrival> {
+
+        final List<ArrivalRegistry.Arrival> received = new CopyOnWriteArrayList<>();
+        final CountDownLatch completed = new CountDownLatch(1);
+        final AtomicReference<Throwable> error = new AtomicReference<>();
+        final long initial;
+        volatile Flow.Subscription subscription;
+
+        Recorder(long initial) {
+            this.initial = initial;
+        }
+
+        @Override
+        public void onSubscribe(Flow.Subscription subscription) {
+            this.subscription = subscription;
+            subscription.request(initial);
+        }
+
+        @Override
+        public void onNext(ArrivalRegistry.Arrival arrival) {
+            received.add(arrival);
+        }
+
+        @Override
+        public void onError(Throwable throwable) {
+            error.set(throwable);
+            completed.countDown();
+        }
+
+        @Override
+        public void onComplete() {
+            completed.countDown();
+        }
+
+        List<String> names() {
+            List<String> names = new ArrayList<>();
+            for (ArrivalRegistry.Arrival arrival : received) {
+                names.add(arrival.dogName());
+            }
+            return names;
+        }
+    }
+
+    @Test
+    @DisplayName("Un suscriptor debe recibir cada llegada en orden y completar al cerrar")
+    void testSubscriberReceivesArrivalsInOrder() throws InterruptedException {
+        Recorder recorder = new Recorder(Long.MAX_VALUE);
+        registry.subscribe(recorder, Runnable::run);
+
+        registry.registerArrival("A");
+        registry.registerArrivals("B", "C");
+        assertEquals(List.of("A", "B", "C"), recorder.names());
+        assertEquals(1, recorder.completed.getCount());
+
+        registry.close();
+        assertTrue(recorder.completed.await(1, TimeUnit.SECONDS));
+        assertNull(recorder.error.get());
+        assertEquals(0, registry.getNumberOfSubscribers());
+    }
+
+    @Test
+    @DisplayName("Un suscriptor tardío debe recibir todas las llegadas desde la primera")
+    void testLateSubscriberReplaysFromFirst() throws InterruptedException {
+        registry.registerArrival("A");
+        registry.registerArrival("B");
+        registry.close();
+
+        Recorder recorder = new Recorder(Long.MAX_VALUE);
+        registry.subscribe(recorder);
+
+        assertTrue(recorder.completed.await(5, TimeUnit.SECONDS));
+        assertEquals(List.of("A", "B"), recorder.names());
+    }
+
+    @Test
+    @DisplayName("Un suscriptor solo debe recibir lo que pidió")
+    void testBackpressure() {
+        Recorder recorder = new Recorder(2);
+        registry.subscribe(recorder, Runnable::run);
+        for (int i = 0; i < 5; i++) {
+            registry.registerArrival("G" + i);
+        }
+        assertEquals(List.of("G0", "G1"), recorder.names());
+
+        recorder.subscription.request(2);
+        assertEquals(List.of("G0", "G1", "G2", "G3"), recorder.names());
+
+        registry.close();
+        assertEquals(1, recorder.completed.getCount(), "complete only after the last arrival was delivered");
+        recorder.subscription.request(10);
+        assertEquals(5, recorder.received.size());
+        assertEquals(0, recorder.completed.getCount());
+    }
+
+    @Test
+    @DisplayName("Un suscriptor lento no debe bloquear al corredor que llega")
+    void testSlowSubscriberDoesNotBlockRunners() throws InterruptedException {
+        CountDownLatch release = new CountDownLatch(1);
+        Recorder slow = new Recorder(Long.MAX_VALUE) {
+            @Override
+            public void onNext(ArrivalRegistry.Arrival arrival) {
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                super.onNext(arrival);
+            }
+        };
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            registry.subscribe(slow, executor);
+            long t0 = System.nanoTime();
+            for (int i = 0; i < 100; i++) {
+                registry.registerArrival("G" + i);
+            }
+            assertTrue(System.nanoTime() - t0 < TimeUnit.SECONDS.toNanos(1));
+            assertTrue(slow.received.isEmpty());
+
+            registry.close();
+            release.countDown();
+            assertTrue(slow.completed.await(5, TimeUnit.SECONDS));
+            assertEquals(100, slow.received.size());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    @DisplayName("Pedir cero llegadas o cerrar con error debe terminar con onError")
+    void testErrors() {
+        Recorder invalid = new Recorder(0);
+        registry.subscribe(invalid, Runnable::run);
+        assertTrue(invalid.error.get() instanceof IllegalArgumentException);
+
+        Recorder aborted = new Recorder(Long.MAX_VALUE);
+        registry.subscribe(aborted, Runnable::run);
+        registry.registerArrival("A");
+        IllegalStateException abort = new IllegalStateException("aborted");
+        registry.closeExceptionally(abort);
+        assertSame(abort, aborted.error.get());
+        assertEquals(List.of("A"), aborted.names());
+    }
+
+    @Test
+    @DisplayName("Cancelar debe detener la entrega")
+    void testCancel() {
+        Recorder recorder = new Recorder(Long.MAX_VALUE);
+        registry.subscribe(recorder, Runnable::run);
+        registry.registerArrival("A");
+
+        recorder.subscription.cancel();
+        registry.registerArrival("B");
+
+        assertEquals(List.of("A"), recorder.names());
+        assertEquals(0, registry.getNumberOfSubscribers());
+    }
+
+    @Test
+    @DisplayName("Un suscriptor debe ver al ganador ya publicado al recibir la primera llegada")
+    void testWinnerIsSetBeforeFirstArrivalIsStreamed() {
+        ArrivalRegistry batch = new ArrivalRegistry();
+        List<String> winners = new CopyOnWriteArrayList<>();
+        registry.subscribe(new Recorder(Long.MAX_VALUE) {
+            @Override
+            public void onNext(ArrivalRegistry.Arrival arrival) {
+                winners.add(registry.getWinner());
+            }
+        }, Runnable::run);
+        batch.subscribe(new Recorder(Long.MAX_VALUE) {
+            @Override
+            public void onNext(ArrivalRegistry.Arrival arrival) {
+                winners.add(batch.getWinner());
+            }
+        }, Runnable::run);
+
+        registry.registerArrival("A");
+        batch.registerArrivals("B", "C");
+
+        assertEquals(List.of("A", "B", "B"), winners);
+    }
+
+    @Test
+    @DisplayName("Un ejecutor que rechaza la entrega debe terminar la suscripción con onError")
+    void testRejectedExecutorSignalsError() {
+        Recorder recorder = new Recorder(Long.MAX_VALUE);
+        RejectedExecutionException rejected = new RejectedExecutionException("shut down");
+
+        registry.subscribe(recorder, task -> {
+            throw rejected;
+        });
+
+        assertSame(rejected, recorder.error.get());
+        assertEquals(0, recorder.completed.getCount());
+        assertEquals(0, registry.getNumberOfSubscribers());
+        registry.registerArrival("A");
+        assertTrue(recorder.names().isEmpty());
+    }
+
+    @Test
+    @DisplayName("Con escritores concurrentes cada llegada debe entregarse una vez y en orden")
+    void testConcurrentWritersAreStreamedInOrder() throws InterruptedException {
+        int writers = 8;
+        int perWriter = 2_000;
+        Recorder recorder = new Recorder(Long.MAX_VALUE);
+        registry.subscribe(recorder);
+
+        ExecutorService executor = Executors.newFixedThreadPool(writers);
+        for (int w = 0; w < writers; w++) {
+            final int writer = w;
+            executor.submit(() -> {
+                for (int i = 0; i < perWriter; i++) {
+                    registry.registerArrival("W" + writer + "-" + i);
+                }
+            });
+        }
+        executor.shutdown();
+        assertTrue(executor.awaitTermination(10, TimeUnit.SECONDS));
+        registry.close();
+
+        assertTrue(recorder.completed.await(10, TimeUnit.SECONDS));
+        assertEquals(writers * perWriter, recorder.received.size());
+        for (int i = 0; i < recorder.received.size(); i++) {
+            assertEquals(i + 1, recorder.received.get(i).position());
+        }
+    }
+}
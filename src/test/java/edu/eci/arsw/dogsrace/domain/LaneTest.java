@@ -0,0 +1,99 @@
+package edu.eci.arsw.dogsrace.domain;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Pruebas unitarias para Lane
+ * Cobertura: progreso primitivo, llegada, reinicio, validaciones
+ */
+@DisplayName("Lane Unit Tests")
+class LaneTest {
+
+    private Lane lane;
+
+    @BeforeEach
+    void setUp() {
+        lane = new Lane(10, "7");
+    }
+
+    @Test
+    @DisplayName("Estado inicial: en la salida y sin llegar")
+    void testInitialState() {
+        assertEquals(10, lane.size());
+        assertEquals("7", lane.getName());
+        assertEquals(0, lane.getPosition());
+        assertFalse(lane.isFinished());
+    }
+
+    @Test
+    @DisplayName("setPasoOn debe avanzar la posición")
+    void testSetPasoOnAdvances() {
+        lane.setPasoOn(0);
+        assertEquals(1, lane.getPosition());
+
+        lane.setPasoOn(4);
+        assertEquals(5, lane.getPosition());
+    }
+
+    @Test
+    @DisplayName("displayPasos debe publicar los pasos dados")
+    void testDisplayPasos() {
+        lane.displayPasos(10);
+        assertEquals(10, lane.getPosition());
+    }
+
+    @Test
+    @DisplayName("finish debe marcar la llegada")
+    void testFinish() {
+        lane.finish();
+        assertTrue(lane.isFinished());
+    }
+
+    @Test
+    @DisplayName("reStart debe volver a la salida")
+    void testReStart() {
+        lane.setPasoOn(9);
+        lane.finish();
+
+        lane.reStart();
+
+        assertEquals(0, lane.getPosition());
+        assertFalse(lane.isFinished());
+    }
+
+    @Test
+    @DisplayName("Debe rechazar pasos fuera de la pista")
+    void testRejectsOutOfRange() {
+        assertThrows(IndexOutOfBoundsException.class, () -> lane.setPasoOn(10));
+        assertThrows(IndexOutOfBoundsException.class, () -> lane.setPasoOn(-1));
+        assertThrows(IndexOutOfBoundsException.class, () -> lane.displayPasos(11));
+    }
+
+    @Test
+    @DisplayName("Debe rechazar parámetros inválidos")
+    void testRejectsInvalidArguments() {
+        assertThrows(IllegalArgumentException.class, () -> new Lane(-1, "x"));
+        assertThrows(NullPointerException.class, () -> new Lane(1, null));
+    }
+
+    @Test
+    @DisplayName("El progreso escrito por un hilo debe verse desde otro")
+    void testProgressVisibleAcrossThreads() throws InterruptedException {
+        Thread writer = new Thread(() -> {
+            for (int i = 0; i < lane.size(); i++) {
+                lane.setPasoOn(i);
+            }
+            lane.finish();
+        });
+
+        writer.start();
+        writer.join();
+
+        assertEquals(10, lane.getPosition());
+        assertTrue(lane.isFinished());
+    }
+}
@@ -0,0 +1,174 @@
+package edu.eci.arsw.dogsrace.domain;
+
+import edu.eci.arsw.dogsrace.control.RaceControl;
+import edu.eci.arsw.dogsrace.engine.TickRaceEngine;
+import edu.eci.arsw.dogsrace.util.RaceRandom;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Pruebas unitarias para Leaderboard
+ * Cobertura: orden por avance y por llegada, empates, top-K, reinicio y lectura concurrente
+ */
+@DisplayName("Leaderboard Unit Tests")
+class LeaderboardTest {
+
+    private static int[] lanes(List<Leaderboard.Standing> standings) {
+        return standings.stream().mapToInt(Leaderboard.Standing::lane).toArray();
+    }
+
+    @Test
+    @DisplayName("Los carriles deben ordenarse por pasos, y a igual avance por número de carril")
+    void testOrdersByProgress() {
+        Leaderboard board = new Leaderboard(5);
+        board.onStep(3, 1);
+        board.onStep(3, 2);
+        board.onStep(1, 1);
+        board.onStep(4, 2);
+
+        assertArrayEquals(new int[]{3, 4, 1}, lanes(board.top(3)));
+        assertEquals(3, board.leader());
+        Leaderboard.Standing first = board.top(1).get(0);
+        assertEquals(2, first.position());
+        assertFalse(first.finished());
+    }
+
+    @Test
+    @DisplayName("Los carriles que llegaron deben ir primero, en orden de llegada")
+    void testFinishedLanesComeFirst() {
+        Leaderboard board = new Leaderboard(3);
+        board.onStep(2, 5);
+        board.onArrival(2, 2);
+        board.onStep(0, 5);
+        board.onArrival(0, 1);
+        board.onStep(1, 4);
+
+        List<Leaderboard.Standing> top = board.top(3);
+        assertArrayEquals(new int[]{0, 2, 1}, lanes(top));
+        assertEquals(1, top.get(0).arrival());
+        assertEquals(5, top.get(0).position());
+        assertEquals(2, top.get(1).arrival());
+        assertEquals(0, top.get(2).arrival());
+    }
+
+    @Test
+    @DisplayName("El top-K debe incluir a todos los carriles, también los que no han salido")
+    void testTopKIncludesEveryLane() {
+        Leaderboard board = new Leaderboard(4);
+
+        assertArrayEquals(new int[]{0, 1, 2, 3}, lanes(board.top(10)));
+        assertEquals(2, board.top(2).size());
+        assertTrue(board.top(0).isEmpty());
+        assertThrows(IllegalArgumentException.class, () -> board.top(-1));
+    }
+
+    @Test
+    @DisplayName("Eventos de carriles fuera de rango deben ignorarse")
+    void testIgnoresUnknownLanes() {
+        Leaderboard board = new Leaderboard(2);
+        board.onStep(-1, 3);
+        board.onStep(2, 3);
+        board.onArrival(7, 1);
+
+        assertArrayEquals(new int[]{0, 1}, lanes(board.top(5)));
+    }
+
+    @Test
+    @DisplayName("Reiniciar debe devolver a todos a la salida")
+    void testReset() {
+        Leaderboard board = new Leaderboard(3);
+        board.onStep(2, 1);
+        board.onArrival(2, 1);
+
+        board.reset();
+
+        assertEquals(0, board.leader());
+        for (Leaderboard.Standing standing : board.top(3)) {
+            assertEquals(0, standing.position());
+            assertFalse(standing.finished());
+        }
+    }
+
+    @Test
+    @DisplayName("Al terminar la carrera la tabla debe coincidir con el registro de llegadas")
+    void testMatchesArrivalsAfterTickRace() throws InterruptedException {
+        int lanes = 200;
+        Leaderboard board = new Leaderboard(lanes);
+        ArrivalRegistry registry = new ArrivalRegistry(lanes);
+        new TickRaceEngine(lanes, 30, registry, new RaceControl(board), 0, new RaceRandom(5)).run();
+
+        List<Leaderboard.Standing> top = board.top(lanes);
+        List<ArrivalRegistry.Arrival> arrivals = registry.getArrivals();
+        assertEquals(lanes, top.size());
+        for (int i = 0; i < lanes; i++) {
+            assertEquals(arrivals.get(i).dogName(), String.valueOf(top.get(i).lane()));
+            assertEquals(i + 1, top.get(i).arrival());
+        }
+    }
+
+    @Test
+    @Timeout(value = 20, unit = TimeUnit.SECONDS)
+    @DisplayName("Leer mientras los corredores avanzan no debe bloquearlos ni repetir carriles")
+    void testConcurrentReads() throws InterruptedException {
+        int lanes = 64;
+        int steps = 2_000;
+        Leaderboard board = new Leaderboard(lanes);
+        AtomicBoolean running = new AtomicBoolean(true);
+        AtomicReference<String> failure = new AtomicReference<>();
+        Thread reader = new Thread(() -> {
+            while (running.get()) {
+                List<Leaderboard.Standing> top = board.top(10);
+                Set<Integer> seen = new HashSet<>();
+                for (Leaderboard.Standing standing : top) {
+                    if (!seen.add(standing.lane())) {
+                        failure.set("lane " + standing.lane() + " twice in " + top);
+                    }
+                }
+                if (top.isEmpty() || top.size() > 10) {
+                    failure.set("top has " + top.size() + " lanes");
+                }
+            }
+        });
+        reader.start();
+
+        Thread[] runners = new Thread[8];
+        for (int t = 0; t < runners.length; t++) {
+            final int from = t * (lanes / runners.length);
+            runners[t] = new Thread(() -> {
+                for (int step = 1; step <= steps; step++) {
+                    for (int lane = from; lane < from + lanes / runners.length; lane++) {
+                        board.onStep(lane, step);
+                    }
+                }
+            });
+            runners[t].start();
+        }
+        for (Thread runner : runners) {
+            runner.join();
+        }
+        running.set(false);
+        reader.join();
+
+        assertNull(failure.get());
+        for (Leaderboard.Standing standing : board.top(lanes)) {
+            assertEquals(steps, standing.position());
+        }
+        assertArrayEquals(new int[]{0, 1, 2}, lanes(board.top(3)));
+    }
+
+    @Test
+    @DisplayName("Una tabla sin carriles debe rechazarse")
+    void testInvalidLanes() {
+        assertThrows(IllegalArgumentException.class, () -> new Leaderboard(0));
+    }
+}
@@ -0,0 +1,46 @@
+package edu.eci.arsw.dogsrace.engine;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Pruebas unitarias para EngineMode
+ */
+@DisplayName("EngineMode Unit Tests")
+class EngineModeTest {
+
+    @AfterEach
+    void tearDown() {
+        System.clearProperty(EngineMode.PROPERTY);
+    }
+
+    @Test
+    @DisplayName("Debe usar THREADS por defecto")
+    void testDefaultIsThreads() {
+        assertEquals(EngineMode.THREADS, EngineMode.parse(null));
+        assertEquals(EngineMode.THREADS, EngineMode.parse(""));
+        assertEquals(EngineMode.THREADS, EngineMode.fromSystemProperties());
+    }
+
+    @Test
+    @DisplayName("Debe leer el motor de la propiedad del sistema")
+    void testFromSystemProperties() {
+        System.setProperty(EngineMode.PROPERTY, " Tick ");
+        assertEquals(EngineMode.TICK, EngineMode.fromSystemProperties());
+    }
+
+    @Test
+    @DisplayName("Debe reconocer el motor lockstep")
+    void testParsesLockstep() {
+        assertEquals(EngineMode.LOCKSTEP, EngineMode.parse("lockstep"));
+    }
+
+    @Test
+    @DisplayName("Debe rechazar motores desconocidos")
+    void testRejectsUnknown() {
+        assertThrows(IllegalArgumentException.class, () -> EngineMode.parse("gpu"));
+    }
+}
@@ -0,0 +1,165 @@
+package edu.eci.arsw.dogsrace.engine;
+
+import edu.eci.arsw.dogsrace.control.RaceListener;
+import edu.eci.arsw.dogsrace.threads.RunnerMode;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Pruebas unitarias para RaceRunner
+ * Cobertura: carreras sin interfaz con los tres motores, reproducibilidad, resultado, plazo y validación
+ */
+@DisplayName("RaceRunner Unit Tests")
+class RaceRunnerTest {
+
+    private static RaceRunner.Config config(int lanes, int track, EngineMode engine, long seed) {
+        return new RaceRunner.Config(lanes, track, 0, engine, RunnerMode.PLATFORM, seed);
+    }
+
+    private static void assertEveryLaneArrivedOnce(RaceRunner.Result result, int lanes) {
+        assertEquals(lanes, result.arrivals().size());
+        int[] order = result.finishingOrder().clone();
+        Arrays.sort(order);
+        for (int i = 0; i < lanes; i++) {
+            assertEquals(i, order[i]);
+            assertEquals(i + 1, result.arrivals().get(i).position());
+        }
+        assertEquals(result.arrivals().get(0).dogName(), result.winner());
+    }
+
+    @Test
+    @DisplayName("El motor por ticks debe terminar la carrera con todos los carriles")
+    void testTickRace() throws InterruptedException {
+        RaceRunner.Result result = new RaceRunner().run(config(17, 20, EngineMode.TICK, 1));
+
+        assertEveryLaneArrivedOnce(result, 17);
+        assertTrue(result.elapsedNanos() > 0);
+    }
+
+    @Test
+    @Timeout(value = 10, unit = TimeUnit.SECONDS)
+    @DisplayName("El motor con hilos debe terminar la carrera con todos los carriles")
+    void testThreadedRace() throws InterruptedException {
+        RaceRunner.Result result = new RaceRunner().run(config(8, 10, EngineMode.THREADS, 0));
+
+        assertEveryLaneArrivedOnce(result, 8);
+    }
+
+    @Test
+    @Timeout(value = 10, unit = TimeUnit.SECONDS)
+    @DisplayName("En lockstep ningún corredor debe ir más de un paso por delante de otro")
+    void testLockstepRace() throws InterruptedException {
+        int lanes = 6;
+        AtomicIntegerArray positions = new AtomicIntegerArray(lanes);
+        AtomicInteger maxGap = new AtomicInteger();
+        RaceListener listener = new RaceListener() {
+            @Override
+            public void onStep(int lane, int position) {
+                positions.set(lane, position);
+                for (int other = 0; other < lanes; other++) {
+                    maxGap.accumulateAndGet(position - positions.get(other), Math::max);
+                }
+            }
+        };
+
+        RaceRunner.Result result = new RaceRunner(listener).run(config(lanes, 30, EngineMode.LOCKSTEP, 0));
+
+        assertEveryLaneArrivedOnce(result, lanes);
+        assertTrue(maxGap.get() <= 1, "gap " + maxGap.get());
+    }
+
+    @Test
+    @DisplayName("Con el motor por ticks la misma semilla debe dar el mismo orden")
+    void testTickRaceIsReproducible() throws InterruptedException {
+        RaceRunner runner = new RaceRunner();
+
+        int[] first = runner.run(config(50, 5, EngineMode.TICK, 42)).finishingOrder();
+        int[] second = runner.run(config(50, 5, EngineMode.TICK, 42)).finishingOrder();
+
+        assertArrayEquals(first, second);
+    }
+
+    @Test
+    @DisplayName("La posición de cada carril debe salir de las llegadas")
+    void testPositionOf() throws InterruptedException {
+        RaceRunner.Result result = new RaceRunner().run(config(5, 3, EngineMode.TICK, 7));
+
+        int[] order = result.finishingOrder();
+        for (int k = 0; k < order.length; k++) {
+            assertEquals(k + 1, result.positionOf(order[k]));
+        }
+        assertEquals(0, result.positionOf(99));
+    }
+
+    @Test
+    @DisplayName("Cada paso y cada llegada deben llegar al listener")
+    void testListener() throws InterruptedException {
+        AtomicInteger steps = new AtomicInteger();
+        AtomicInteger arrivals = new AtomicInteger();
+        RaceListener listener = new RaceListener() {
+            @Override
+            public void onStep(int lane, int position) {
+                steps.incrementAndGet();
+            }
+
+            @Override
+            public void onArrival(int lane, int position) {
+                arrivals.incrementAndGet();
+            }
+        };
+
+        new RaceRunner(listener).run(config(4, 6, EngineMode.TICK, 3));
+
+        assertEquals(4 * 6, steps.get());
+        assertEquals(4, arrivals.get());
+    }
+
+    @Test
+    @Timeout(value = 10, unit = TimeUnit.SECONDS)
+    @DisplayName("Una carrera que no termina a tiempo debe abortarse con todos sus corredores")
+    void testTimeout() {
+        RaceRunner.Config slow = new RaceRunner.Config(50, 100_000, 1, EngineMode.THREADS, RunnerMode.VIRTUAL, 0);
+        AtomicInteger afterTimeout = new AtomicInteger();
+        AtomicInteger steps = new AtomicInteger();
+        RaceRunner runner = new RaceRunner(new RaceListener() {
+            @Override
+            public void onStep(int lane, int position) {
+                steps.incrementAndGet();
+            }
+        });
+
+        assertThrows(TimeoutException.class, () -> runner.run(slow, Duration.ofMillis(100)));
+        afterTimeout.set(steps.get());
+        assertDoesNotThrow(() -> Thread.sleep(50));
+        assertEquals(afterTimeout.get(), steps.get(), "no runner steps after run returns");
+    }
+
+    @Test
+    @Timeout(value = 10, unit = TimeUnit.SECONDS)
+    @DisplayName("Una carrera que termina a tiempo debe dar su resultado")
+    void testFinishesBeforeTimeout() throws Exception {
+        RaceRunner.Result result = new RaceRunner().run(config(5, 10, EngineMode.TICK, 3), Duration.ofSeconds(5));
+
+        assertEveryLaneArrivedOnce(result, 5);
+    }
+
+    @Test
+    @DisplayName("Una configuración inválida debe rechazarse")
+    void testInvalidConfig() {
+        assertThrows(IllegalArgumentException.class, () -> config(0, 10, EngineMode.TICK, 0));
+        assertThrows(IllegalArgumentException.class, () -> config(1, 0, EngineMode.TICK, 0));
+        assertThrows(IllegalArgumentException.class,
+                () -> new RaceRunner.Config(1, 1, -1, EngineMode.TICK, RunnerMode.PLATFORM, 0));
+        assertThrows(NullPointerException.class, () -> config(1, 1, null, 0));
+    }
+}
@@ -0,0 +1,182 @@
+package edu.eci.arsw.dogsrace.engine;
+
+import edu.eci.arsw.dogsrace.control.RaceControl;
+import edu.eci.arsw.dogsrace.domain.ArrivalRegistry;
+import edu.eci.arsw.dogsrace.domain.Lane;
+import edu.eci.arsw.dogsrace.threads.Galgo;
+import edu.eci.arsw.dogsrace.threads.RunnerMode;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+
+import java.time.Instant;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Pruebas unitarias para RaceScope
+ * Cobertura: join, fallo rápido, plazo, aborto de corredores pausados y ocupados,
+ * tiempo de desmontaje y cierre
+ */
+@DisplayName("RaceScope Unit Tests")
+class RaceScopeTest {
+
+    @Test
+    @Timeout(value = 10, unit = TimeUnit.SECONDS)
+    @DisplayName("join debe esperar a todos los corredores")
+    void testJoinWaitsForEveryRunner() throws InterruptedException {
+        AtomicInteger finished = new AtomicInteger();
+        try (RaceScope scope = RaceScope.ofThreads(RunnerMode.PLATFORM, new RaceControl())) {
+            for (int i = 0; i < 20; i++) {
+                scope.fork(finished::incrementAndGet);
+            }
+            scope.join();
+            scope.throwIfFailed();
+
+            assertEquals(20, finished.get());
+            assertTrue(scope.isDone());
+            assertFalse(scope.isAborted());
+            assertEquals(-1, scope.getTeardownNanos());
+            assertThrows(IllegalStateException.class, () -> scope.fork(() -> { }));
+        }
+    }
+
+    @Test
+    @Timeout(value = 10, unit = TimeUnit.SECONDS)
+    @DisplayName("Si un corredor falla, los demás deben detenerse")
+    void testFailFast() throws InterruptedException {
+        RaceControl control = new RaceControl();
+        ArrivalRegistry registry = new ArrivalRegistry();
+        IllegalStateException boom = new IllegalStateException("boom");
+        try (RaceScope scope = RaceScope.ofThreads(RunnerMode.PLATFORM, control)) {
+            for (int i = 0; i < 8; i++) {
+                scope.fork(new Galgo(new Lane(100_000, String.valueOf(i)), i, registry, control, 1));
+            }
+            scope.fork(() -> {
+                throw boom;
+            });
+            scope.join();
+
+            IllegalStateException failed = assertThrows(IllegalStateException.class, scope::throwIfFailed);
+            assertSame(boom, failed.getCause());
+            assertTrue(scope.isAborted());
+            assertTrue(control.isAborted());
+            assertEquals(0, registry.getArrivals().size());
+            ExecutionException e = assertThrows(ExecutionException.class, () -> scope.whenDone().get());
+            assertSame(boom, e.getCause());
+        }
+    }
+
+    @Test
+    @Timeout(value = 10, unit = TimeUnit.SECONDS)
+    @DisplayName("joinUntil debe abortar la carrera al vencer el plazo")
+    void testJoinUntilAbortsOnDeadline() throws InterruptedException {
+        RaceControl control = new RaceControl();
+        RaceScope scope = RaceScope.ofThreads(RunnerMode.PLATFORM, control);
+        for (int i = 0; i < 4; i++) {
+            scope.fork(new Galgo(new Lane(100_000, String.valueOf(i)), i, new ArrivalRegistry(), control, 1));
+        }
+
+        assertThrows(TimeoutException.class, () -> scope.joinUntil(Instant.now().plusMillis(50)));
+        scope.close();
+
+        assertTrue(scope.isAborted());
+        assertTrue(scope.isDone());
+        assertTrue(scope.getTeardownNanos() >= 0);
+        assertThrows(CancellationException.class, () -> scope.whenDone().get());
+    }
+
+    @Test
+    @Timeout(value = 10, unit = TimeUnit.SECONDS)
+    @DisplayName("Abortar debe detener corredores pausados y corredores sin pausa entre pasos")
+    void testAbortStopsPausedAndBusyRunners() throws Exception {
+        RaceControl control = new RaceControl();
+        ArrivalRegistry registry = new ArrivalRegistry();
+        RaceScope scope = RaceScope.ofThreads(RunnerMode.PLATFORM, control);
+        // sin retardo un corredor nunca duerme: solo la revisión de la pausa lo detiene
+        scope.fork(new Galgo(new Lane(Integer.MAX_VALUE - 1, "busy"), 0, registry, control, 0));
+        control.pause();
+        scope.fork(new Galgo(new Lane(10, "paused"), 1, registry, control, 0));
+        Thread.sleep(50);
+
+        scope.abort();
+
+        assertThrows(CancellationException.class, () -> scope.whenDone().join());
+        assertTrue(scope.getTeardownNanos() >= 0);
+        assertTrue(registry.getArrivals().isEmpty());
+    }
+
+    @Test
+    @Timeout(value = 10, unit = TimeUnit.SECONDS)
+    @DisplayName("Los corredores forkeados tras abortar no deben correr")
+    void testForkAfterAbortNeverRuns() throws InterruptedException {
+        AtomicInteger ran = new AtomicInteger();
+        RaceScope scope = RaceScope.ofThreads(RunnerMode.PLATFORM, new RaceControl());
+        scope.abort();
+        scope.fork(ran::incrementAndGet);
+        scope.join();
+
+        assertEquals(0, ran.get());
+        assertTrue(scope.whenDone().isCompletedExceptionally());
+    }
+
+    @Test
+    @Timeout(value = 10, unit = TimeUnit.SECONDS)
+    @DisplayName("Sobre un pool, abortar debe detener a los corredores sin dejar el hilo interrumpido")
+    void testAbortOnPool() throws Exception {
+        ExecutorService pool = Executors.newFixedThreadPool(2);
+        try {
+            RaceControl control = new RaceControl();
+            CountDownLatch started = new CountDownLatch(2);
+            RaceScope scope = new RaceScope(pool, control);
+            for (int i = 0; i < 2; i++) {
+                scope.fork(() -> {
+                    started.countDown();
+                    try {
+                        Thread.sleep(60_000);
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                });
+            }
+            assertTrue(started.await(2, TimeUnit.SECONDS));
+            scope.abort();
+            scope.close();
+
+            // the pool threads are reusable and not interrupted
+            assertFalse(pool.submit(() -> Thread.currentThread().isInterrupted()).get(2, TimeUnit.SECONDS));
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    @Test
+    @Timeout(value = 30, unit = TimeUnit.SECONDS)
+    @DisplayName("Miles de corredores virtuales deben detenerse poco después de abortar")
+    void testTeardownOfManyRunners() throws InterruptedException {
+        int lanes = 2_000;
+        RaceControl control = new RaceControl();
+        ArrivalRegistry registry = new ArrivalRegistry(lanes);
+        RaceScope scope = RaceScope.ofThreads(RunnerMode.VIRTUAL, control);
+        for (int i = 0; i < lanes; i++) {
+            scope.fork(new Galgo(new Lane(100_000, String.valueOf(i)), i, registry, control, 5));
+        }
+        Thread.sleep(100);
+
+        scope.abort();
+        scope.close();
+
+        assertTrue(scope.getTeardownNanos() >= 0);
+        assertTrue(scope.getTeardownNanos() < TimeUnit.SECONDS.toNanos(5),
+                "teardown took " + scope.getTeardownNanos() / 1_000_000 + " ms");
+        assertTrue(registry.getArrivals().isEmpty());
+    }
+}
@@ -0,0 +1,365 @@
+package edu.eci.arsw.dogsrace.engine;
+
+import edu.eci.arsw.dogsrace.control.RaceListener;
+import edu.eci.arsw.dogsrace.domain.ArrivalRegistry;
+import edu.eci.arsw.dogsrace.domain.Lane;
+import edu.eci.arsw.dogsrace.domain.LaneModel;
+import edu.eci.arsw.dogsrace.metrics.RaceMetrics;
+import edu.eci.arsw.dogsrace.threads.RunnerMode;
+import edu.eci.arsw.dogsrace.util.RaceRandom;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Flow;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Pruebas unitarias para RaceSession
+ * Cobertura: pool iniciado de antemano, galgos virtuales sin pool, carreras repetidas sobre los mismos carriles,
+ * pausa, tiempo hasta el primer paso, salida conjunta, reproducibilidad, llegadas publicadas, aborto y cierre
+ */
+@DisplayName("RaceSession Unit Tests")
+@Timeout(value = 20, unit = TimeUnit.SECONDS)
+class RaceSessionTest {
+
+    private RaceSession session;
+
+    @AfterEach
+    void tearDown() {
+        if (session != null) {
+            session.close();
+        }
+    }
+
+    private static LaneModel[] lanes(int count, int track) {
+        LaneModel[] lanes = new LaneModel[count];
+        for (int i = 0; i < count; i++) {
+            lanes[i] = new Lane(track, String.valueOf(i));
+        }
+        return lanes;
+    }
+
+    @Test
+    @DisplayName("Los hilos del pool deben estar iniciados antes de la primera carrera")
+    void testPoolIsPrestarted() {
+        session = new RaceSession(lanes(6, 5), EngineMode.THREADS, 0);
+        assertEquals(6, session.getPoolSize());
+
+        RaceSession tick = new RaceSession(lanes(6, 5), EngineMode.TICK, 0);
+        try {
+            assertEquals(1, tick.getPoolSize());
+        } finally {
+            tick.close();
+        }
+    }
+
+    @Test
+    @DisplayName("La misma sesión debe correr varias carreras completas sin crear hilos nuevos")
+    void testRepeatedRacesOnThePool() throws InterruptedException {
+        LaneModel[] lanes = lanes(8, 10);
+        session = new RaceSession(lanes, EngineMode.THREADS, 0);
+        Set<String> threads = ConcurrentHashMap.newKeySet();
+        AtomicInteger steps = new AtomicInteger();
+        RaceListener listener = new RaceListener() {
+            @Override
+            public void onStep(int lane, int position) {
+                threads.add(Thread.currentThread().getName());
+                steps.incrementAndGet();
+            }
+        };
+
+        for (int race = 1; race <= 3; race++) {
+            RaceRunner.Result result = session.run(listener);
+
+            assertEquals(8, result.arrivals().size(), "race " + race);
+            assertEquals(1, result.arrivals().get(0).position());
+            assertEquals(race * 8 * 10, steps.get(), "every race starts from the starting line");
+            for (LaneModel lane : lanes) {
+                assertTrue(lane.isFinished());
+                assertEquals(10, lane.getPosition());
+            }
+        }
+        assertEquals(3, session.getRaces());
+        assertFalse(session.isRunning());
+        assertTrue(threads.size() <= 8, "runners must come from the pool: " + threads);
+        for (String name : threads) {
+            assertTrue(name.startsWith("race-session-"), name);
+        }
+    }
+
+    @Test
+    @DisplayName("Con galgos virtuales cada carrera debe usar hilos nuevos, sin pool")
+    void testVirtualRunnersAreNotPooled() throws InterruptedException {
+        session = new RaceSession(lanes(4, 3), EngineMode.THREADS, RunnerMode.VIRTUAL, 0, new RaceRandom(7));
+        assertEquals(0, session.getPoolSize());
+        Set<Thread> threads = ConcurrentHashMap.newKeySet();
+        RaceListener listener = new RaceListener() {
+            @Override
+            public void onStep(int lane, int position) {
+                threads.add(Thread.currentThread());
+            }
+        };
+
+        for (int race = 1; race <= 2; race++) {
+            assertEquals(4, session.run(listener).arrivals().size(), "race " + race);
+        }
+        assertEquals(0, session.getPoolSize());
+        assertEquals(8, threads.size(), "one thread per runner per race");
+        for (Thread thread : threads) {
+            assertTrue(thread.getName().startsWith("race-session-"), thread.getName());
+        }
+    }
+
+    @Test
+    @DisplayName("No se puede iniciar una carrera mientras otra sigue corriendo")
+    void testOneRaceAtATime() throws Exception {
+        session = new RaceSession(lanes(3, 200), EngineMode.THREADS, 1);
+        session.pause();
+        CompletableFuture<RaceRunner.Result> first = session.start(RaceListener.NONE);
+        session.pause();
+
+        assertTrue(session.isRunning());
+        assertThrows(IllegalStateException.class, () -> session.start(RaceListener.NONE));
+
+        session.resume();
+        assertEquals(3, first.get(10, TimeUnit.SECONDS).arrivals().size());
+        assertEquals(3, session.run().arrivals().size());
+    }
+
+    @Test
+    @DisplayName("La pausa debe detener a los corredores hasta reanudar")
+    void testPauseAndResume() throws Exception {
+        LaneModel[] lanes = lanes(4, 1_000);
+        session = new RaceSession(lanes, EngineMode.THREADS, 1);
+        CompletableFuture<RaceRunner.Result> race = session.start(RaceListener.NONE);
+        session.pause();
+        Thread.sleep(50);
+        int[] frozen = new int[lanes.length];
+        for (int i = 0; i < lanes.length; i++) {
+            frozen[i] = lanes[i].getPosition();
+        }
+        Thread.sleep(50);
+        for (int i = 0; i < lanes.length; i++) {
+            // a runner may finish the step it had started when the pause came
+            assertTrue(lanes[i].getPosition() - frozen[i] <= 1);
+        }
+        assertFalse(race.isDone());
+
+        session.close();
+        assertThrows(CancellationException.class, race::join);
+    }
+
+    @Test
+    @DisplayName("Debe medir el tiempo hasta el primer paso de cada carrera")
+    void testTimeToFirstStep() throws InterruptedException {
+        long before = RaceMetrics.FIRST_STEP.snapshot().count();
+        session = new RaceSession(lanes(4, 3), EngineMode.THREADS, 0);
+        assertEquals(-1, session.getTimeToFirstStepNanos());
+
+        session.run();
+        long first = session.getTimeToFirstStepNanos();
+        session.run();
+
+        assertTrue(first >= 0);
+        assertTrue(session.getTimeToFirstStepNanos() >= 0);
+        assertTrue(RaceMetrics.FIRST_STEP.snapshot().count() - before >= 2);
+    }
+
+    @Test
+    @DisplayName("Con hilos todos los corredores deben pasar por la puerta de salida")
+    void testStartingGate() throws InterruptedException {
+        session = new RaceSession(lanes(12, 5), EngineMode.THREADS, 0);
+        assertNull(session.getStartSkew());
+
+        session.run();
+        assertEquals(12, session.getStartSkew().count());
+        session.run();
+        assertEquals(12, session.getStartSkew().count(), "each race has its own gate");
+
+        RaceSession tick = new RaceSession(lanes(3, 5), EngineMode.TICK, 0);
+        try {
+            tick.run();
+            assertNull(tick.getStartSkew());
+        } finally {
+            tick.close();
+        }
+    }
+
+    @Test
+    @DisplayName("En lockstep la misma sesión debe correr varias carreras completas")
+    void testLockstepRaces() throws InterruptedException {
+        session = new RaceSession(lanes(10, 8), EngineMode.LOCKSTEP, 0);
+
+        for (int race = 0; race < 2; race++) {
+            RaceRunner.Result result = session.run();
+            assertEquals(10, result.arrivals().size());
+            assertEquals(10, session.getStartSkew().count());
+        }
+    }
+
+    @Test
+    @DisplayName("Con el motor por ticks la carrera k de una semilla debe repetirse")
+    void testTickSessionsAreReproducible() throws InterruptedException {
+        int[][] orders = new int[2][];
+        int[][] second = new int[2][];
+        for (int s = 0; s < 2; s++) {
+            try (RaceSession tick = new RaceSession(lanes(30, 4), EngineMode.TICK, RunnerMode.PLATFORM, 0,
+                    new RaceRandom(99))) {
+                RaceRunner.Result first = tick.run();
+                RaceRunner.Result next = tick.run();
+                assertEquals(new RaceRandom(99).child(0).seed(), first.config().seed());
+                assertEquals(new RaceRandom(99).child(1).seed(), next.config().seed());
+                orders[s] = first.finishingOrder();
+                second[s] = next.finishingOrder();
+            }
+        }
+
+        assertArrayEquals(orders[0], orders[1]);
+        assertArrayEquals(second[0], second[1]);
+    }
+
+    @Test
+    @DisplayName("Las llegadas de la carrera deben publicarse a medida que ocurren y completarse al final")
+    void testArrivalsAreStreamed() throws Exception {
+        session = new RaceSession(lanes(5, 20), EngineMode.THREADS, 0);
+        assertThrows(IllegalStateException.class, session::arrivals);
+
+        session.pause();
+        CompletableFuture<RaceRunner.Result> race = session.start(RaceListener.NONE);
+        List<ArrivalRegistry.Arrival> streamed = new CopyOnWriteArrayList<>();
+        CountDownLatch completed = new CountDownLatch(1);
+        session.arrivals().subscribe(new Flow.Subscriber<>() {
+            @Override
+            public void onSubscribe(Flow.Subscription subscription) {
+                subscription.request(Long.MAX_VALUE);
+            }
+
+            @Override
+            public void onNext(ArrivalRegistry.Arrival arrival) {
+                streamed.add(arrival);
+            }
+
+            @Override
+            public void onError(Throwable throwable) {
+            }
+
+            @Override
+            public void onComplete() {
+                completed.countDown();
+            }
+        });
+        session.resume();
+
+        RaceRunner.Result result = race.get(10, TimeUnit.SECONDS);
+        assertTrue(completed.await(10, TimeUnit.SECONDS));
+        assertEquals(result.arrivals(), streamed);
+    }
+
+    @Test
+    @DisplayName("Cerrar la sesión a mitad de carrera debe terminar las llegadas con error")
+    void testCancelledRaceFailsArrivals() throws InterruptedException {
+        session = new RaceSession(lanes(3, 200), EngineMode.THREADS, 1);
+        session.pause();
+        session.start(RaceListener.NONE);
+        AtomicReference<Throwable> error = new AtomicReference<>();
+        CountDownLatch done = new CountDownLatch(1);
+        session.arrivals().subscribe(new Flow.Subscriber<>() {
+            @Override
+            public void onSubscribe(Flow.Subscription subscription) {
+                subscription.request(Long.MAX_VALUE);
+            }
+
+            @Override
+            public void onNext(ArrivalRegistry.Arrival arrival) {
+            }
+
+            @Override
+            public void onError(Throwable throwable) {
+                error.set(throwable);
+                done.countDown();
+            }
+
+            @Override
+            public void onComplete() {
+                done.countDown();
+            }
+        });
+
+        session.close();
+        assertTrue(done.await(10, TimeUnit.SECONDS));
+        assertTrue(error.get() instanceof CancellationException);
+    }
+
+    @Test
+    @Timeout(value = 10, unit = TimeUnit.SECONDS)
+    @DisplayName("Abortar debe detener la carrera y dejar la sesión lista para otra")
+    void testAbort() throws Exception {
+        session = new RaceSession(lanes(4, 100_000), EngineMode.THREADS, 1);
+        CompletableFuture<RaceRunner.Result> race = session.start(RaceListener.NONE);
+        Thread.sleep(50);
+
+        session.abort();
+
+        assertThrows(CancellationException.class, race::join);
+        assertFalse(session.isRunning());
+        assertTrue(session.getTeardownNanos() >= 0);
+        assertTrue(session.arrivals().isClosed());
+
+        session.abort();
+        session.pause();
+        session.resume();
+        assertThrows(CancellationException.class, race::join);
+    }
+
+    @Test
+    @Timeout(value = 10, unit = TimeUnit.SECONDS)
+    @DisplayName("Cancelar el futuro de la carrera debe abortarla")
+    void testCancelAbortsTheRace() throws Exception {
+        LaneModel[] lanes = lanes(3, 100_000);
+        session = new RaceSession(lanes, EngineMode.TICK, 1);
+        CompletableFuture<RaceRunner.Result> race = session.start(RaceListener.NONE);
+        Thread.sleep(20);
+
+        race.cancel(false);
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (session.isRunning() && System.nanoTime() < deadline) {
+            Thread.sleep(1);
+        }
+
+        assertFalse(session.isRunning());
+        assertTrue(lanes[0].getPosition() < 100_000);
+        CompletableFuture<RaceRunner.Result> next = session.start(RaceListener.NONE);
+        session.abort();
+        assertThrows(CancellationException.class, next::join);
+    }
+
+    @Test
+    @DisplayName("Una sesión cerrada no debe aceptar carreras")
+    void testClosedSession() {
+        session = new RaceSession(lanes(2, 2), EngineMode.THREADS, 0);
+        session.close();
+
+        assertThrows(IllegalStateException.class, session::run);
+    }
+
+    @Test
+    @DisplayName("Una configuración inválida debe rechazarse")
+    void testInvalidArguments() {
+        assertThrows(IllegalArgumentException.class, () -> new RaceSession(new LaneModel[0], EngineMode.TICK, 0));
+        assertThrows(IllegalArgumentException.class, () -> new RaceSession(lanes(1, 1), EngineMode.TICK, -1));
+        assertThrows(NullPointerException.class, () -> new RaceSession(lanes(1, 1), null, 0));
+    }
+}
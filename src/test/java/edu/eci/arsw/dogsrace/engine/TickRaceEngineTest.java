@@ -0,0 +1,274 @@
+package edu.eci.arsw.dogsrace.engine;
+
+import edu.eci.arsw.dogsrace.control.RaceControl;
+import edu.eci.arsw.dogsrace.control.RaceListener;
+import edu.eci.arsw.dogsrace.domain.ArrivalRegistry;
+import edu.eci.arsw.dogsrace.domain.Lane;
+import edu.eci.arsw.dogsrace.domain.LaneModel;
+import edu.eci.arsw.dogsrace.ui.Carril;
+import edu.eci.arsw.dogsrace.util.RaceRandom;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Pruebas unitarias para TickRaceEngine
+ * Cobertura: avance por ticks, llegadas en lote, pausa por tick, carriles Swing, una carrera por motor
+ */
+@DisplayName("TickRaceEngine Unit Tests")
+class TickRaceEngineTest {
+
+    private ArrivalRegistry registry;
+    private RaceControl control;
+
+    @BeforeEach
+    void setUp() {
+        registry = new ArrivalRegistry();
+        control = new RaceControl();
+    }
+
+    @Test
+    @DisplayName("Carrera sin interfaz debe registrar a todos los corredores")
+    void testHeadlessRaceRegistersEveryRunner() throws InterruptedException {
+        TickRaceEngine engine = new TickRaceEngine(17, 100, registry, control, 0);
+
+        int ticks = engine.run();
+
+        assertEquals(100, ticks);
+        assertEquals(100, engine.getTicks());
+        assertEquals(18, registry.getNextPosition());
+        int winner = Integer.parseInt(registry.getWinner());
+        assertTrue(winner >= 0 && winner < 17);
+    }
+
+    @Test
+    @DisplayName("Debe registrar la llegada de un tick en un solo lote")
+    void testArrivalsRegisteredInOneBatchPerTick() throws InterruptedException {
+        ArrivalRegistry mockRegistry = mock(ArrivalRegistry.class);
+
+        new TickRaceEngine(50, 5, mockRegistry, control, 0).run();
+
+        verify(mockRegistry, times(1)).registerArrivals(any(int[].class), any(String[].class));
+        verify(mockRegistry, never()).registerArrival(anyString());
+        verify(mockRegistry, never()).registerArrival(anyInt(), anyString());
+    }
+
+    @Test
+    @DisplayName("El ganador no debe ser siempre el carril 0")
+    void testSameTickArrivalsAreShuffled() throws InterruptedException {
+        Set<String> winners = new HashSet<>();
+        for (int i = 0; i < 50; i++) {
+            ArrivalRegistry r = new ArrivalRegistry();
+            new TickRaceEngine(10, 1, r, control, 0).run();
+            winners.add(r.getWinner());
+        }
+        assertTrue(winners.size() > 1, "Ganadores observados: " + winners);
+    }
+
+    @Test
+    @DisplayName("La misma semilla debe repetir el orden de llegada")
+    void testSeededRaceIsReproducible() throws InterruptedException {
+        ArrivalRegistry first = new ArrivalRegistry();
+        ArrivalRegistry second = new ArrivalRegistry();
+
+        new TickRaceEngine(30, 3, first, control, 0, new RaceRandom(11L)).run();
+        new TickRaceEngine(30, 3, second, control, 0, new RaceRandom(11L)).run();
+
+        assertEquals(names(first), names(second));
+    }
+
+    @Test
+    @DisplayName("Semillas distintas deben dar órdenes distintos")
+    void testDifferentSeedsDifferentOrder() throws InterruptedException {
+        ArrivalRegistry first = new ArrivalRegistry();
+        ArrivalRegistry second = new ArrivalRegistry();
+        LaneModel[] lanesA = new LaneModel[30];
+        LaneModel[] lanesB = new LaneModel[30];
+        for (int i = 0; i < 30; i++) {
+            lanesA[i] = new Lane(2, String.valueOf(i));
+            lanesB[i] = new Lane(2, String.valueOf(i));
+        }
+
+        new TickRaceEngine(lanesA, first, control, 0, new RaceRandom(1L)).run();
+        new TickRaceEngine(lanesB, second, control, 0, new RaceRandom(2L)).run();
+
+        assertNotEquals(names(first), names(second));
+    }
+
+    private static List<String> names(ArrivalRegistry registry) {
+        return registry.getArrivals().stream().map(ArrivalRegistry.Arrival::dogName).toList();
+    }
+
+    @Test
+    @DisplayName("Debe actualizar los carriles como lo haría cada Galgo")
+    void testUpdatesCarrilesLikeGalgo() throws InterruptedException {
+        Carril shortLane = mock(Carril.class);
+        Carril longLane = mock(Carril.class);
+        when(shortLane.size()).thenReturn(2);
+        when(longLane.size()).thenReturn(4);
+
+        int ticks = new TickRaceEngine(new Carril[] {shortLane, longLane}, registry, control, 0).run();
+
+        assertEquals(4, ticks);
+        verify(shortLane, times(2)).setPasoOn(anyInt());
+        verify(shortLane).displayPasos(2);
+        verify(shortLane, times(1)).finish();
+        verify(longLane, times(4)).setPasoOn(anyInt());
+        verify(longLane).setPasoOn(3);
+        verify(longLane, times(1)).finish();
+        assertEquals("0", registry.getWinner());
+        assertEquals(3, registry.getNextPosition());
+    }
+
+    @Test
+    @DisplayName("Debe funcionar con carriles reales")
+    void testRealCarriles() throws InterruptedException {
+        Carril[] carriles = {new Carril(3, "0"), new Carril(3, "1")};
+
+        new TickRaceEngine(carriles, registry, control, 0).run();
+
+        assertEquals(3, registry.getNextPosition());
+    }
+
+    @Test
+    @DisplayName("Debe consultar la pausa una vez por tick")
+    void testAwaitsPauseOncePerTick() throws InterruptedException {
+        RaceControl mockControl = mock(RaceControl.class);
+        when(mockControl.listener()).thenReturn(RaceListener.NONE);
+
+        new TickRaceEngine(1000, 7, registry, mockControl, 0).run();
+
+        verify(mockControl, times(7)).awaitIfPaused(anyInt(), anyInt());
+    }
+
+    @Test
+    @DisplayName("Debe detenerse mientras la carrera está pausada")
+    @Timeout(value = 10, unit = TimeUnit.SECONDS)
+    void testHonorsPauseAndResume() throws InterruptedException {
+        TickRaceEngine engine = new TickRaceEngine(10, 20, registry, control, 10);
+        Thread runner = new Thread(() -> {
+            try {
+                engine.run();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+
+        runner.start();
+        Thread.sleep(50);
+        control.pause();
+        Thread.sleep(50);
+        int ticksWhenPaused = engine.getTicks();
+        Thread.sleep(200);
+
+        assertEquals(ticksWhenPaused, engine.getTicks());
+        assertTrue(runner.isAlive());
+
+        control.resume();
+        runner.join();
+
+        assertEquals(20, engine.getTicks());
+        assertEquals(11, registry.getNextPosition());
+    }
+
+    @Test
+    @DisplayName("Debe propagar la interrupción sin registrar llegadas")
+    void testInterruptionStopsRace() throws InterruptedException {
+        RaceControl mockControl = mock(RaceControl.class);
+        when(mockControl.listener()).thenReturn(RaceListener.NONE);
+        doThrow(new InterruptedException()).when(mockControl).awaitIfPaused(anyInt(), anyInt());
+
+        TickRaceEngine engine = new TickRaceEngine(5, 5, registry, mockControl, 0);
+
+        assertThrows(InterruptedException.class, engine::run);
+        assertNull(registry.getWinner());
+    }
+
+    @Test
+    @Timeout(value = 5, unit = TimeUnit.SECONDS)
+    @DisplayName("Un motor corre una sola carrera: correrlo otra vez debe fallar sin colgarse")
+    void testRunsOnlyOnce() throws InterruptedException {
+        TickRaceEngine engine = new TickRaceEngine(3, 4, registry, control, 0);
+        assertEquals(4, engine.run());
+
+        assertThrows(IllegalStateException.class, engine::run);
+        assertEquals(4, engine.getTicks());
+        assertEquals(4, registry.getNextPosition());
+    }
+
+    @Test
+    @DisplayName("Carrera sin carriles termina inmediatamente")
+    void testEmptyRace() throws InterruptedException {
+        assertEquals(0, new TickRaceEngine(0, 10, registry, control, 0).run());
+        assertNull(registry.getWinner());
+    }
+
+    @Test
+    @DisplayName("Carril de longitud cero no participa")
+    void testZeroLengthLaneIsSkipped() throws InterruptedException {
+        Carril empty = mock(Carril.class);
+        Carril lane = mock(Carril.class);
+        when(lane.size()).thenReturn(1);
+
+        new TickRaceEngine(new Carril[] {empty, lane}, registry, control, 0).run();
+
+        verify(empty, never()).setPasoOn(anyInt());
+        assertEquals("1", registry.getWinner());
+    }
+
+    @Test
+    @DisplayName("Debe rechazar parámetros inválidos")
+    void testRejectsInvalidArguments() {
+        assertThrows(IllegalArgumentException.class, () -> new TickRaceEngine(-1, 10, registry, control, 0));
+        assertThrows(IllegalArgumentException.class, () -> new TickRaceEngine(1, 0, registry, control, 0));
+        assertThrows(IllegalArgumentException.class, () -> new TickRaceEngine(1, 10, registry, control, -1));
+    }
+
+    @Test
+    @DisplayName("Debe correr 100.000 carriles en un solo hilo")
+    @Timeout(value = 10, unit = TimeUnit.SECONDS)
+    void testLargeHeadlessRace() throws InterruptedException {
+        new TickRaceEngine(100_000, 100, registry, control, 0).run();
+
+        assertEquals(100_001, registry.getNextPosition());
+    }
+
+    @Test
+    @DisplayName("Debe actualizar modelos de carril sin interfaz")
+    void testUpdatesHeadlessLanes() throws InterruptedException {
+        LaneModel[] lanes = {new Lane(4, "0"), new Lane(2, "1")};
+
+        new TickRaceEngine(lanes, registry, control, 0).run();
+
+        for (LaneModel lane : lanes) {
+            assertEquals(lane.size(), lane.getPosition());
+            assertTrue(lane.isFinished());
+        }
+        assertEquals("1", registry.getWinner());
+    }
+
+    @Test
+    @DisplayName("Debe reportar pasos y llegadas al listener de la carrera")
+    void testReportsEventsToListener() throws InterruptedException {
+        RaceListener listener = mock(RaceListener.class);
+
+        new TickRaceEngine(3, 2, registry, new RaceControl(listener), 0).run();
+
+        for (int lane = 0; lane < 3; lane++) {
+            verify(listener).onStep(lane, 1);
+            verify(listener).onStep(lane, 2);
+        }
+        verify(listener).onArrival(Integer.parseInt(registry.getWinner()), 1);
+        verify(listener, times(3)).onArrival(anyInt(), anyInt());
+        verify(listener).onArrival(anyInt(), eq(3));
+    }
+}
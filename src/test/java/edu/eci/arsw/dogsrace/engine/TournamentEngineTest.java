@@ -0,0 +1,112 @@
+package edu.eci.arsw.dogsrace.engine;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Pruebas unitarias para TournamentEngine
+ * Cobertura: agregación de resultados, paralelismo, validación de parámetros
+ */
+@DisplayName("TournamentEngine Unit Tests")
+class TournamentEngineTest {
+
+    @Test
+    @DisplayName("Cada carrera debe tener exactamente un ganador")
+    void testOneWinnerPerRace() throws InterruptedException {
+        TournamentEngine.Result result = new TournamentEngine(17, 10, 4).run(500);
+
+        assertEquals(500, result.races());
+        assertEquals(17, result.lanes());
+        long wins = 0;
+        long podiums = 0;
+        for (int lane = 0; lane < 17; lane++) {
+            wins += result.wins()[lane];
+            podiums += result.podiums()[lane];
+        }
+        assertEquals(500, wins);
+        assertEquals(3 * 500, podiums);
+    }
+
+    @Test
+    @DisplayName("La suma de posiciones debe cubrir todas las llegadas")
+    void testPositionSumsCoverEveryArrival() throws InterruptedException {
+        int lanes = 5;
+        int races = 200;
+        TournamentEngine.Result result = new TournamentEngine(lanes, 3, 2).run(races);
+
+        long positions = 0;
+        double averages = 0;
+        for (int lane = 0; lane < lanes; lane++) {
+            positions += result.positionSum()[lane];
+            averages += result.averagePosition(lane);
+        }
+        // every race hands out positions 1..lanes once
+        assertEquals((long) races * lanes * (lanes + 1) / 2, positions);
+        assertEquals(lanes * (lanes + 1) / 2.0, averages, 1e-9);
+    }
+
+    @Test
+    @DisplayName("Las victorias deben repartirse entre los carriles")
+    void testWinsAreSpread() throws InterruptedException {
+        TournamentEngine.Result result = new TournamentEngine(4, 5, 2).run(2000);
+
+        for (int lane = 0; lane < 4; lane++) {
+            assertTrue(result.winShare(lane) > 0.15 && result.winShare(lane) < 0.35,
+                    "Carril " + lane + ": " + result.winShare(lane));
+        }
+    }
+
+    @Test
+    @DisplayName("Un solo hilo debe dar los mismos totales")
+    void testSingleWorker() throws InterruptedException {
+        TournamentEngine.Result result = new TournamentEngine(3, 4, 1).run(50);
+
+        assertEquals(50, result.wins()[0] + result.wins()[1] + result.wins()[2]);
+        assertTrue(result.elapsedNanos() > 0);
+        assertTrue(result.racesPerSecond() > 0);
+    }
+
+    @Test
+    @DisplayName("La misma semilla debe dar la misma tabla con cualquier número de hilos")
+    void testSeedReproducesStandings() throws InterruptedException {
+        TournamentEngine.Result oneWorker = new TournamentEngine(6, 4, 1).run(300, 99L);
+        TournamentEngine.Result fourWorkers = new TournamentEngine(6, 4, 4).run(300, 99L);
+
+        assertEquals(99L, oneWorker.seed());
+        assertArrayEquals(oneWorker.wins(), fourWorkers.wins());
+        assertArrayEquals(oneWorker.positionSum(), fourWorkers.positionSum());
+    }
+
+    @Test
+    @DisplayName("Un torneo sin carreras no debe tener resultados")
+    void testNoRaces() throws InterruptedException {
+        TournamentEngine.Result result = new TournamentEngine(3, 4).run(0);
+
+        assertEquals(0, result.races());
+        assertEquals(0, result.winShare(0));
+        assertEquals(0, result.averagePosition(0));
+    }
+
+    @Test
+    @DisplayName("Debe correr miles de carreras en segundos")
+    @Timeout(value = 20, unit = TimeUnit.SECONDS)
+    void testThousandsOfRaces() throws InterruptedException {
+        TournamentEngine.Result result = new TournamentEngine(17, 100).run(5_000);
+
+        assertEquals(5_000, result.races());
+    }
+
+    @Test
+    @DisplayName("Debe rechazar parámetros inválidos")
+    void testRejectsInvalidArguments() {
+        assertThrows(IllegalArgumentException.class, () -> new TournamentEngine(0, 10, 1));
+        assertThrows(IllegalArgumentException.class, () -> new TournamentEngine(1, 0, 1));
+        assertThrows(IllegalArgumentException.class, () -> new TournamentEngine(1, 10, 0));
+        assertThrows(IllegalArgumentException.class, () -> new TournamentEngine(1, 10, 1).run(-1));
+    }
+}
@@ -0,0 +1,135 @@
+package edu.eci.arsw.dogsrace.engine;
+
+import edu.eci.arsw.dogsrace.util.RaceRandom;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Pruebas unitarias para WinProbabilityEstimator
+ * Cobertura: probabilidades por carril, intervalos de confianza, reproducibilidad (también vía RaceRandom)
+ */
+@DisplayName("WinProbabilityEstimator Unit Tests")
+class WinProbabilityEstimatorTest {
+
+    @Test
+    @DisplayName("Las probabilidades de ganar deben sumar uno")
+    void testWinProbabilitiesSumToOne() {
+        WinProbabilityEstimator.Result result = new WinProbabilityEstimator(5, 20).estimate(20_000, 1L);
+
+        double total = 0;
+        for (int lane = 0; lane < result.lanes(); lane++) {
+            total += result.win(lane).probability();
+        }
+        assertEquals(1.0, total, 1e-9);
+    }
+
+    @Test
+    @DisplayName("Cada carril debe ocupar cada posición en alguna muestra")
+    void testPlacementsCoverEverySample() {
+        int samples = 10_000;
+        WinProbabilityEstimator.Result result = new WinProbabilityEstimator(4, 10).estimate(samples, 2L);
+
+        for (int lane = 0; lane < 4; lane++) {
+            long lanePlacements = 0;
+            long positionCount = 0;
+            for (int p = 0; p < 4; p++) {
+                lanePlacements += result.placements()[lane][p];
+                positionCount += result.placements()[p][lane];
+            }
+            assertEquals(samples, lanePlacements);
+            assertEquals(samples, positionCount);
+        }
+    }
+
+    @Test
+    @DisplayName("Carriles iguales deben tener la misma probabilidad")
+    void testEqualLanesAreSymmetric() {
+        WinProbabilityEstimator.Result result = new WinProbabilityEstimator(4, 50).estimate(100_000, 3L);
+
+        for (int lane = 0; lane < 4; lane++) {
+            WinProbabilityEstimator.Estimate win = result.win(lane);
+            assertEquals(0.25, win.probability(), 0.01);
+            assertTrue(win.low() <= win.probability() && win.probability() <= win.high());
+        }
+    }
+
+    @Test
+    @DisplayName("Sin variación, los empates se reparten al azar")
+    void testTiesAreBrokenAtRandom() {
+        WinProbabilityEstimator.Result result =
+                new WinProbabilityEstimator(new int[] {5, 5, 5}, 100, 0).estimate(30_000, 4L);
+
+        for (int lane = 0; lane < 3; lane++) {
+            assertEquals(1.0 / 3, result.win(lane).probability(), 0.02);
+        }
+    }
+
+    @Test
+    @DisplayName("Una pista más corta debe ganar siempre si el retraso domina la variación")
+    void testShorterTrackWins() {
+        WinProbabilityEstimator.Result result =
+                new WinProbabilityEstimator(new int[] {10, 11}, 100_000, 1_000).estimate(10_000, 5L);
+
+        assertEquals(1.0, result.win(0).probability());
+        assertEquals(1.0, result.placement(1, 2).probability());
+        assertTrue(result.win(0).low() > 0.999);
+    }
+
+    @Test
+    @DisplayName("La misma semilla debe dar el mismo resultado")
+    void testSeedIsReproducible() {
+        WinProbabilityEstimator estimator = new WinProbabilityEstimator(6, 30);
+
+        WinProbabilityEstimator.Result a = estimator.estimate(50_000, 42L);
+        WinProbabilityEstimator.Result b = estimator.estimate(50_000, 42L);
+
+        for (int lane = 0; lane < 6; lane++) {
+            assertArrayEquals(a.placements()[lane], b.placements()[lane]);
+        }
+    }
+
+    @Test
+    @DisplayName("Una semilla y su RaceRandom deben dar el mismo resultado")
+    void testSeedGoesThroughRaceRandom() {
+        WinProbabilityEstimator estimator = new WinProbabilityEstimator(4, 20);
+
+        WinProbabilityEstimator.Result a = estimator.estimate(20_000, 9L);
+        WinProbabilityEstimator.Result b = estimator.estimate(20_000, new RaceRandom(9L));
+
+        for (int lane = 0; lane < 4; lane++) {
+            assertArrayEquals(a.placements()[lane], b.placements()[lane]);
+        }
+    }
+
+    @Test
+    @DisplayName("Sin semilla también debe estimar")
+    void testUnseededEstimate() {
+        WinProbabilityEstimator.Result result = new WinProbabilityEstimator(2, 5).estimate(1_000);
+
+        assertEquals(1_000, result.samples());
+        assertEquals(1_000, result.placements()[0][0] + result.placements()[1][0]);
+    }
+
+    @Test
+    @DisplayName("El intervalo debe estrecharse con más muestras")
+    void testIntervalNarrowsWithSamples() {
+        WinProbabilityEstimator estimator = new WinProbabilityEstimator(3, 10);
+
+        WinProbabilityEstimator.Estimate few = estimator.estimate(1_000, 6L).win(0);
+        WinProbabilityEstimator.Estimate many = estimator.estimate(100_000, 6L).win(0);
+
+        assertTrue(many.high() - many.low() < few.high() - few.low());
+    }
+
+    @Test
+    @DisplayName("Debe rechazar parámetros inválidos")
+    void testRejectsInvalidArguments() {
+        assertThrows(IllegalArgumentException.class, () -> new WinProbabilityEstimator(0, 10));
+        assertThrows(IllegalArgumentException.class, () -> new WinProbabilityEstimator(new int[] {0}, 1, 1));
+        assertThrows(IllegalArgumentException.class, () -> new WinProbabilityEstimator(new int[] {1}, -1, 1));
+        assertThrows(IllegalArgumentException.class, () -> new WinProbabilityEstimator(new int[] {1}, 1, -1));
+        assertThrows(IllegalArgumentException.class, () -> new WinProbabilityEstimator(2, 5).estimate(0));
+    }
+}
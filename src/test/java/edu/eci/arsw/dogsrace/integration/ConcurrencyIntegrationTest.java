@@ -3,6 +3,7 @@ package edu.eci.arsw.dogsrace.integration;
 import edu.eci.arsw.dogsrace.control.RaceControl;
 import edu.eci.arsw.dogsrace.domain.ArrivalRegistry;
 import edu.eci.arsw.dogsrace.threads.Galgo;
+import edu.eci.arsw.dogsrace.threads.RunnerMode;
 import edu.eci.arsw.dogsrace.ui.Carril;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -40,25 +41,26 @@ class ConcurrencyIntegrationTest {
         int numberOfRunners = 20;
         int trackLength = 15;
         Galgo[] galgos = new Galgo[numberOfRunners];
+        Thread[] runners = new Thread[numberOfRunners];
 
         for (int i = 0; i < numberOfRunners; i++) {
             Carril carril = new Carril(trackLength, "Dog" + i);
             galgos[i] = new Galgo(carril, "Dog" + i, registry, control);
         }
 
-        for (Galgo galgo : galgos) {
-            galgo.start();
+        for (int i = 0; i < numberOfRunners; i++) {
+            runners[i] = RunnerMode.PLATFORM.start(galgos[i]);
         }
 
-        for (Galgo galgo : galgos) {
-            galgo.join();
+        for (Thread runner : runners) {
+            runner.join();
         }
 
         assertNotNull(registry.getWinner());
         assertEquals(numberOfRunners + 1, registry.getNextPosition());
 
-        for (Galgo galgo : galgos) {
-            assertFalse(galgo.isAlive());
+        for (Thread runner : runners) {
+            assertFalse(runner.isAlive());
         }
     }
 
@@ -69,12 +71,13 @@ class ConcurrencyIntegrationTest {
         int numberOfRunners = 10;
         int trackLength = 30;
         Galgo[] galgos = new Galgo[numberOfRunners];
+        Thread[] runners = new Thread[numberOfRunners];
         AtomicInteger pauseResumeCount = new AtomicInteger(0);
 
         for (int i = 0; i < numberOfRunners; i++) {
             Carril carril = new Carril(trackLength, "Dog" + i);
             galgos[i] = new Galgo(carril, "Dog" + i, registry, control);
-            galgos[i].start();
+            runners[i] = RunnerMode.PLATFORM.start(galgos[i]);
         }
 
         Thread controlThread = new Thread(() -> {
@@ -95,8 +98,8 @@ class ConcurrencyIntegrationTest {
         controlThread.start();
         controlThread.join();
 
-        for (Galgo galgo : galgos) {
-            galgo.join();
+        for (Thread runner : runners) {
+            runner.join();
         }
 
         assertNotNull(registry.getWinner());
@@ -186,14 +189,14 @@ class ConcurrencyIntegrationTest {
         Galgo galgo = new Galgo(carril, "TestDog", registry, control);
 
         control.pause();
-        galgo.start();
+        Thread runner = RunnerMode.PLATFORM.start(galgo);
 
         Thread.sleep(200);
 
-        galgo.interrupt();
-        galgo.join(2000);
+        runner.interrupt();
+        runner.join(2000);
 
-        assertFalse(galgo.isAlive());
+        assertFalse(runner.isAlive());
     }
 
     @Test
@@ -210,15 +213,15 @@ class ConcurrencyIntegrationTest {
         Galgo slow = new Galgo(slowTrack, "Slow", registry, control);
         Galgo verySlow = new Galgo(verySlowTrack, "VerySlow", registry, control);
 
-        slow.start();
-        fast.start();
-        verySlow.start();
-        medium.start();
+        Thread slowRunner = RunnerMode.PLATFORM.start(slow);
+        Thread fastRunner = RunnerMode.PLATFORM.start(fast);
+        Thread verySlowRunner = RunnerMode.PLATFORM.start(verySlow);
+        Thread mediumRunner = RunnerMode.PLATFORM.start(medium);
 
-        fast.join();
-        medium.join();
-        slow.join();
-        verySlow.join();
+        fastRunner.join();
+        mediumRunner.join();
+        slowRunner.join();
+        verySlowRunner.join();
 
         assertEquals("Fast", registry.getWinner());
     }
@@ -230,11 +233,12 @@ class ConcurrencyIntegrationTest {
         int numberOfRunners = 5;
         int trackLength = 20;
         Galgo[] galgos = new Galgo[numberOfRunners];
+        Thread[] runners = new Thread[numberOfRunners];
 
         for (int i = 0; i < numberOfRunners; i++) {
             Carril carril = new Carril(trackLength, "Dog" + i);
             galgos[i] = new Galgo(carril, "Dog" + i, registry, control);
-            galgos[i].start();
+            runners[i] = RunnerMode.PLATFORM.start(galgos[i]);
         }
 
         for (int i = 0; i < 50; i++) {
@@ -244,8 +248,8 @@ class ConcurrencyIntegrationTest {
             Thread.sleep(10);
         }
 
-        for (Galgo galgo : galgos) {
-            galgo.join();
+        for (Thread runner : runners) {
+            runner.join();
         }
 
         assertNotNull(registry.getWinner());
@@ -268,7 +272,7 @@ class ConcurrencyIntegrationTest {
                         Thread.sleep(10);
                         control.resume();
                     } else {
-                        control.awaitIfPaused();
+                        control.awaitIfPaused(0, 0);
                     }
                 } catch (InterruptedException e) {
                     Thread.currentThread().interrupt();
@@ -329,18 +333,19 @@ class ConcurrencyIntegrationTest {
     void testSystemRecoveryFromThreadExceptions() throws InterruptedException {
         int numberOfRunners = 5;
         Galgo[] galgos = new Galgo[numberOfRunners];
+        Thread[] runners = new Thread[numberOfRunners];
 
         for (int i = 0; i < numberOfRunners; i++) {
             Carril carril = new Carril(10, "Dog" + i);
             galgos[i] = new Galgo(carril, "Dog" + i, registry, control);
-            galgos[i].start();
+            runners[i] = RunnerMode.PLATFORM.start(galgos[i]);
         }
 
-        galgos[1].interrupt();
-        galgos[3].interrupt();
+        runners[1].interrupt();
+        runners[3].interrupt();
 
-        for (Galgo galgo : galgos) {
-            galgo.join(3000);
+        for (Thread runner : runners) {
+            runner.join(3000);
         }
 
         assertTrue(registry.getNextPosition() > 1);
@@ -3,6 +3,7 @@ package edu.eci.arsw.dogsrace.integration;
 import edu.eci.arsw.dogsrace.control.RaceControl;
 import edu.eci.arsw.dogsrace.domain.ArrivalRegistry;
 import edu.eci.arsw.dogsrace.threads.Galgo;
+import edu.eci.arsw.dogsrace.threads.RunnerMode;
 import edu.eci.arsw.dogsrace.ui.Carril;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -28,6 +29,7 @@ class RaceIntegrationTest {
     private RaceControl control;
     private List<Carril> carriles;
     private List<Galgo> galgos;
+    private List<Thread> runners;
 
     @BeforeEach
     void setUp() {
@@ -35,6 +37,7 @@ class RaceIntegrationTest {
         control = new RaceControl();
         carriles = new ArrayList<>();
         galgos = new ArrayList<>();
+        runners = new ArrayList<>();
     }
 
     @Test
@@ -52,19 +55,19 @@ class RaceIntegrationTest {
         }
 
         for (Galgo galgo : galgos) {
-            galgo.start();
+            runners.add(RunnerMode.PLATFORM.start(galgo));
         }
 
-        for (Galgo galgo : galgos) {
-            galgo.join();
+        for (Thread runner : runners) {
+            runner.join();
         }
 
         assertNotNull(registry.getWinner());
 
         assertEquals(numberOfRunners + 1, registry.getNextPosition());
 
-        for (Galgo galgo : galgos) {
-            assertFalse(galgo.isAlive());
+        for (Thread runner : runners) {
+            assertFalse(runner.isAlive());
         }
     }
 
@@ -79,8 +82,8 @@ class RaceIntegrationTest {
         Galgo galgo1 = new Galgo(carril1, "Runner1", registry, control);
         Galgo galgo2 = new Galgo(carril2, "Runner2", registry, control);
 
-        galgo1.start();
-        galgo2.start();
+        Thread runner1 = RunnerMode.PLATFORM.start(galgo1);
+        Thread runner2 = RunnerMode.PLATFORM.start(galgo2);
 
         Thread.sleep(200);
 
@@ -91,8 +94,8 @@ class RaceIntegrationTest {
         control.resume();
         assertFalse(control.isPaused());
 
-        galgo1.join();
-        galgo2.join();
+        runner1.join();
+        runner2.join();
 
         assertNotNull(registry.getWinner());
         assertEquals(3, registry.getNextPosition()); // 2 corredores + 1
@@ -106,7 +109,7 @@ class RaceIntegrationTest {
         Carril carril = new Carril(trackLength, "TestRunner");
         Galgo galgo = new Galgo(carril, "TestRunner", registry, control);
 
-        galgo.start();
+        Thread runner = RunnerMode.PLATFORM.start(galgo);
 
         for (int i = 0; i < 5; i++) {
             Thread.sleep(100);
@@ -115,7 +118,7 @@ class RaceIntegrationTest {
             control.resume();
         }
 
-        galgo.join();
+        runner.join();
 
         assertNotNull(registry.getWinner());
         assertEquals("TestRunner", registry.getWinner());
@@ -133,13 +136,13 @@ class RaceIntegrationTest {
         Galgo mediumGalgo = new Galgo(mediumTrack, "Medium", registry, control);
         Galgo slowGalgo = new Galgo(longTrack, "Slow", registry, control);
 
-        fastGalgo.start();
-        mediumGalgo.start();
-        slowGalgo.start();
+        Thread fastRunner = RunnerMode.PLATFORM.start(fastGalgo);
+        Thread mediumRunner = RunnerMode.PLATFORM.start(mediumGalgo);
+        Thread slowRunner = RunnerMode.PLATFORM.start(slowGalgo);
 
-        fastGalgo.join();
-        mediumGalgo.join();
-        slowGalgo.join();
+        fastRunner.join();
+        mediumRunner.join();
+        slowRunner.join();
 
         assertEquals("Fast", registry.getWinner());
         assertEquals(4, registry.getNextPosition()); // 3 corredores + 1
@@ -159,11 +162,11 @@ class RaceIntegrationTest {
         }
 
         for (Galgo galgo : galgos) {
-            galgo.start();
+            runners.add(RunnerMode.PLATFORM.start(galgo));
         }
 
-        for (Galgo galgo : galgos) {
-            galgo.join();
+        for (Thread runner : runners) {
+            runner.join();
         }
 
         assertEquals(numberOfRunners + 1, registry.getNextPosition());
@@ -181,13 +184,13 @@ class RaceIntegrationTest {
         Galgo galgo2 = new Galgo(track2, "Second", registry, control);
         Galgo galgo3 = new Galgo(track3, "Third", registry, control);
 
-        galgo3.start();
-        galgo2.start();
-        galgo1.start();
+        Thread runner3 = RunnerMode.PLATFORM.start(galgo3);
+        Thread runner2 = RunnerMode.PLATFORM.start(galgo2);
+        Thread runner1 = RunnerMode.PLATFORM.start(galgo1);
 
-        galgo1.join();
-        galgo2.join();
-        galgo3.join();
+        runner1.join();
+        runner2.join();
+        runner3.join();
 
         assertEquals("First", registry.getWinner());
     }
@@ -239,7 +242,7 @@ class RaceIntegrationTest {
             Carril carril = new Carril(trackLength, "Dog" + i);
             Galgo galgo = new Galgo(carril, "Dog" + i, registry, control);
             galgos.add(galgo);
-            galgo.start();
+            runners.add(RunnerMode.PLATFORM.start(galgo));
         }
 
         Thread controlThread = new Thread(() -> {
@@ -259,8 +262,8 @@ class RaceIntegrationTest {
         controlThread.start();
         controlThread.join();
 
-        for (Galgo galgo : galgos) {
-            galgo.join();
+        for (Thread runner : runners) {
+            runner.join();
         }
 
         assertEquals(3, pauseCount.get());
@@ -275,8 +278,8 @@ class RaceIntegrationTest {
         Carril carril = new Carril(10, "Solo");
         Galgo galgo = new Galgo(carril, "Solo", registry, control);
 
-        galgo.start();
-        galgo.join();
+        Thread runner = RunnerMode.PLATFORM.start(galgo);
+        runner.join();
 
         assertEquals("Solo", registry.getWinner());
         assertEquals(2, registry.getNextPosition());
@@ -293,11 +296,11 @@ class RaceIntegrationTest {
             Carril carril = new Carril(trackLength, "Dog" + i);
             Galgo galgo = new Galgo(carril, "Dog" + i, registry, control);
             galgos.add(galgo);
-            galgo.start();
+            runners.add(RunnerMode.PLATFORM.start(galgo));
         }
 
-        for (Galgo galgo : galgos) {
-            galgo.join();
+        for (Thread runner : runners) {
+            runner.join();
         }
 
         assertNotNull(registry.getWinner());
@@ -315,11 +318,11 @@ class RaceIntegrationTest {
             Carril carril = new Carril(trackLength, "Dog" + i);
             Galgo galgo = new Galgo(carril, "Dog" + i, registry, control);
             galgos.add(galgo);
-            galgo.start();
+            runners.add(RunnerMode.PLATFORM.start(galgo));
         }
 
-        for (Galgo galgo : galgos) {
-            galgo.join();
+        for (Thread runner : runners) {
+            runner.join();
         }
 
         assertNotNull(registry.getWinner());
@@ -335,13 +338,13 @@ class RaceIntegrationTest {
         Carril carril = new Carril(10, "TestDog");
         Galgo galgo = new Galgo(carril, "TestDog", registry, control);
 
-        galgo.start();
+        Thread runner = RunnerMode.PLATFORM.start(galgo);
         Thread.sleep(200);
 
-        assertTrue(galgo.isAlive());
+        assertTrue(runner.isAlive());
 
         control.resume();
-        galgo.join();
+        runner.join();
 
         assertEquals("TestDog", registry.getWinner());
     }
@@ -352,8 +355,8 @@ class RaceIntegrationTest {
     void testConsecutiveRaces() throws InterruptedException {
         Carril carril1 = new Carril(5, "Race1");
         Galgo galgo1 = new Galgo(carril1, "Race1", registry, control);
-        galgo1.start();
-        galgo1.join();
+        Thread runner1 = RunnerMode.PLATFORM.start(galgo1);
+        runner1.join();
 
         String winner1 = registry.getWinner();
         assertNotNull(winner1);
@@ -361,8 +364,8 @@ class RaceIntegrationTest {
         ArrivalRegistry registry2 = new ArrivalRegistry();
         Carril carril2 = new Carril(5, "Race2");
         Galgo galgo2 = new Galgo(carril2, "Race2", registry2, control);
-        galgo2.start();
-        galgo2.join();
+        Thread runner2 = RunnerMode.PLATFORM.start(galgo2);
+        runner2.join();
 
         String winner2 = registry2.getWinner();
         assertNotNull(winner2);
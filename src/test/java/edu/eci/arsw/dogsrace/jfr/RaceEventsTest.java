@@ -0,0 +1,167 @@
+package edu.eci.arsw.dogsrace.jfr;
+
+import edu.eci.arsw.dogsrace.control.RaceControl;
+import edu.eci.arsw.dogsrace.domain.ArrivalRegistry;
+import edu.eci.arsw.dogsrace.domain.Lane;
+import edu.eci.arsw.dogsrace.threads.Galgo;
+import edu.eci.arsw.dogsrace.threads.RunnerMode;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Pruebas unitarias para los eventos JFR de la carrera
+ * Cobertura: pasos, llegadas (también en lote), pausa, reanudación y espera de los corredores en una grabación real
+ */
+@DisplayName("JFR Race Events Unit Tests")
+class RaceEventsTest {
+
+    @TempDir
+    Path dir;
+
+    private List<RecordedEvent> record(Recording recording, Runnable race) throws IOException {
+        recording.start();
+        race.run();
+        recording.stop();
+        Path file = dir.resolve("race.jfr");
+        recording.dump(file);
+        return RecordingFile.readAllEvents(file);
+    }
+
+    private static List<RecordedEvent> ofType(List<RecordedEvent> events, String name) {
+        return events.stream().filter(e -> e.getEventType().getName().equals(name)).toList();
+    }
+
+    private static void runGalgo(int lane, int steps, ArrivalRegistry registry, RaceControl control) {
+        Galgo galgo = new Galgo(new Lane(steps, String.valueOf(lane)), lane, registry, control, 0);
+        Thread runner = RunnerMode.PLATFORM.start(galgo);
+        try {
+            runner.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    @Test
+    @DisplayName("Debe emitir un evento por paso y uno por llegada con carril y posición")
+    void testStepAndArrivalEvents() throws IOException {
+        try (Recording recording = new Recording()) {
+            recording.enable(StepEvent.class);
+            recording.enable(ArrivalEvent.class);
+
+            List<RecordedEvent> events = record(recording,
+                    () -> runGalgo(4, 3, new ArrivalRegistry(), new RaceControl()));
+
+            List<RecordedEvent> steps = ofType(events, "dogsrace.Step");
+            assertEquals(3, steps.size());
+            for (int i = 0; i < 3; i++) {
+                assertEquals(4, steps.get(i).getInt("lane"));
+            }
+            assertEquals(6, steps.stream().mapToInt(e -> e.getInt("position")).sum());
+
+            List<RecordedEvent> arrivals = ofType(events, "dogsrace.Arrival");
+            assertEquals(1, arrivals.size());
+            assertEquals(4, arrivals.get(0).getInt("lane"));
+            assertEquals(1, arrivals.get(0).getInt("position"));
+        }
+    }
+
+    @Test
+    @DisplayName("Debe emitir la pausa, la reanudación y la espera de cada corredor")
+    void testPauseEvents() throws Exception {
+        try (Recording recording = new Recording()) {
+            recording.enable(PauseEvent.class);
+            recording.enable(ResumeEvent.class);
+            recording.enable(PauseWaitEvent.class);
+
+            RaceControl control = new RaceControl();
+            List<RecordedEvent> events = record(recording, () -> {
+                control.pause();
+                Thread runner = new Thread(() -> {
+                    try {
+                        control.awaitIfPaused(2, 5);
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                });
+                runner.start();
+                try {
+                    // the runner is parked in awaitIfPaused
+                    while (runner.getState() != Thread.State.WAITING) {
+                        Thread.onSpinWait();
+                    }
+                    Thread.sleep(30);
+                    control.resume();
+                    runner.join();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            });
+
+            List<RecordedEvent> pauses = ofType(events, "dogsrace.Pause");
+            assertEquals(1, pauses.size());
+            assertTrue(pauses.get(0).getDuration().compareTo(Duration.ofMillis(20)) >= 0);
+            assertEquals(1, ofType(events, "dogsrace.Resume").size());
+            List<RecordedEvent> waits = ofType(events, "dogsrace.PauseWait");
+            assertEquals(1, waits.size());
+            assertTrue(waits.get(0).getDuration().compareTo(Duration.ofMillis(10)) >= 0);
+            assertEquals(2, waits.get(0).getInt("lane"));
+            assertEquals(5, waits.get(0).getInt("position"));
+        }
+    }
+
+    @Test
+    @DisplayName("Una llegada en lote debe emitir un evento por corredor")
+    void testBatchArrivalEvents() throws IOException {
+        try (Recording recording = new Recording()) {
+            recording.enable(ArrivalEvent.class);
+            ArrivalRegistry registry = new ArrivalRegistry();
+
+            List<RecordedEvent> events = record(recording, () -> {
+                registry.registerArrival(0, "0");
+                registry.registerArrivals(new int[]{3, 1}, new String[]{"3", "1"});
+            });
+
+            List<RecordedEvent> arrivals = ofType(events, "dogsrace.Arrival").stream()
+                    .sorted(Comparator.comparingInt(e -> e.getInt("position"))).toList();
+            assertEquals(3, arrivals.size());
+            assertEquals(List.of(0, 3, 1), arrivals.stream().map(e -> e.getInt("lane")).toList());
+            assertEquals(List.of(1, 2, 3), arrivals.stream().map(e -> e.getInt("position")).toList());
+        }
+    }
+
+    @Test
+    @DisplayName("Un evento deshabilitado no debe aparecer en la grabación")
+    void testDisabledEventsAreNotRecorded() throws IOException {
+        try (Recording recording = new Recording()) {
+            recording.disable(StepEvent.class);
+            recording.enable(ArrivalEvent.class);
+
+            List<RecordedEvent> events = record(recording,
+                    () -> runGalgo(1, 5, new ArrivalRegistry(), new RaceControl()));
+
+            assertTrue(ofType(events, "dogsrace.Step").isEmpty());
+            assertEquals(1, ofType(events, "dogsrace.Arrival").size());
+        }
+    }
+
+    @Test
+    @DisplayName("Pausar y reanudar sin grabación no debe fallar")
+    void testWithoutRecording() {
+        RaceControl control = new RaceControl();
+        control.pause();
+        control.resume();
+        assertFalse(control.isPaused());
+    }
+}
@@ -0,0 +1,242 @@
+package edu.eci.arsw.dogsrace.journal;
+
+import edu.eci.arsw.dogsrace.control.RaceControl;
+import edu.eci.arsw.dogsrace.domain.ArrivalRegistry;
+import edu.eci.arsw.dogsrace.engine.TickRaceEngine;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.CountDownLatch;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Pruebas unitarias para RaceJournal y JournalReader
+ * Cobertura: formato binario, tamaño del archivo al cerrar, escritura concurrente, cierre con escritores activos, journal sin cerrar,
+ * integración con el motor
+ */
+@DisplayName("RaceJournal Unit Tests")
+class RaceJournalTest {
+
+    @TempDir
+    Path dir;
+
+    @AfterEach
+    void clearProperty() {
+        System.clearProperty(RaceJournal.PROPERTY);
+    }
+
+    @Test
+    @DisplayName("Debe leer los eventos en el orden en que se escribieron")
+    void testRoundTrip() throws IOException {
+        Path file = dir.resolve("race.bin");
+        long before = System.currentTimeMillis();
+        try (RaceJournal journal = RaceJournal.create(file)) {
+            journal.onStep(3, 1);
+            journal.onPause();
+            journal.onResume();
+            journal.onArrival(3, 1);
+            assertEquals(4, journal.size());
+        }
+
+        try (JournalReader reader = JournalReader.open(file)) {
+            assertEquals(4, reader.size());
+            assertEquals(RaceJournal.Type.STEP, reader.type(0));
+            assertEquals(3, reader.lane(0));
+            assertEquals(1, reader.value(0));
+            assertEquals(RaceJournal.Type.PAUSE, reader.type(1));
+            assertEquals(-1, reader.lane(1));
+            assertEquals(RaceJournal.Type.RESUME, reader.type(2));
+            assertEquals(RaceJournal.Type.ARRIVAL, reader.type(3));
+            assertEquals(1, reader.value(3));
+            assertTrue(reader.nanos(0) <= reader.nanos(3));
+            assertTrue(reader.getStartEpochMillis() >= before);
+        }
+        assertEquals(RaceJournal.HEADER_BYTES + 4L * RaceJournal.RECORD_BYTES, Files.size(file));
+    }
+
+    @Test
+    @DisplayName("Escrituras concurrentes no deben perder ni mezclar registros")
+    void testConcurrentWriters() throws Exception {
+        Path file = dir.resolve("concurrent.bin");
+        int writers = 8;
+        int perWriter = 50_000;
+        try (RaceJournal journal = RaceJournal.create(file)) {
+            Thread[] threads = new Thread[writers];
+            for (int w = 0; w < writers; w++) {
+                final int lane = w;
+                threads[w] = new Thread(() -> {
+                    for (int i = 1; i <= perWriter; i++) {
+                        journal.onStep(lane, i);
+                    }
+                });
+                threads[w].start();
+            }
+            for (Thread thread : threads) {
+                thread.join();
+            }
+            assertEquals(0, journal.getDropped());
+        }
+
+        try (JournalReader reader = JournalReader.open(file)) {
+            assertEquals((long) writers * perWriter, reader.size());
+            int[] last = new int[writers];
+            for (long i = 0; i < reader.size(); i++) {
+                int lane = reader.lane(i);
+                // each writer's own records keep their order
+                assertEquals(last[lane] + 1, reader.value(i));
+                last[lane] = reader.value(i);
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Debe ocupar más de un bloque mapeado")
+    void testSpansSeveralChunks() throws IOException {
+        Path file = dir.resolve("chunks.bin");
+        int records = RaceJournal.CHUNK_RECORDS + 10;
+        try (RaceJournal journal = RaceJournal.create(file)) {
+            for (int i = 0; i < records; i++) {
+                journal.onStep(0, i);
+            }
+        }
+
+        try (JournalReader reader = JournalReader.open(file)) {
+            assertEquals(records, reader.size());
+            assertEquals(RaceJournal.CHUNK_RECORDS + 9, reader.value(records - 1));
+        }
+        assertEquals(RaceJournal.HEADER_BYTES + (long) records * RaceJournal.RECORD_BYTES, Files.size(file));
+    }
+
+    @Test
+    @DisplayName("Después de cerrar debe contar los eventos descartados")
+    void testAppendAfterCloseIsDropped() throws IOException {
+        RaceJournal journal = RaceJournal.create(dir.resolve("closed.bin"));
+        journal.onStep(0, 1);
+        journal.close();
+        journal.close();
+
+        journal.onStep(0, 2);
+
+        assertEquals(1, journal.size());
+        assertEquals(1, journal.getDropped());
+    }
+
+    @Test
+    @DisplayName("Cerrar con escritores activos no debe perder registros sin contarlos")
+    void testCloseWhileWriting() throws Exception {
+        Path file = dir.resolve("closing.bin");
+        int writers = 4;
+        int perWriter = 100_000;
+        RaceJournal journal = RaceJournal.create(file);
+        CountDownLatch started = new CountDownLatch(writers);
+        Thread[] threads = new Thread[writers];
+        for (int w = 0; w < writers; w++) {
+            final int lane = w;
+            threads[w] = new Thread(() -> {
+                started.countDown();
+                for (int i = 1; i <= perWriter; i++) {
+                    journal.onStep(lane, i);
+                }
+            });
+            threads[w].start();
+        }
+        started.await();
+        journal.close();
+        for (Thread thread : threads) {
+            thread.join();
+        }
+
+        try (JournalReader reader = JournalReader.open(file)) {
+            assertEquals(journal.size(), reader.size());
+            assertEquals((long) writers * perWriter, reader.size() + journal.getDropped());
+            for (long i = 0; i < reader.size(); i++) {
+                assertEquals(RaceJournal.Type.STEP, reader.type(i));
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Un journal sin cerrar termina en el primer registro no escrito")
+    void testUnclosedJournalIsReadable() throws IOException {
+        Path file = dir.resolve("live.bin");
+        RaceJournal journal = RaceJournal.create(file);
+        journal.onStep(1, 1);
+        journal.onStep(2, 1);
+
+        try (JournalReader reader = JournalReader.open(file)) {
+            assertEquals(2, reader.size());
+            assertEquals(2, reader.lane(1));
+        } finally {
+            journal.close();
+        }
+    }
+
+    @Test
+    @DisplayName("Debe rechazar archivos que no son journals")
+    void testRejectsForeignFiles() throws IOException {
+        Path shortFile = Files.write(dir.resolve("short.bin"), new byte[10]);
+        Path foreign = Files.write(dir.resolve("foreign.bin"), new byte[128]);
+
+        assertThrows(IOException.class, () -> JournalReader.open(shortFile));
+        assertThrows(IOException.class, () -> JournalReader.open(foreign));
+    }
+
+    @Test
+    @DisplayName("Debe rechazar índices fuera de rango")
+    void testRecordOutOfRange() throws IOException {
+        Path file = dir.resolve("range.bin");
+        try (RaceJournal journal = RaceJournal.create(file)) {
+            journal.onPause();
+        }
+        try (JournalReader reader = JournalReader.open(file)) {
+            assertThrows(IndexOutOfBoundsException.class, () -> reader.type(1));
+            assertThrows(IndexOutOfBoundsException.class, () -> reader.lane(-1));
+        }
+    }
+
+    @Test
+    @DisplayName("Debe registrar una carrera completa del motor por ticks")
+    void testRecordsWholeRace() throws Exception {
+        Path file = dir.resolve("tick.bin");
+        ArrivalRegistry registry = new ArrivalRegistry();
+        try (RaceJournal journal = RaceJournal.create(file)) {
+            new TickRaceEngine(10, 20, registry, new RaceControl(journal), 0).run();
+        }
+
+        try (JournalReader reader = JournalReader.open(file)) {
+            int steps = 0;
+            int arrivals = 0;
+            for (long i = 0; i < reader.size(); i++) {
+                if (reader.type(i) == RaceJournal.Type.STEP) {
+                    steps++;
+                } else if (reader.type(i) == RaceJournal.Type.ARRIVAL) {
+                    arrivals++;
+                    if (reader.value(i) == 1) {
+                        assertEquals(registry.getWinner(), String.valueOf(reader.lane(i)));
+                    }
+                }
+            }
+            assertEquals(200, steps);
+            assertEquals(10, arrivals);
+        }
+    }
+
+    @Test
+    @DisplayName("Debe abrirse desde la propiedad del sistema")
+    void testFromSystemProperties() throws IOException {
+        assertNull(RaceJournal.fromSystemProperties());
+
+        Path file = dir.resolve("prop.bin");
+        System.setProperty(RaceJournal.PROPERTY, file.toString());
+        try (RaceJournal journal = RaceJournal.fromSystemProperties()) {
+            assertNotNull(journal);
+        }
+        assertTrue(Files.exists(file));
+    }
+}
@@ -0,0 +1,320 @@
+package edu.eci.arsw.dogsrace.journal;
+
+import edu.eci.arsw.dogsrace.control.RaceControl;
+import edu.eci.arsw.dogsrace.domain.ArrivalRegistry;
+import edu.eci.arsw.dogsrace.domain.LaneModel;
+import edu.eci.arsw.dogsrace.engine.TickRaceEngine;
+import edu.eci.arsw.dogsrace.ui.Carril;
+import edu.eci.arsw.dogsrace.util.RaceRandom;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.InOrder;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.SplittableRandom;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Pruebas unitarias para ReplayPlayer
+ * Cobertura: índice de keyframes, seek hacia adelante y atrás, reproducción a distintas velocidades,
+ * lectura del reloj durante la reproducción
+ */
+@DisplayName("ReplayPlayer Unit Tests")
+class ReplayPlayerTest {
+
+    private static final long MS = 1_000_000L;
+
+    @TempDir
+    Path dir;
+
+    private JournalReader reader;
+
+    @AfterEach
+    void closeReader() throws IOException {
+        if (reader != null) {
+            reader.close();
+        }
+    }
+
+    /**
+     * Three lanes of 4 steps, one step per lane every millisecond; lane 2 wins, then 0, then 1.
+     */
+    private JournalReader smallRace() throws IOException {
+        Path file = dir.resolve("small.bin");
+        try (RaceJournal journal = RaceJournal.create(file)) {
+            int[] order = {2, 0, 1};
+            int position = 1;
+            for (int step = 1; step <= 4; step++) {
+                for (int k = 0; k < order.length; k++) {
+                    int lane = order[k];
+                    long at = step * MS + k;
+                    journal.append(at, RaceJournal.Type.STEP, lane, step);
+                    if (step == 4) {
+                        journal.append(at, RaceJournal.Type.ARRIVAL, lane, position++);
+                    }
+                }
+            }
+        }
+        reader = JournalReader.open(file);
+        return reader;
+    }
+
+    private static int[] positions(LaneModel[] lanes) {
+        int[] positions = new int[lanes.length];
+        for (int i = 0; i < lanes.length; i++) {
+            positions[i] = lanes[i].getPosition();
+        }
+        return positions;
+    }
+
+    @Test
+    @DisplayName("Debe deducir carriles, pista, ganador y duración del journal")
+    void testDimensions() throws IOException {
+        ReplayPlayer player = new ReplayPlayer(smallRace(), 5);
+
+        assertEquals(3, player.getLanes());
+        assertEquals(4, player.getTrackLength());
+        assertEquals(2, player.getWinner());
+        assertEquals(4 * MS + 2, player.getDuration());
+        assertEquals(15, player.getRecords());
+        assertEquals(3, player.getKeyframes());
+        assertEquals(0, player.getTime());
+    }
+
+    @Test
+    @DisplayName("Seek debe llevar los carriles al instante pedido, hacia adelante y hacia atrás")
+    void testSeek() throws IOException {
+        ReplayPlayer player = new ReplayPlayer(smallRace(), 4);
+        LaneModel[] lanes = player.newLanes();
+        player.attach(lanes);
+
+        player.seek(2 * MS + 1);
+        assertArrayEquals(new int[]{2, 1, 2}, positions(lanes));
+
+        player.seek(3 * MS + 2);
+        assertArrayEquals(new int[]{3, 3, 3}, positions(lanes));
+
+        player.seek(2 * MS);
+        assertArrayEquals(new int[]{1, 1, 2}, positions(lanes));
+
+        player.seek(Long.MAX_VALUE);
+        assertArrayEquals(new int[]{4, 4, 4}, positions(lanes));
+        assertTrue(lanes[0].isFinished() && lanes[1].isFinished() && lanes[2].isFinished());
+        assertEquals(player.getDuration(), player.getTime());
+
+        player.seek(-5);
+        assertArrayEquals(new int[]{0, 0, 0}, positions(lanes));
+        assertFalse(lanes[2].isFinished());
+    }
+
+    @Test
+    @DisplayName("Seek con keyframes debe coincidir con reproducir desde el inicio")
+    void testSeekMatchesLinearReplay() throws Exception {
+        Path file = dir.resolve("tick.bin");
+        try (RaceJournal journal = RaceJournal.create(file)) {
+            new TickRaceEngine(50, 30, new ArrivalRegistry(50), new RaceControl(journal), 0, new RaceRandom(7)).run();
+        }
+        reader = JournalReader.open(file);
+        ReplayPlayer indexed = new ReplayPlayer(reader, 16);
+        ReplayPlayer linear = new ReplayPlayer(reader, Integer.MAX_VALUE);
+        assertTrue(indexed.getKeyframes() > 50);
+        assertEquals(1, linear.getKeyframes());
+
+        LaneModel[] seeked = indexed.newLanes();
+        indexed.attach(seeked);
+        SplittableRandom random = new SplittableRandom(3);
+        for (int i = 0; i < 50; i++) {
+            long at = random.nextLong(indexed.getDuration() + 1);
+            indexed.seek(at);
+            LaneModel[] fresh = linear.newLanes();
+            linear.seek(0);
+            linear.attach(fresh);
+            linear.seek(at);
+            assertArrayEquals(positions(fresh), positions(seeked), "at " + at);
+            for (int lane = 0; lane < seeked.length; lane++) {
+                assertEquals(fresh[lane].isFinished(), seeked[lane].isFinished());
+                assertEquals(fresh[lane].getPosition(), indexed.getPosition(lane));
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("El sink debe recibir las mismas llamadas que haría un corredor")
+    void testSinkSeesRunnerCalls() throws Exception {
+        ReplayPlayer player = new ReplayPlayer(smallRace());
+        LaneModel[] lanes = {mock(LaneModel.class), mock(LaneModel.class), mock(LaneModel.class)};
+        player.attach(lanes);
+        player.setSpeed(ReplayPlayer.MAX_SPEED);
+
+        assertTrue(player.play());
+
+        InOrder inOrder = inOrder(lanes[2]);
+        inOrder.verify(lanes[2]).reStart();
+        for (int step = 1; step <= 4; step++) {
+            inOrder.verify(lanes[2]).setPasoOn(step - 1);
+            inOrder.verify(lanes[2]).displayPasos(step);
+        }
+        inOrder.verify(lanes[2]).finish();
+
+        player.seek(0);
+        verify(lanes[0], times(2)).reStart();
+        verify(lanes[0], times(1)).finish();
+    }
+
+    @Test
+    @DisplayName("A velocidad máxima debe terminar la carrera sin esperar")
+    void testPlayAtMaxSpeed() throws Exception {
+        ReplayPlayer player = new ReplayPlayer(smallRace());
+        LaneModel[] lanes = player.newLanes();
+        player.attach(lanes);
+        player.setSpeed(ReplayPlayer.MAX_SPEED);
+
+        assertTrue(player.play());
+
+        assertArrayEquals(new int[]{4, 4, 4}, positions(lanes));
+        assertTrue(lanes[2].isFinished());
+        assertEquals(player.getDuration(), player.getTime());
+        assertFalse(player.isPlaying());
+    }
+
+    @Test
+    @DisplayName("Debe respetar el reloj grabado según la velocidad")
+    void testPlaysInRecordedTime() throws Exception {
+        ReplayPlayer player = new ReplayPlayer(smallRace());
+        player.attach(player.newLanes());
+
+        player.setSpeed(0.5);
+        long t0 = System.nanoTime();
+        assertTrue(player.play());
+        long slow = System.nanoTime() - t0;
+
+        player.seek(0);
+        player.setSpeed(4);
+        t0 = System.nanoTime();
+        assertTrue(player.play());
+        long fast = System.nanoTime() - t0;
+
+        // 4 ms recorded: at least 8 ms at half speed, and well below that at 4x
+        assertTrue(slow >= 7 * MS, "slow " + slow);
+        assertTrue(fast < slow, "fast " + fast + " slow " + slow);
+    }
+
+    @Test
+    @DisplayName("El reloj debe leerse sin esperar a que play termine de aplicar registros")
+    void testClockIsReadableWhilePlayApplies() throws Exception {
+        ReplayPlayer player = new ReplayPlayer(smallRace());
+        CountDownLatch inSink = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        LaneModel[] lanes = player.newLanes();
+        // lane 2 steps first: play() holds the lock while this sink is stuck
+        lanes[2] = new Carril(4, "2") {
+            @Override
+            public void displayPasos(int n) {
+                inSink.countDown();
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                super.displayPasos(n);
+            }
+        };
+        player.attach(lanes);
+        player.setSpeed(ReplayPlayer.MAX_SPEED);
+
+        Thread replay = new Thread(() -> {
+            try {
+                player.play();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        replay.start();
+        try {
+            assertTrue(inSink.await(2, TimeUnit.SECONDS));
+            assertEquals(0, (long) CompletableFuture.supplyAsync(player::getTime).get(2, TimeUnit.SECONDS));
+            assertTrue(CompletableFuture.supplyAsync(player::isPlaying).get(2, TimeUnit.SECONDS));
+            assertEquals(ReplayPlayer.MAX_SPEED, (double) CompletableFuture.supplyAsync(player::getSpeed).get(2, TimeUnit.SECONDS));
+        } finally {
+            release.countDown();
+            replay.join(5_000);
+        }
+        assertEquals(player.getDuration(), player.getTime());
+    }
+
+    @Test
+    @DisplayName("Stop debe detener la reproducción y play debe continuar desde ahí")
+    void testStopAndResume() throws Exception {
+        Path file = dir.resolve("long.bin");
+        try (RaceJournal journal = RaceJournal.create(file)) {
+            for (int step = 1; step <= 100; step++) {
+                journal.append(step * 10 * MS, RaceJournal.Type.STEP, 0, step);
+            }
+        }
+        reader = JournalReader.open(file);
+        ReplayPlayer player = new ReplayPlayer(reader);
+        LaneModel[] lanes = player.newLanes();
+        player.attach(lanes);
+
+        Thread replay = new Thread(() -> {
+            try {
+                player.play();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        replay.start();
+        while (lanes[0].getPosition() < 2) {
+            Thread.sleep(1);
+        }
+        player.stop();
+        replay.join(5_000);
+        assertFalse(replay.isAlive());
+
+        int stoppedAt = lanes[0].getPosition();
+        long time = player.getTime();
+        assertTrue(stoppedAt < 100);
+        Thread.sleep(30);
+        assertEquals(time, player.getTime());
+        assertEquals(stoppedAt, lanes[0].getPosition());
+
+        player.setSpeed(ReplayPlayer.MAX_SPEED);
+        assertTrue(player.play());
+        assertEquals(100, lanes[0].getPosition());
+    }
+
+    @Test
+    @DisplayName("Debe rechazar parámetros inválidos")
+    void testInvalidArguments() throws IOException {
+        JournalReader journal = smallRace();
+        assertThrows(IllegalArgumentException.class, () -> new ReplayPlayer(journal, 0));
+
+        ReplayPlayer player = new ReplayPlayer(journal);
+        assertThrows(IllegalArgumentException.class, () -> player.setSpeed(0.05));
+        assertThrows(IllegalArgumentException.class, () -> player.setSpeed(Double.NaN));
+        assertThrows(IllegalArgumentException.class, () -> player.attach(player.newLanes()[0]));
+    }
+
+    @Test
+    @DisplayName("Un journal vacío no tiene carriles ni duración")
+    void testEmptyJournal() throws Exception {
+        Path file = dir.resolve("empty.bin");
+        RaceJournal.create(file).close();
+        reader = JournalReader.open(file);
+
+        ReplayPlayer player = new ReplayPlayer(reader);
+        assertEquals(0, player.getLanes());
+        assertEquals(-1, player.getWinner());
+        assertEquals(1, player.getKeyframes());
+        player.seek(100);
+        assertTrue(player.play());
+    }
+}
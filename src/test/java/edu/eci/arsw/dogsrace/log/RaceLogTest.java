@@ -0,0 +1,215 @@
+package edu.eci.arsw.dogsrace.log;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Pruebas unitarias para RaceLog
+ * Cobertura: orden y formato, escritores concurrentes, descarte con el anillo lleno,
+ * cierre, salida a archivo (agregando al contenido previo) y validación
+ */
+@DisplayName("RaceLog Unit Tests")
+class RaceLogTest {
+
+    private static List<String> lines(ByteArrayOutputStream bytes) {
+        String text = bytes.toString(StandardCharsets.UTF_8);
+        return text.isEmpty() ? List.of() : List.of(text.split(System.lineSeparator()));
+    }
+
+    /**
+     * Output whose writes wait until {@code release} opens; {@code writing} opens on the first write.
+     */
+    private static PrintStream blocking(ByteArrayOutputStream bytes, CountDownLatch writing, CountDownLatch release) {
+        return new PrintStream(new OutputStream() {
+            @Override
+            public void write(int b) throws IOException {
+                write(new byte[]{(byte) b}, 0, 1);
+            }
+
+            @Override
+            public void write(byte[] b, int off, int len) throws IOException {
+                writing.countDown();
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    throw new IOException(e);
+                }
+                bytes.write(b, off, len);
+            }
+        }, false, StandardCharsets.UTF_8);
+    }
+
+    @Test
+    @Timeout(value = 10, unit = TimeUnit.SECONDS)
+    @DisplayName("Los mensajes de un escritor deben salir en orden y formateados")
+    void testOrderAndFormat() {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        RaceLog log = new RaceLog(new PrintStream(bytes, false, StandardCharsets.UTF_8), 16);
+
+        assertTrue(log.log("Carrera pausada!"));
+        assertTrue(log.logf("El galgo %s llego en la posicion %d", "7", 1));
+        for (int i = 0; i < 40; i++) {
+            assertTrue(log.logf("linea %d", i) || log.getDropped() > 0);
+        }
+        log.close();
+
+        List<String> lines = lines(bytes);
+        assertEquals("Carrera pausada!", lines.get(0));
+        assertEquals("El galgo 7 llego en la posicion 1", lines.get(1));
+        int previous = -1;
+        for (String line : lines.subList(2, lines.size())) {
+            if (line.startsWith("linea ")) {
+                int n = Integer.parseInt(line.substring(6));
+                assertTrue(n > previous);
+                previous = n;
+            }
+        }
+        assertEquals(42 - log.getDropped(), log.getWritten());
+    }
+
+    @Test
+    @Timeout(value = 20, unit = TimeUnit.SECONDS)
+    @DisplayName("Con varios escritores cada mensaje aceptado debe salir una sola vez")
+    void testConcurrentWriters() throws InterruptedException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        RaceLog log = new RaceLog(new PrintStream(bytes, false, StandardCharsets.UTF_8), 1 << 16);
+        int writers = 8;
+        int perWriter = 2_000;
+        List<Thread> threads = new ArrayList<>();
+        for (int w = 0; w < writers; w++) {
+            final int writer = w;
+            Thread t = new Thread(() -> {
+                for (int i = 0; i < perWriter; i++) {
+                    log.logf("%d-%d", writer, i);
+                }
+            });
+            threads.add(t);
+            t.start();
+        }
+        for (Thread t : threads) {
+            t.join();
+        }
+        log.close();
+
+        assertEquals(0, log.getDropped());
+        assertEquals(writers * perWriter, log.getWritten());
+        Set<String> seen = new HashSet<>(lines(bytes));
+        assertEquals(writers * perWriter, seen.size());
+        assertTrue(seen.contains("3-1999"));
+    }
+
+    @Test
+    @Timeout(value = 10, unit = TimeUnit.SECONDS)
+    @DisplayName("Con el anillo lleno los mensajes deben descartarse y contarse sin bloquear")
+    void testDropsWhenFull() throws InterruptedException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        CountDownLatch writing = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        RaceLog log = new RaceLog(blocking(bytes, writing, release), 4);
+        assertEquals(4, log.getCapacity());
+
+        assertTrue(log.log("primero"));
+        // the drainer is now stuck writing the first line, with the ring empty
+        assertTrue(writing.await(5, TimeUnit.SECONDS));
+        for (int i = 0; i < 4; i++) {
+            assertTrue(log.log("lleno " + i));
+        }
+        assertFalse(log.log("descartado"));
+        assertFalse(log.log("descartado"));
+        assertEquals(2, log.getDropped());
+
+        release.countDown();
+        log.close();
+
+        List<String> lines = lines(bytes);
+        assertEquals(List.of("primero", "lleno 0", "lleno 1", "lleno 2", "lleno 3",
+                "[log] 2 mensajes descartados"), lines);
+        assertEquals(5, log.getWritten());
+    }
+
+    @Test
+    @Timeout(value = 10, unit = TimeUnit.SECONDS)
+    @DisplayName("Cerrar debe escribir lo pendiente y rechazar lo siguiente")
+    void testClose() {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        RaceLog log = new RaceLog(new PrintStream(bytes, false, StandardCharsets.UTF_8), 8);
+        log.log("antes");
+        log.close();
+        log.close();
+
+        assertFalse(log.log("despues"));
+        assertEquals(1, log.getDropped());
+        assertEquals(List.of("antes"), lines(bytes));
+    }
+
+    @Test
+    @Timeout(value = 10, unit = TimeUnit.SECONDS)
+    @DisplayName("Un formato inválido no debe detener el log")
+    void testBadFormat() {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        RaceLog log = new RaceLog(new PrintStream(bytes, false, StandardCharsets.UTF_8), 8);
+        log.logf("posicion %d", "no es un numero");
+        log.log("sigue");
+        log.close();
+
+        List<String> lines = lines(bytes);
+        assertEquals(2, lines.size());
+        assertTrue(lines.get(0).startsWith("[log] formato invalido"));
+        assertEquals("sigue", lines.get(1));
+    }
+
+    @Test
+    @Timeout(value = 10, unit = TimeUnit.SECONDS)
+    @DisplayName("Debe poder escribir a un archivo")
+    void testToFile(@TempDir Path dir) throws IOException {
+        Path file = dir.resolve("race.log");
+        RaceLog log = RaceLog.toFile(file, 8);
+        log.logf("Carrera %d", 1);
+        log.close();
+
+        assertEquals(List.of("Carrera 1"), Files.readAllLines(file, StandardCharsets.UTF_8));
+    }
+
+    @Test
+    @Timeout(value = 10, unit = TimeUnit.SECONDS)
+    @DisplayName("Abrir el mismo archivo dos veces debe agregar, no truncar")
+    void testToFileAppends(@TempDir Path dir) throws IOException {
+        Path file = dir.resolve("race.log");
+        RaceLog first = RaceLog.toFile(file, 8);
+        first.logf("Carrera %d", 1);
+        first.close();
+        RaceLog second = RaceLog.toFile(file, 8);
+        second.logf("Carrera %d", 2);
+        second.close();
+
+        assertEquals(List.of("Carrera 1", "Carrera 2"), Files.readAllLines(file, StandardCharsets.UTF_8));
+    }
+
+    @Test
+    @DisplayName("Datos inválidos deben rechazarse")
+    void testInvalidArguments() {
+        assertThrows(IllegalArgumentException.class, () -> new RaceLog(System.out, 0));
+        assertThrows(IllegalArgumentException.class, () -> new RaceLog(null, 8));
+        RaceLog log = new RaceLog(System.out, 5);
+        assertEquals(8, log.getCapacity());
+        log.close();
+    }
+}
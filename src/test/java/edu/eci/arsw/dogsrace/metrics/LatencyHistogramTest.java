@@ -0,0 +1,123 @@
+package edu.eci.arsw.dogsrace.metrics;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Pruebas unitarias para LatencyHistogram
+ * Cobertura: buckets log-lineales, percentiles, escritura concurrente, límites
+ */
+@DisplayName("LatencyHistogram Unit Tests")
+class LatencyHistogramTest {
+
+    @Test
+    @DisplayName("Los buckets deben ser contiguos y cubrir todos los valores")
+    void testBucketsAreContiguous() {
+        long previousHigh = -1;
+        for (int b = 0; b < LatencyHistogram.BUCKETS; b++) {
+            long high = LatencyHistogram.highestValueOf(b);
+            assertTrue(high > previousHigh);
+            assertEquals(b, LatencyHistogram.bucketOf(previousHigh + 1));
+            assertEquals(b, LatencyHistogram.bucketOf(high));
+            previousHigh = high;
+        }
+        assertEquals(LatencyHistogram.MAX_VALUE, previousHigh);
+    }
+
+    @Test
+    @DisplayName("Cada valor debe quedar dentro de 1/32 de su bucket")
+    void testRelativePrecision() {
+        for (long value = 1; value < LatencyHistogram.MAX_VALUE; value = value * 3 / 2 + 1) {
+            long high = LatencyHistogram.highestValueOf(LatencyHistogram.bucketOf(value));
+            assertTrue(high >= value);
+            assertTrue(high - value <= value / LatencyHistogram.SUB_BUCKETS, "value " + value);
+        }
+    }
+
+    @Test
+    @DisplayName("Debe calcular percentiles de una distribución uniforme")
+    void testPercentiles() {
+        LatencyHistogram histogram = new LatencyHistogram("test", 4);
+        for (long ms = 1; ms <= 1000; ms++) {
+            histogram.record(ms * 1_000_000);
+        }
+
+        LatencyHistogram.Snapshot snapshot = histogram.snapshot();
+        assertEquals(1000, snapshot.count());
+        assertEquals(500e6, snapshot.p50(), 500e6 / 32);
+        assertEquals(990e6, snapshot.p99(), 990e6 / 32);
+        assertEquals(999e6, snapshot.p999(), 999e6 / 32);
+        assertEquals(1000e6, snapshot.max(), 1000e6 / 32);
+        assertEquals(500.5e6, snapshot.mean(), 500.5e6 / 32);
+        assertTrue(snapshot.p50() <= snapshot.p99() && snapshot.p99() <= snapshot.p999());
+    }
+
+    @Test
+    @DisplayName("Un histograma vacío debe reportar ceros")
+    void testEmpty() {
+        LatencyHistogram.Snapshot snapshot = new LatencyHistogram("empty").snapshot();
+
+        assertEquals(0, snapshot.count());
+        assertEquals(0, snapshot.p99());
+        assertEquals(0.0, snapshot.mean());
+        assertEquals("empty", snapshot.getName());
+    }
+
+    @Test
+    @DisplayName("Valores negativos y enormes deben ir a los buckets extremos")
+    void testOutOfRangeValues() {
+        LatencyHistogram histogram = new LatencyHistogram("range", 1);
+        histogram.record(-10);
+        histogram.record(Long.MAX_VALUE);
+
+        LatencyHistogram.Snapshot snapshot = histogram.snapshot();
+        assertEquals(2, snapshot.count());
+        assertEquals(0, snapshot.percentile(50));
+        assertEquals(LatencyHistogram.MAX_VALUE, snapshot.max());
+    }
+
+    @Test
+    @DisplayName("Escrituras concurrentes no deben perder valores")
+    void testConcurrentRecording() throws InterruptedException {
+        LatencyHistogram histogram = new LatencyHistogram("concurrent", 8);
+        int writers = 8;
+        int perWriter = 100_000;
+        Thread[] threads = new Thread[writers];
+        for (int w = 0; w < writers; w++) {
+            final long value = (w + 1) * 1000L;
+            threads[w] = new Thread(() -> {
+                for (int i = 0; i < perWriter; i++) {
+                    histogram.record(value);
+                }
+            });
+            threads[w].start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+
+        LatencyHistogram.Snapshot snapshot = histogram.snapshot();
+        assertEquals((long) writers * perWriter, snapshot.count());
+        assertEquals(8000, snapshot.max(), 8000 / 32);
+    }
+
+    @Test
+    @DisplayName("Reset debe vaciar el histograma")
+    void testReset() {
+        LatencyHistogram histogram = new LatencyHistogram("reset");
+        histogram.record(42);
+        histogram.reset();
+
+        assertEquals(0, histogram.snapshot().count());
+    }
+
+    @Test
+    @DisplayName("Debe rechazar parámetros inválidos")
+    void testInvalidArguments() {
+        assertThrows(IllegalArgumentException.class, () -> new LatencyHistogram("bad", 0));
+        LatencyHistogram.Snapshot snapshot = new LatencyHistogram("p").snapshot();
+        assertThrows(IllegalArgumentException.class, () -> snapshot.percentile(101));
+    }
+}
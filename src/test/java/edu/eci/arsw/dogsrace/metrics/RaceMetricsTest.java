@@ -0,0 +1,99 @@
+package edu.eci.arsw.dogsrace.metrics;
+
+import edu.eci.arsw.dogsrace.control.RaceControl;
+import edu.eci.arsw.dogsrace.domain.ArrivalRegistry;
+import edu.eci.arsw.dogsrace.domain.Lane;
+import edu.eci.arsw.dogsrace.threads.Galgo;
+import edu.eci.arsw.dogsrace.threads.RunnerMode;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Pruebas unitarias para RaceMetrics
+ * Cobertura: registro de pasos, esperas en pausa y llegadas desde el código de la carrera
+ */
+@DisplayName("RaceMetrics Unit Tests")
+class RaceMetricsTest {
+
+    @Test
+    @DisplayName("Debe estar activo por defecto")
+    void testEnabledByDefault() {
+        assertTrue(RaceMetrics.ENABLED);
+    }
+
+    @Test
+    @DisplayName("Cada paso de un galgo debe quedar registrado con su demora")
+    void testRecordsSteps() throws InterruptedException {
+        long before = RaceMetrics.STEP.snapshot().count();
+
+        Galgo galgo = new Galgo(new Lane(5, "0"), 0, new ArrivalRegistry(), new RaceControl(), 2);
+        Thread runner = RunnerMode.PLATFORM.start(galgo);
+        runner.join();
+
+        LatencyHistogram.Snapshot steps = RaceMetrics.STEP.snapshot();
+        assertTrue(steps.count() - before >= 5);
+        assertTrue(steps.max() >= 2_000_000, "a step cannot be shorter than its delay");
+    }
+
+    @Test
+    @DisplayName("Una llegada debe quedar registrada")
+    void testRecordsArrivals() {
+        long before = RaceMetrics.ARRIVAL.snapshot().count();
+
+        ArrivalRegistry registry = new ArrivalRegistry();
+        registry.registerArrival("a");
+        registry.registerArrival("b");
+
+        assertTrue(RaceMetrics.ARRIVAL.snapshot().count() - before >= 2);
+    }
+
+    @Test
+    @DisplayName("El tiempo bloqueado en pausa debe quedar registrado")
+    void testRecordsPauseWait() throws InterruptedException {
+        long before = RaceMetrics.PAUSE_WAIT.snapshot().count();
+        RaceControl control = new RaceControl();
+        control.pause();
+
+        Thread runner = new Thread(() -> {
+            try {
+                control.awaitIfPaused(0, 0);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        runner.start();
+        Thread.sleep(20);
+        control.resume();
+        runner.join();
+
+        LatencyHistogram.Snapshot waits = RaceMetrics.PAUSE_WAIT.snapshot();
+        assertTrue(waits.count() - before >= 1);
+        assertTrue(waits.max() >= 10_000_000);
+    }
+
+    @Test
+    @DisplayName("Sin pausa no debe registrarse ninguna espera")
+    void testNoWaitWhenRunning() throws InterruptedException {
+        long before = RaceMetrics.PAUSE_WAIT.snapshot().count();
+
+        new RaceControl().awaitIfPaused(0, 0);
+
+        assertEquals(before, RaceMetrics.PAUSE_WAIT.snapshot().count());
+    }
+
+    @Test
+    @DisplayName("El reporte debe incluir todos los histogramas")
+    void testReport() {
+        String report = RaceMetrics.report();
+
+        assertTrue(report.contains("step"));
+        assertTrue(report.contains("pause-wait"));
+        assertTrue(report.contains("arrival"));
+        assertTrue(report.contains("first-step"));
+        assertTrue(report.contains("teardown"));
+        assertTrue(report.contains("start-skew"));
+        assertTrue(report.contains("p99"));
+    }
+}
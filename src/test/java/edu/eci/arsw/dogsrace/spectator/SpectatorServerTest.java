@@ -0,0 +1,209 @@
+package edu.eci.arsw.dogsrace.spectator;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Pruebas unitarias para SpectatorServer
+ * Cobertura: snapshot al conectar, deltas solo con lo que cambió, un mismo cuadro para todos,
+ * espectadores lentos, nueva carrera, flujo HTTP de punta a punta, cierre y validación
+ */
+@DisplayName("SpectatorServer Unit Tests")
+class SpectatorServerTest {
+
+    private SpectatorServer server;
+
+    /**
+     * Server on a free loopback port that sends frames only when the test calls publishFrame.
+     */
+    private static SpectatorServer start(int lanes, int track, int clientQueue) throws IOException {
+        return new SpectatorServer(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), lanes, track, 0,
+                clientQueue);
+    }
+
+    private static String text(byte[] frame) {
+        return new String(frame, StandardCharsets.UTF_8);
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (server != null) {
+            server.close();
+        }
+    }
+
+    @Test
+    @DisplayName("Un espectador nuevo debe recibir primero el estado completo")
+    void testSnapshotOnConnect() throws Exception {
+        server = start(3, 10, 8);
+        server.onStep(1, 4);
+        server.onArrival(2, 1);
+        server.publishFrame();
+
+        SpectatorServer.Client client = server.connect();
+
+        assertEquals("event: snapshot\ndata: {\"track\":10,\"positions\":[0,4,0],\"places\":[0,0,1],\"paused\":false}\n\n",
+                text(client.queue.take()));
+        assertEquals(1, server.getClients());
+    }
+
+    @Test
+    @DisplayName("Cada cuadro debe llevar solo los carriles que cambiaron y ser el mismo para todos")
+    void testDeltaIsSharedAndMinimal() throws Exception {
+        server = start(4, 10, 8);
+        SpectatorServer.Client first = server.connect();
+        SpectatorServer.Client second = server.connect();
+        first.queue.take();
+        second.queue.take();
+
+        server.onStep(0, 1);
+        server.onStep(3, 2);
+        server.onStep(3, 3);
+        server.onPause();
+        assertEquals(2, server.publishFrame());
+        assertEquals(0, server.publishFrame(), "nothing changed since");
+
+        byte[] frame = first.queue.take();
+        assertTrue(frame == second.queue.take(), "encoded once for every spectator");
+        assertEquals("event: delta\ndata: {\"steps\":[[0,1],[3,3]],\"places\":[],\"paused\":true}\n\n", text(frame));
+        assertTrue(first.queue.isEmpty());
+        assertEquals(1, server.getFrames());
+    }
+
+    @Test
+    @DisplayName("Un espectador que se atrasa debe recibir un snapshot en lugar de lo pendiente")
+    void testSlowSpectatorIsResynced() throws Exception {
+        server = start(2, 100, 2);
+        SpectatorServer.Client slow = server.connect();
+        SpectatorServer.Client fast = server.connect();
+        fast.queue.take();
+
+        for (int step = 1; step <= 5; step++) {
+            server.onStep(0, step);
+            server.publishFrame();
+            assertTrue(fast.queue.take().length > 0);
+        }
+
+        assertTrue(server.getResyncs() > 0);
+        assertTrue(fast.queue.isEmpty());
+        String last = null;
+        byte[] frame;
+        while ((frame = slow.queue.poll()) != null) {
+            last = text(frame);
+        }
+        assertNotNull(last);
+        // whatever the slow spectator got last leaves it at the current state
+        assertTrue(last.contains("\"positions\":[5,0]") || last.contains("[0,5]"), last);
+    }
+
+    @Test
+    @DisplayName("Una carrera nueva debe devolver los carriles a la salida")
+    void testNewRace() throws Exception {
+        server = start(2, 10, 8);
+        server.onStep(0, 10);
+        server.onArrival(0, 1);
+        server.onStep(1, 7);
+        server.publishFrame();
+        SpectatorServer.Client client = server.connect();
+        client.queue.take();
+
+        server.newRace();
+        server.onStep(1, 1);
+        server.publishFrame();
+
+        assertEquals("event: delta\ndata: {\"steps\":[[0,0],[1,1]],\"places\":[[0,0]],\"paused\":false}\n\n",
+                text(client.queue.take()));
+    }
+
+    @Test
+    @DisplayName("Pasos de carriles inexistentes deben ignorarse")
+    void testIgnoresUnknownLanes() throws IOException {
+        server = start(2, 10, 8);
+        server.onStep(-1, 3);
+        server.onStep(2, 3);
+        server.onArrival(5, 1);
+
+        assertEquals(0, server.publishFrame());
+    }
+
+    @Test
+    @Timeout(value = 20, unit = TimeUnit.SECONDS)
+    @DisplayName("El navegador debe recibir la página y el flujo de eventos por HTTP")
+    void testHttp() throws Exception {
+        server = SpectatorServer.start(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 2, 5, 50, 8);
+        HttpClient http = HttpClient.newHttpClient();
+        String base = "http://localhost:" + server.getPort();
+
+        HttpResponse<String> page = http.send(HttpRequest.newBuilder(URI.create(base + "/")).build(),
+                HttpResponse.BodyHandlers.ofString());
+        assertEquals(200, page.statusCode());
+        assertTrue(page.body().contains("EventSource"));
+        assertEquals(404, http.send(HttpRequest.newBuilder(URI.create(base + "/missing")).build(),
+                HttpResponse.BodyHandlers.ofString()).statusCode());
+
+        HttpResponse<Stream<String>> events = http.send(HttpRequest.newBuilder(URI.create(base + "/events")).build(),
+                HttpResponse.BodyHandlers.ofLines());
+        assertEquals(200, events.statusCode());
+        assertTrue(events.headers().firstValue("Content-Type").orElse("").startsWith("text/event-stream"));
+        Iterator<String> lines = events.body().iterator();
+        assertEquals("event: snapshot", lines.next());
+        assertTrue(lines.next().startsWith("data: {\"track\":5,"));
+        assertEquals("", lines.next());
+
+        server.onStep(1, 2);
+        assertEquals("event: delta", lines.next());
+        assertEquals("data: {\"steps\":[[1,2]],\"places\":[],\"paused\":false}", lines.next());
+
+        server.close();
+        try {
+            while (lines.hasNext()) {
+                lines.next();
+            }
+        } catch (UncheckedIOException e) {
+            // the server may drop the connection instead of ending the stream
+        }
+        while (server.getClients() > 0) {
+            Thread.sleep(10);
+        }
+    }
+
+    @Test
+    @DisplayName("Tras cerrar, un espectador nuevo debe recibir solo el fin del flujo")
+    void testClose() throws Exception {
+        server = start(1, 10, 8);
+        SpectatorServer.Client before = server.connect();
+        server.close();
+        server.close();
+
+        assertEquals(0, before.queue.take().length);
+        assertEquals(0, server.connect().queue.take().length);
+        assertEquals(0, server.publishFrame());
+    }
+
+    @Test
+    @DisplayName("Datos inválidos deben rechazarse")
+    void testInvalidArguments() {
+        InetSocketAddress any = new InetSocketAddress(InetAddress.getLoopbackAddress(), 0);
+        assertThrows(IllegalArgumentException.class, () -> SpectatorServer.start(any, 0, 10, 1, 1));
+        assertThrows(IllegalArgumentException.class, () -> SpectatorServer.start(any, 1, 0, 1, 1));
+        assertThrows(IllegalArgumentException.class, () -> SpectatorServer.start(any, 1, 10, 0, 1));
+        assertThrows(IllegalArgumentException.class, () -> SpectatorServer.start(any, 1, 10, 1, 0));
+    }
+}
@@ -1,7 +1,9 @@
 package edu.eci.arsw.dogsrace.threads;
 
 import edu.eci.arsw.dogsrace.control.RaceControl;
+import edu.eci.arsw.dogsrace.control.RaceListener;
 import edu.eci.arsw.dogsrace.domain.ArrivalRegistry;
+import edu.eci.arsw.dogsrace.domain.Lane;
 import edu.eci.arsw.dogsrace.ui.Carril;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -31,18 +33,19 @@ class GalgoTest {
         mockCarril = mock(Carril.class);
         mockRegistry = mock(ArrivalRegistry.class);
         mockControl = mock(RaceControl.class);
+        when(mockControl.listener()).thenReturn(RaceListener.NONE);
     }
 
     @Test
     @DisplayName("Debe correr toda la pista y registrar llegada")
     void testCompleteRace() throws InterruptedException {
         when(mockCarril.size()).thenReturn(10);
-        when(mockRegistry.registerArrival(anyString()))
+        when(mockRegistry.registerArrival(anyInt(), anyString()))
                 .thenReturn(new ArrivalRegistry.ArrivalSnapshot(1, "TestDog"));
 
         galgo = new Galgo(mockCarril, "TestDog", mockRegistry, mockControl);
-        galgo.start();
-        galgo.join(5000);
+        Thread runner = RunnerMode.PLATFORM.start(galgo);
+        runner.join(5000);
 
         verify(mockCarril, times(10)).setPasoOn(anyInt());
 
@@ -50,35 +53,35 @@ class GalgoTest {
 
         verify(mockCarril, times(1)).finish();
 
-        verify(mockRegistry, times(1)).registerArrival("TestDog");
+        verify(mockRegistry, times(1)).registerArrival(-1, "TestDog");
     }
 
     @Test
     @DisplayName("Debe respetar el control de pausa")
     void testRespectsPauseControl() throws InterruptedException {
         when(mockCarril.size()).thenReturn(5);
-        when(mockRegistry.registerArrival(anyString()))
+        when(mockRegistry.registerArrival(anyInt(), anyString()))
                 .thenReturn(new ArrivalRegistry.ArrivalSnapshot(1, "TestDog"));
 
-        doNothing().when(mockControl).awaitIfPaused();
+        doNothing().when(mockControl).awaitIfPaused(anyInt(), anyInt());
 
         galgo = new Galgo(mockCarril, "TestDog", mockRegistry, mockControl);
-        galgo.start();
-        galgo.join(5000);
+        Thread runner = RunnerMode.PLATFORM.start(galgo);
+        runner.join(5000);
 
-        verify(mockControl, atLeast(5)).awaitIfPaused();
+        verify(mockControl, atLeast(5)).awaitIfPaused(anyInt(), anyInt());
     }
 
     @Test
     @DisplayName("Debe actualizar los pasos correctamente")
     void testStepProgression() throws InterruptedException {
         when(mockCarril.size()).thenReturn(5);
-        when(mockRegistry.registerArrival(anyString()))
+        when(mockRegistry.registerArrival(anyInt(), anyString()))
                 .thenReturn(new ArrivalRegistry.ArrivalSnapshot(1, "TestDog"));
 
         galgo = new Galgo(mockCarril, "TestDog", mockRegistry, mockControl);
-        galgo.start();
-        galgo.join(5000);
+        Thread runner = RunnerMode.PLATFORM.start(galgo);
+        runner.join(5000);
 
         ArgumentCaptor<Integer> stepCaptor = ArgumentCaptor.forClass(Integer.class);
         verify(mockCarril, times(5)).setPasoOn(stepCaptor.capture());
@@ -93,41 +96,41 @@ class GalgoTest {
     @DisplayName("Debe manejar interrupciones correctamente")
     void testHandlesInterruption() throws InterruptedException {
         when(mockCarril.size()).thenReturn(100); // Carril largo
-        doThrow(new InterruptedException()).when(mockControl).awaitIfPaused();
+        doThrow(new InterruptedException()).when(mockControl).awaitIfPaused(anyInt(), anyInt());
 
         galgo = new Galgo(mockCarril, "TestDog", mockRegistry, mockControl);
-        galgo.start();
-        galgo.join(2000);
+        Thread runner = RunnerMode.PLATFORM.start(galgo);
+        runner.join(2000);
 
-        assertFalse(galgo.isAlive());
+        assertFalse(runner.isAlive());
 
-        verify(mockRegistry, never()).registerArrival(anyString());
+        verify(mockRegistry, never()).registerArrival(anyInt(), anyString());
     }
 
     @Test
     @DisplayName("Debe registrar la posición de llegada correcta")
     void testRegistersCorrectArrivalPosition() throws InterruptedException {
         when(mockCarril.size()).thenReturn(3);
-        when(mockRegistry.registerArrival("Runner1"))
+        when(mockRegistry.registerArrival(-1, "Runner1"))
                 .thenReturn(new ArrivalRegistry.ArrivalSnapshot(2, "Winner"));
 
         galgo = new Galgo(mockCarril, "Runner1", mockRegistry, mockControl);
-        galgo.start();
-        galgo.join(2000);
+        Thread runner = RunnerMode.PLATFORM.start(galgo);
+        runner.join(2000);
 
-        verify(mockRegistry, times(1)).registerArrival("Runner1");
+        verify(mockRegistry, times(1)).registerArrival(-1, "Runner1");
     }
 
     @Test
     @DisplayName("Debe llamar a finish solo cuando llega al final")
     void testFinishCalledOnlyAtEnd() throws InterruptedException {
         when(mockCarril.size()).thenReturn(5);
-        when(mockRegistry.registerArrival(anyString()))
+        when(mockRegistry.registerArrival(anyInt(), anyString()))
                 .thenReturn(new ArrivalRegistry.ArrivalSnapshot(1, "TestDog"));
 
         galgo = new Galgo(mockCarril, "TestDog", mockRegistry, mockControl);
-        galgo.start();
-        galgo.join(3000);
+        Thread runner = RunnerMode.PLATFORM.start(galgo);
+        runner.join(3000);
 
         verify(mockCarril, times(1)).finish();
     }
@@ -150,17 +153,17 @@ class GalgoTest {
         Galgo galgo2 = new Galgo(carril2, "Dog2", registry, control);
         Galgo galgo3 = new Galgo(carril3, "Dog3", registry, control);
 
-        galgo1.start();
-        galgo2.start();
-        galgo3.start();
+        Thread runner1 = RunnerMode.PLATFORM.start(galgo1);
+        Thread runner2 = RunnerMode.PLATFORM.start(galgo2);
+        Thread runner3 = RunnerMode.PLATFORM.start(galgo3);
 
-        galgo1.join(3000);
-        galgo2.join(3000);
-        galgo3.join(3000);
+        runner1.join(3000);
+        runner2.join(3000);
+        runner3.join(3000);
 
-        assertFalse(galgo1.isAlive());
-        assertFalse(galgo2.isAlive());
-        assertFalse(galgo3.isAlive());
+        assertFalse(runner1.isAlive());
+        assertFalse(runner2.isAlive());
+        assertFalse(runner3.isAlive());
 
         verify(carril1, times(1)).finish();
         verify(carril2, times(1)).finish();
@@ -178,14 +181,14 @@ class GalgoTest {
     @DisplayName("Debe esperar 100ms entre pasos")
     void testTimingBetweenSteps() throws InterruptedException {
         when(mockCarril.size()).thenReturn(3);
-        when(mockRegistry.registerArrival(anyString()))
+        when(mockRegistry.registerArrival(anyInt(), anyString()))
                 .thenReturn(new ArrivalRegistry.ArrivalSnapshot(1, "TestDog"));
 
         long startTime = System.currentTimeMillis();
 
         galgo = new Galgo(mockCarril, "TestDog", mockRegistry, mockControl);
-        galgo.start();
-        galgo.join(5000);
+        Thread runner = RunnerMode.PLATFORM.start(galgo);
+        runner.join(5000);
 
         long duration = System.currentTimeMillis() - startTime;
 
@@ -196,12 +199,12 @@ class GalgoTest {
     @DisplayName("Debe actualizar displayPasos con el progreso")
     void testDisplayPasosUpdates() throws InterruptedException {
         when(mockCarril.size()).thenReturn(3);
-        when(mockRegistry.registerArrival(anyString()))
+        when(mockRegistry.registerArrival(anyInt(), anyString()))
                 .thenReturn(new ArrivalRegistry.ArrivalSnapshot(1, "TestDog"));
 
         galgo = new Galgo(mockCarril, "TestDog", mockRegistry, mockControl);
-        galgo.start();
-        galgo.join(2000);
+        Thread runner = RunnerMode.PLATFORM.start(galgo);
+        runner.join(2000);
 
         ArgumentCaptor<Integer> displayCaptor = ArgumentCaptor.forClass(Integer.class);
         verify(mockCarril, atLeast(3)).displayPasos(displayCaptor.capture());
@@ -210,4 +213,79 @@ class GalgoTest {
         assertTrue(displayCaptor.getAllValues().contains(2));
         assertTrue(displayCaptor.getAllValues().contains(3));
     }
+
+    @Test
+    @DisplayName("Debe rechazar un retardo por paso negativo")
+    void testNegativeStepDelayRejected() {
+        assertThrows(IllegalArgumentException.class,
+                () -> new Galgo(mockCarril, "TestDog", mockRegistry, mockControl, -1));
+    }
+
+    @Test
+    @DisplayName("Con retardo cero debe correr sin dormir")
+    void testZeroStepDelayRunsWithoutSleeping() throws InterruptedException {
+        when(mockCarril.size()).thenReturn(50);
+        when(mockRegistry.registerArrival(anyInt(), anyString()))
+                .thenReturn(new ArrivalRegistry.ArrivalSnapshot(1, "TestDog"));
+
+        long startTime = System.currentTimeMillis();
+
+        galgo = new Galgo(mockCarril, "TestDog", mockRegistry, mockControl, 0);
+        Thread runner = RunnerMode.PLATFORM.start(galgo);
+        runner.join(5000);
+
+        long duration = System.currentTimeMillis() - startTime;
+
+        verify(mockCarril, times(50)).setPasoOn(anyInt());
+        verify(mockRegistry, times(1)).registerArrival(-1, "TestDog");
+        assertTrue(duration < 2000, "Sin retardo 50 pasos no deberían tardar " + duration + "ms");
+    }
+
+    @Test
+    @DisplayName("Debe correr sobre un carril sin interfaz")
+    void testRunsOnHeadlessLane() throws InterruptedException {
+        Lane lane = new Lane(5, "Headless");
+        ArrivalRegistry registry = new ArrivalRegistry();
+
+        galgo = new Galgo(lane, "Headless", registry, new RaceControl(), 0);
+        Thread runner = RunnerMode.PLATFORM.start(galgo);
+        runner.join(2000);
+
+        assertEquals(5, lane.getPosition());
+        assertTrue(lane.isFinished());
+        assertEquals("Headless", registry.getWinner());
+    }
+
+    @Test
+    @DisplayName("Debe reportar pasos y llegada con su número de carril")
+    void testReportsStepsAndArrivalToListener() throws InterruptedException {
+        RaceListener listener = mock(RaceListener.class);
+        Lane lane = new Lane(3, "7");
+        ArrivalRegistry registry = new ArrivalRegistry();
+
+        galgo = new Galgo(lane, 7, registry, new RaceControl(listener), 0);
+        Thread runner = RunnerMode.PLATFORM.start(galgo);
+        runner.join(2000);
+
+        assertEquals("7", galgo.getName());
+        assertEquals(7, galgo.getLane());
+        verify(listener).onStep(7, 1);
+        verify(listener).onStep(7, 2);
+        verify(listener).onStep(7, 3);
+        verify(listener).onArrival(7, 1);
+    }
+
+    @Test
+    @DisplayName("Sin número de carril debe reportar -1")
+    void testUnnumberedRunnerReportsMinusOne() throws InterruptedException {
+        RaceListener listener = mock(RaceListener.class);
+
+        galgo = new Galgo(new Lane(1, "X"), "X", new ArrivalRegistry(), new RaceControl(listener), 0);
+        Thread runner = RunnerMode.PLATFORM.start(galgo);
+        runner.join(2000);
+
+        assertEquals(-1, galgo.getLane());
+        verify(listener).onStep(-1, 1);
+        verify(listener).onArrival(-1, 1);
+    }
 }
@@ -0,0 +1,110 @@
+package edu.eci.arsw.dogsrace.threads;
+
+import edu.eci.arsw.dogsrace.control.RaceControl;
+import edu.eci.arsw.dogsrace.domain.ArrivalRegistry;
+import edu.eci.arsw.dogsrace.ui.Carril;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Pruebas unitarias para RunnerMode
+ * Cobertura: selección del modo, arranque en hilos de plataforma y virtuales
+ */
+@DisplayName("RunnerMode Unit Tests")
+class RunnerModeTest {
+
+    @AfterEach
+    void tearDown() {
+        System.clearProperty(RunnerMode.PROPERTY);
+    }
+
+    @Test
+    @DisplayName("Debe usar PLATFORM por defecto")
+    void testDefaultIsPlatform() {
+        assertEquals(RunnerMode.PLATFORM, RunnerMode.parse(null));
+        assertEquals(RunnerMode.PLATFORM, RunnerMode.parse("  "));
+        assertEquals(RunnerMode.PLATFORM, RunnerMode.fromSystemProperties());
+    }
+
+    @Test
+    @DisplayName("Debe interpretar el modo sin importar mayúsculas")
+    void testParseIgnoresCase() {
+        assertEquals(RunnerMode.VIRTUAL, RunnerMode.parse("virtual"));
+        assertEquals(RunnerMode.PLATFORM, RunnerMode.parse(" Platform "));
+    }
+
+    @Test
+    @DisplayName("Debe rechazar modos desconocidos")
+    void testParseRejectsUnknown() {
+        assertThrows(IllegalArgumentException.class, () -> RunnerMode.parse("green"));
+    }
+
+    @Test
+    @DisplayName("Debe leer el modo de la propiedad del sistema")
+    void testFromSystemProperties() {
+        System.setProperty(RunnerMode.PROPERTY, "virtual");
+        assertEquals(RunnerMode.VIRTUAL, RunnerMode.fromSystemProperties());
+    }
+
+    @Test
+    @DisplayName("PLATFORM debe correr el galgo en un hilo de plataforma nuevo con el mismo nombre")
+    @Timeout(value = 5, unit = TimeUnit.SECONDS)
+    void testPlatformRunsOnPlatformThread() throws InterruptedException {
+        ArrivalRegistry registry = new ArrivalRegistry();
+        Galgo galgo = new Galgo(new Carril(3, "P"), "P", registry, new RaceControl(), 0);
+
+        Thread runner = RunnerMode.PLATFORM.start(galgo);
+        runner.join();
+
+        assertFalse(runner.isVirtual());
+        assertEquals("P", runner.getName());
+        assertEquals("P", registry.getWinner());
+    }
+
+    @Test
+    @DisplayName("VIRTUAL debe correr el galgo en un hilo virtual con el mismo nombre")
+    @Timeout(value = 5, unit = TimeUnit.SECONDS)
+    void testVirtualRunsOnVirtualThread() throws InterruptedException {
+        ArrivalRegistry registry = new ArrivalRegistry();
+        Galgo galgo = new Galgo(new Carril(3, "V"), "V", registry, new RaceControl(), 0);
+
+        Thread runner = RunnerMode.VIRTUAL.start(galgo);
+        runner.join();
+
+        assertNotSame(galgo, runner);
+        assertTrue(runner.isVirtual());
+        assertEquals("V", runner.getName());
+        assertEquals("V", registry.getWinner());
+    }
+
+    @Test
+    @DisplayName("Galgos virtuales deben respetar pausa y reanudación")
+    @Timeout(value = 10, unit = TimeUnit.SECONDS)
+    void testVirtualRunnersHonorPause() throws InterruptedException {
+        ArrivalRegistry registry = new ArrivalRegistry();
+        RaceControl control = new RaceControl();
+        control.pause();
+
+        Thread[] runners = new Thread[200];
+        for (int i = 0; i < runners.length; i++) {
+            runners[i] = RunnerMode.VIRTUAL.start(
+                    new Galgo(new Carril(2, "D" + i), "D" + i, registry, control, 1));
+        }
+
+        Thread.sleep(100);
+        assertEquals(1, registry.getNextPosition());
+
+        control.resume();
+        for (Thread runner : runners) {
+            runner.join();
+        }
+
+        assertEquals(runners.length + 1, registry.getNextPosition());
+    }
+}
@@ -0,0 +1,75 @@
+package edu.eci.arsw.dogsrace.ui;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import javax.swing.SwingUtilities;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Pruebas unitarias para RenderLoop
+ * Cobertura: acciones de cuadro en el EDT, timer, tasa de cuadros
+ */
+@DisplayName("RenderLoop Unit Tests")
+class RenderLoopTest {
+
+    private RenderLoop loop;
+
+    @BeforeEach
+    void setUp() {
+        loop = new RenderLoop(1000);
+    }
+
+    @AfterEach
+    void tearDown() {
+        loop.stop();
+        System.clearProperty(RenderLoop.PROPERTY);
+    }
+
+    @Test
+    @DisplayName("Cada cuadro corre las acciones registradas en orden")
+    void testFlushRunsFrameListeners() throws Exception {
+        List<String> calls = new CopyOnWriteArrayList<>();
+        loop.onFrame(() -> calls.add("a"));
+        loop.onFrame(() -> calls.add("b"));
+
+        SwingUtilities.invokeAndWait(loop::flush);
+        SwingUtilities.invokeAndWait(loop::flush);
+
+        assertEquals(List.of("a", "b", "a", "b"), calls);
+    }
+
+    @Test
+    @DisplayName("El timer debe correr los cuadros sin llamadas explícitas")
+    void testTimerFlushes() throws Exception {
+        CountDownLatch frames = new CountDownLatch(3);
+        loop.onFrame(frames::countDown);
+        loop.start();
+
+        assertTrue(frames.await(2, TimeUnit.SECONDS));
+    }
+
+    @Test
+    @DisplayName("flush fuera del EDT debe fallar")
+    void testFlushOffEdtFails() {
+        assertThrows(IllegalStateException.class, loop::flush);
+    }
+
+    @Test
+    @DisplayName("Configuración de cuadros por segundo")
+    void testFrameRateConfiguration() {
+        assertEquals(33, new RenderLoop(30).getFrameDelayMillis());
+        assertThrows(IllegalArgumentException.class, () -> new RenderLoop(0));
+
+        assertEquals(RenderLoop.DEFAULT_FPS, RenderLoop.framesPerSecondFromSystemProperties());
+        System.setProperty(RenderLoop.PROPERTY, "60");
+        assertEquals(60, RenderLoop.framesPerSecondFromSystemProperties());
+    }
+}
@@ -0,0 +1,252 @@
+package edu.eci.arsw.dogsrace.ui;
+
+import edu.eci.arsw.dogsrace.domain.Lane;
+import edu.eci.arsw.dogsrace.domain.LaneModel;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import javax.swing.JViewport;
+import javax.swing.SwingUtilities;
+import java.awt.Color;
+import java.awt.Dimension;
+import java.awt.Point;
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Pruebas unitarias para TrackPanel
+ * Cobertura: lectura de posiciones por cuadro, pintado de filas, fondo en caché,
+ * vista virtual con desplazamiento y modo "seguir lideres"
+ */
+@DisplayName("TrackPanel Unit Tests")
+class TrackPanelTest {
+
+    private static final int LANES = 5;
+    private static final int STEPS = 10;
+    private static final int TRACK_PIXELS = 200;
+
+    private LaneModel[] lanes;
+    private TrackPanel panel;
+
+    @BeforeEach
+    void setUp() {
+        lanes = new LaneModel[LANES];
+        for (int i = 0; i < LANES; i++) {
+            lanes[i] = new Lane(STEPS, String.valueOf(i));
+        }
+        panel = new TrackPanel(lanes);
+        panel.setSize(TRACK_PIXELS + TrackPanel.FLAG_WIDTH, LANES * 20);
+    }
+
+    private int refreshOnEdt() throws Exception {
+        AtomicInteger changed = new AtomicInteger();
+        SwingUtilities.invokeAndWait(() -> changed.set(panel.refresh()));
+        return changed.get();
+    }
+
+    private BufferedImage paint() throws Exception {
+        BufferedImage image = new BufferedImage(panel.getWidth(), panel.getHeight(), BufferedImage.TYPE_INT_RGB);
+        SwingUtilities.invokeAndWait(() -> {
+            Graphics2D g = image.createGraphics();
+            panel.paint(g);
+            g.dispose();
+        });
+        return image;
+    }
+
+    private static Color pixel(BufferedImage image, int x, int y) {
+        return new Color(image.getRGB(x, y));
+    }
+
+    @Test
+    @DisplayName("Debe tomar las posiciones de los modelos y contar solo las filas que cambiaron")
+    void testRefreshReadsModels() throws Exception {
+        lanes[1].displayPasos(3);
+        lanes[4].displayPasos(10);
+        lanes[4].finish();
+
+        assertEquals(2, refreshOnEdt());
+        assertEquals(0, refreshOnEdt());
+        assertEquals(3, panel.getShownPosition(1));
+        assertEquals(10, panel.getShownPosition(4));
+        assertEquals(0, panel.getShownPosition(0));
+
+        lanes[4].reStart();
+        assertEquals(1, refreshOnEdt());
+        assertEquals(0, panel.getShownPosition(4));
+    }
+
+    @Test
+    @DisplayName("Debe pintar el avance, la pista libre y la bandera de cada carril")
+    void testPaintsProgress() throws Exception {
+        lanes[0].displayPasos(5);
+        lanes[2].displayPasos(10);
+        lanes[2].finish();
+        refreshOnEdt();
+
+        BufferedImage image = paint();
+        int row0 = 10;
+        int row1 = 30;
+        int row2 = 50;
+        // 20 px per step: lane 0 is lit up to x = 100
+        assertEquals(TrackPanel.ON, pixel(image, 50, row0));
+        assertEquals(TrackPanel.OFF, pixel(image, 150, row0));
+        assertEquals(TrackPanel.OFF, pixel(image, 50, row1));
+        assertEquals(TrackPanel.ON, pixel(image, 190, row2));
+        assertEquals(TrackPanel.START, pixel(image, TRACK_PIXELS + 2, row1 - 8));
+        assertEquals(TrackPanel.STOP, pixel(image, TRACK_PIXELS + 2, row2 - 8));
+    }
+
+    @Test
+    @DisplayName("El fondo de carril se genera una vez por tamaño")
+    void testBackgroundIsCached() {
+        BufferedImage first = panel.background(200, 20);
+
+        assertSame(first, panel.background(200, 20));
+        assertNotSame(first, panel.background(300, 20));
+    }
+
+    @Test
+    @DisplayName("Las filas deben repartir la altura del panel")
+    void testRowGeometry() {
+        assertEquals(0, panel.rowTop(0));
+        assertEquals(panel.getHeight(), panel.rowTop(LANES));
+        assertEquals(0, panel.rowAt(0));
+        assertEquals(2, panel.rowAt(45));
+        assertEquals(LANES - 1, panel.rowAt(10_000));
+    }
+
+    @Test
+    @DisplayName("El tamaño preferido sigue el de la antigua rejilla de botones")
+    void testPreferredSize() {
+        assertEquals(TrackPanel.STEP_WIDTH * STEPS + TrackPanel.FLAG_WIDTH, panel.getPreferredSize().width);
+        assertEquals(TrackPanel.ROW_HEIGHT * LANES, panel.getPreferredSize().height);
+        assertEquals(STEPS, panel.getLongPista());
+        assertEquals(LANES, panel.getLaneCount());
+    }
+
+    @Test
+    @DisplayName("Asociado a un RenderLoop debe refrescarse en cada cuadro")
+    void testBoundToRenderLoop() throws Exception {
+        RenderLoop loop = new RenderLoop(1000);
+        panel.bindTo(loop);
+        lanes[3].displayPasos(7);
+
+        SwingUtilities.invokeAndWait(loop::flush);
+
+        assertEquals(7, panel.getShownPosition(3));
+    }
+
+    @Test
+    @DisplayName("refresh fuera del EDT debe fallar")
+    void testRefreshOffEdtFails() {
+        assertThrows(IllegalStateException.class, panel::refresh);
+    }
+
+    /**
+     * Pista de muchos carriles dentro de un viewport de 10 filas
+     */
+    private JViewport scrolled(int nLanes) throws Exception {
+        lanes = new LaneModel[nLanes];
+        for (int i = 0; i < nLanes; i++) {
+            lanes[i] = new Lane(STEPS, String.valueOf(i));
+        }
+        panel = new TrackPanel(lanes);
+        JViewport viewport = new JViewport();
+        SwingUtilities.invokeAndWait(() -> {
+            viewport.setView(panel);
+            viewport.setSize(TRACK_PIXELS + TrackPanel.FLAG_WIDTH, 10 * TrackPanel.ROW_HEIGHT);
+            panel.setSize(TRACK_PIXELS + TrackPanel.FLAG_WIDTH, nLanes * TrackPanel.ROW_HEIGHT);
+        });
+        return viewport;
+    }
+
+    @Test
+    @DisplayName("Con desplazamiento solo deben leerse las filas visibles")
+    void testRefreshOnlyVisibleRows() throws Exception {
+        JViewport viewport = scrolled(1_000);
+        lanes[3].displayPasos(2);
+        lanes[500].displayPasos(4);
+
+        assertEquals(1, refreshOnEdt());
+        assertEquals(2, panel.getShownPosition(3));
+        assertEquals(0, panel.getShownPosition(500), "an off-screen lane only changes in its model");
+
+        SwingUtilities.invokeAndWait(() -> viewport.setViewPosition(new Point(0, 495 * TrackPanel.ROW_HEIGHT)));
+        assertEquals(1, refreshOnEdt());
+        assertEquals(4, panel.getShownPosition(500));
+    }
+
+    @Test
+    @DisplayName("Una fila que aparece debe pintarse con el estado actual del modelo")
+    void testPaintReadsRowsThatScrollIntoView() throws Exception {
+        JViewport viewport = scrolled(100);
+        lanes[50].displayPasos(STEPS);
+        lanes[50].finish();
+        refreshOnEdt();
+        SwingUtilities.invokeAndWait(() -> viewport.setViewPosition(new Point(0, 45 * TrackPanel.ROW_HEIGHT)));
+
+        BufferedImage image = paint();
+
+        assertEquals(STEPS, panel.getShownPosition(50));
+        assertEquals(TrackPanel.STOP, pixel(image, TRACK_PIXELS + 2, 50 * TrackPanel.ROW_HEIGHT + 2));
+    }
+
+    @Test
+    @DisplayName("El lider es el carril sin terminar mas adelantado")
+    void testLeader() {
+        assertEquals(0, panel.getLeader());
+
+        lanes[2].displayPasos(4);
+        lanes[3].displayPasos(4);
+        assertEquals(2, panel.getLeader());
+
+        lanes[4].displayPasos(STEPS);
+        lanes[4].finish();
+        assertEquals(2, panel.getLeader(), "a finished lane is no longer followed");
+
+        for (LaneModel lane : lanes) {
+            lane.finish();
+        }
+        assertEquals(-1, panel.getLeader());
+    }
+
+    @Test
+    @DisplayName("En modo seguir lideres la vista debe desplazarse al lider")
+    void testFollowLeaders() throws Exception {
+        JViewport viewport = scrolled(1_000);
+        lanes[700].displayPasos(5);
+
+        refreshOnEdt();
+        assertEquals(0, viewport.getViewPosition().y, "without follow mode the view stays put");
+
+        SwingUtilities.invokeAndWait(() -> panel.setFollowLeaders(true));
+        assertEquals(1, refreshOnEdt());
+        int top = viewport.getViewPosition().y;
+        assertTrue(top <= 700 * TrackPanel.ROW_HEIGHT && 701 * TrackPanel.ROW_HEIGHT <= top + viewport.getHeight());
+        assertEquals(5, panel.getShownPosition(700));
+
+        lanes[701].displayPasos(6);
+        refreshOnEdt();
+        assertEquals(top, viewport.getViewPosition().y, "a leader already on screen does not move the view");
+    }
+
+    @Test
+    @DisplayName("Las filas deben estirarse a la vista solo si caben con la altura minima")
+    void testTracksViewportHeight() throws Exception {
+        assertFalse(panel.getScrollableTracksViewportHeight());
+        assertTrue(panel.getScrollableTracksViewportWidth());
+
+        scrolled(20);
+        assertTrue(panel.getScrollableTracksViewportHeight());
+
+        scrolled(1_000);
+        assertFalse(panel.getScrollableTracksViewportHeight());
+        Dimension viewportSize = panel.getPreferredScrollableViewportSize();
+        assertEquals(TrackPanel.VISIBLE_ROWS * TrackPanel.ROW_HEIGHT, viewportSize.height);
+    }
+}
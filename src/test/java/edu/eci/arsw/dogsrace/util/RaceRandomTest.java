@@ -0,0 +1,82 @@
+package edu.eci.arsw.dogsrace.util;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+import java.util.Set;
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Pruebas unitarias para RaceRandom
+ * Cobertura: reproducibilidad por semilla, carreras hijas independientes, semilla desde la propiedad
+ */
+@DisplayName("RaceRandom Unit Tests")
+class RaceRandomTest {
+
+    @AfterEach
+    void clearProperty() {
+        System.clearProperty(RaceRandom.PROPERTY);
+    }
+
+    @Test
+    @DisplayName("La misma semilla debe dar el mismo flujo del motor")
+    void testSameSeedSameEngineStream() {
+        SplittableRandom a = new RaceRandom(123L).engine();
+        SplittableRandom b = new RaceRandom(123L).engine();
+
+        for (int i = 0; i < 100; i++) {
+            assertEquals(a.nextLong(), b.nextLong());
+        }
+    }
+
+    @Test
+    @DisplayName("Carreras hijas distintas deben tener flujos distintos")
+    void testChildStreamsDiffer() {
+        RaceRandom random = new RaceRandom(42L);
+        Set<Long> firstValues = new HashSet<>();
+        for (int race = 0; race < 1000; race++) {
+            firstValues.add(random.child(race).engine().nextLong());
+        }
+        firstValues.add(random.engine().nextLong());
+
+        assertEquals(1001, firstValues.size());
+    }
+
+    @Test
+    @DisplayName("Semillas distintas deben dar flujos distintos")
+    void testDifferentSeedsDiffer() {
+        assertNotEquals(new RaceRandom(1L).engine().nextLong(), new RaceRandom(2L).engine().nextLong());
+    }
+
+    @Test
+    @DisplayName("Las carreras hijas deben ser reproducibles y distintas entre sí")
+    void testChildren() {
+        RaceRandom parent = new RaceRandom(77L);
+
+        assertEquals(parent.child(4).seed(), new RaceRandom(77L).child(4).seed());
+        assertNotEquals(parent.child(4).seed(), parent.child(5).seed());
+        assertNotEquals(parent.seed(), parent.child(0).seed());
+    }
+
+    @Test
+    @DisplayName("Debe leer la semilla de la propiedad del sistema")
+    void testFromSystemProperties() {
+        System.setProperty(RaceRandom.PROPERTY, "2024");
+
+        assertEquals(2024L, RaceRandom.fromSystemProperties().seed());
+    }
+
+    @Test
+    @DisplayName("Sin propiedad debe generar una semilla nueva")
+    void testRandomSeed() {
+        long a = RaceRandom.fromSystemProperties().seed();
+        long b = RaceRandom.random().seed();
+
+        assertNotEquals(a, b);
+        assertTrue(new RaceRandom(a).toString().contains(String.valueOf(a)));
+    }
+}
@@ -166,4 +166,4 @@ class RandomGeneratorTest {
 
         assertTrue(foundDifferent, "100 llamadas deberían producir al menos un valor diferente");
     }
-}
\ No newline at end of file
+}